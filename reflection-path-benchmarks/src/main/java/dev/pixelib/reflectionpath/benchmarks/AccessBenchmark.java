@@ -0,0 +1,108 @@
+package dev.pixelib.reflectionpath.benchmarks;
+
+import dev.pixelib.reflectionpath.ReflectionPath;
+import dev.pixelib.reflectionpath.benchmarks.models.Connection;
+import dev.pixelib.reflectionpath.benchmarks.models.Player;
+import dev.pixelib.reflectionpath.resolution.AccessBackend;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Warm reads of a two step path compared with direct access and a hand-written method handle chain.
+ * Each backend is measured with and without metrics, to show what paths without metrics pay for them.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AccessBenchmark {
+    private static final MethodHandle PORT;
+    private static final MethodHandle ADDRESS;
+
+    static {
+        try {
+            MethodHandles.Lookup player = MethodHandles.privateLookupIn(Player.class, MethodHandles.lookup());
+            MethodHandles.Lookup connection = MethodHandles.privateLookupIn(Connection.class, MethodHandles.lookup());
+            MethodHandle getConnection = player.findGetter(Player.class, "connection", Connection.class);
+            PORT = MethodHandles.filterReturnValue(getConnection,
+                    connection.findGetter(Connection.class, "port", int.class));
+            ADDRESS = MethodHandles.filterReturnValue(getConnection,
+                    connection.findGetter(Connection.class, "address", String.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    @Param({"REFLECTION", "METHOD_HANDLE", "GENERATED"})
+    public AccessBackend backend;
+
+    @Param({"false", "true"})
+    public boolean metrics;
+
+    private final Player player = new Player("Steve", new Connection("localhost", 25565));
+    private ReflectionPath portPath;
+    private ReflectionPath addressPath;
+
+    @Setup
+    public void setup() {
+        portPath = new ReflectionPath("connection.port");
+        portPath.setBackend(backend);
+        addressPath = new ReflectionPath("connection.address");
+        addressPath.setBackend(backend);
+        if (metrics) {
+            portPath.enableMetrics();
+            addressPath.enableMetrics();
+        }
+    }
+
+    @Benchmark
+    public String directObject() {
+        return player.getConnection().getAddress();
+    }
+
+    @Benchmark
+    public int directPrimitive() {
+        return player.getConnection().getPort();
+    }
+
+    @Benchmark
+    public String methodHandleObject() throws Throwable {
+        return (String) ADDRESS.invokeExact(player);
+    }
+
+    @Benchmark
+    public int methodHandlePrimitive() throws Throwable {
+        return (int) PORT.invokeExact(player);
+    }
+
+    @Benchmark
+    public String getAs() {
+        return addressPath.getAs(player, String.class);
+    }
+
+    @Benchmark
+    public Integer getAsBoxed() {
+        return portPath.getAs(player, Integer.class);
+    }
+
+    @Benchmark
+    public int getInt() {
+        return portPath.getInt(player);
+    }
+}
@@ -0,0 +1,106 @@
+package dev.pixelib.reflectionpath.benchmarks;
+
+import dev.pixelib.reflectionpath.ReflectionPath;
+import dev.pixelib.reflectionpath.benchmarks.models.Connection;
+import dev.pixelib.reflectionpath.benchmarks.models.Player;
+import dev.pixelib.reflectionpath.benchmarks.models.VipPlayer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToIntFunction;
+
+/**
+ * Bulk extraction of one batch of players, read in list order with the resolved paths of recent classes remembered,
+ * compared with grouping the players by class first and a loop calling getInt.
+ *
+ * <p>The batch has the size up to which extraction stays on the calling thread, so that all variants are
+ * sequential. The mixed batch interleaves two classes at random, the sorted batch holds all players before all VIP
+ * players.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BulkBenchmark {
+    private static final int SIZE = 4096;
+
+    @Param({"MIXED", "SORTED"})
+    public String order;
+
+    private final ReflectionPath path = new ReflectionPath("connection.port");
+    private final int[] results = new int[SIZE];
+    private List<Player> players;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        Connection connection = new Connection("localhost", 25565);
+        players = new ArrayList<>(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            boolean vip = order.equals("MIXED") ? random.nextBoolean() : i >= SIZE / 2;
+            players.add(vip ? new VipPlayer("Alex", connection, "gold") : new Player("Steve", connection));
+        }
+    }
+
+    @Benchmark
+    public int[] extractInts() {
+        path.extractInts(players, results);
+        return results;
+    }
+
+    @Benchmark
+    public int[] groupedByClass() {
+        Map<Class<?>, Group> groups = new IdentityHashMap<>();
+        for (int i = 0; i < players.size(); i++) {
+            groups.computeIfAbsent(players.get(i).getClass(), type -> new Group()).add(i);
+        }
+        groups.forEach((type, group) -> {
+            @SuppressWarnings("unchecked")
+            ToIntFunction<Player> function = path.asToIntFunction((Class<Player>) type);
+            for (int i = 0; i < group.size; i++) {
+                int index = group.indexes[i];
+                results[index] = function.applyAsInt(players.get(index));
+            }
+        });
+        return results;
+    }
+
+    @Benchmark
+    public int[] getIntLoop() {
+        for (int i = 0; i < players.size(); i++) {
+            results[i] = path.getInt(players.get(i));
+        }
+        return results;
+    }
+
+    private static final class Group {
+        private int[] indexes = new int[64];
+        private int size;
+
+        private void add(int index) {
+            if (size == indexes.length) {
+                indexes = Arrays.copyOf(indexes, size * 2);
+            }
+            indexes[size++] = index;
+        }
+    }
+}
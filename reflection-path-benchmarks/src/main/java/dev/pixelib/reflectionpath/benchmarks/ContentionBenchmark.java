@@ -0,0 +1,69 @@
+package dev.pixelib.reflectionpath.benchmarks;
+
+import dev.pixelib.reflectionpath.ReflectionPath;
+import dev.pixelib.reflectionpath.benchmarks.models.Connection;
+import dev.pixelib.reflectionpath.benchmarks.models.Player;
+import dev.pixelib.reflectionpath.benchmarks.models.VipPlayer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads through a single ReflectionPath shared by eight threads, compared with one instance per thread.
+ *
+ * <p>The mixed benchmarks alternate between two receiver classes, so the shared instance keeps replacing
+ * its most recently resolved class and falls back to the per-class cache.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+public class ContentionBenchmark {
+    @State(Scope.Benchmark)
+    public static class Shared {
+        final ReflectionPath path = new ReflectionPath("connection.port");
+    }
+
+    @State(Scope.Thread)
+    public static class PerThread {
+        final ReflectionPath path = new ReflectionPath("connection.port");
+        final Player player = new Player("Steve", new Connection("localhost", 25565));
+        final Player vip = new VipPlayer("Alex", new Connection("localhost", 25566), "gold");
+        int counter;
+
+        Player next() {
+            return (counter++ & 1) == 0 ? player : vip;
+        }
+    }
+
+    @Benchmark
+    public int sharedInstance(Shared shared, PerThread local) {
+        return shared.path.getInt(local.player);
+    }
+
+    @Benchmark
+    public int perThreadInstance(PerThread local) {
+        return local.path.getInt(local.player);
+    }
+
+    @Benchmark
+    public int sharedInstanceMixedClasses(Shared shared, PerThread local) {
+        return shared.path.getInt(local.next());
+    }
+
+    @Benchmark
+    public int perThreadInstanceMixedClasses(PerThread local) {
+        return local.path.getInt(local.next());
+    }
+}
@@ -0,0 +1,96 @@
+package dev.pixelib.reflectionpath.benchmarks;
+
+import dev.pixelib.reflectionpath.ReflectionPath;
+import dev.pixelib.reflectionpath.benchmarks.models.Connection;
+import dev.pixelib.reflectionpath.benchmarks.models.Player;
+import dev.pixelib.reflectionpath.resolution.AccessBackend;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandleProxies;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToIntFunction;
+
+/**
+ * Functions returned by {@link ReflectionPath#asToIntFunction(Class)} compared with functions built straight from
+ * a method handle chain, through {@link MethodHandleProxies} and through a lambda invoking the handle.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FunctionBenchmark {
+    private static final MethodHandle PORT;
+
+    static {
+        try {
+            MethodHandles.Lookup player = MethodHandles.privateLookupIn(Player.class, MethodHandles.lookup());
+            MethodHandles.Lookup connection = MethodHandles.privateLookupIn(Connection.class, MethodHandles.lookup());
+            PORT = MethodHandles.filterReturnValue(
+                    player.findGetter(Player.class, "connection", Connection.class),
+                    connection.findGetter(Connection.class, "port", int.class))
+                    .asType(MethodType.methodType(int.class, Object.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    @Param({"REFLECTION", "METHOD_HANDLE", "GENERATED"})
+    public AccessBackend backend;
+
+    private final Player player = new Player("Steve", new Connection("localhost", 25565));
+    private ToIntFunction<Player> pathFunction;
+    private ToIntFunction<Player> proxyFunction;
+    private ToIntFunction<Player> handleFunction;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        ReflectionPath path = new ReflectionPath("connection.port");
+        path.setBackend(backend);
+        pathFunction = path.asToIntFunction(Player.class);
+        proxyFunction = MethodHandleProxies.asInterfaceInstance(ToIntFunction.class, PORT);
+        MethodHandle handle = PORT;
+        handleFunction = target -> {
+            try {
+                return (int) handle.invokeExact((Object) target);
+            } catch (Throwable t) {
+                throw new IllegalStateException(t);
+            }
+        };
+    }
+
+    @Benchmark
+    public int direct() {
+        return player.getConnection().getPort();
+    }
+
+    @Benchmark
+    public int pathFunction() {
+        return pathFunction.applyAsInt(player);
+    }
+
+    @Benchmark
+    public int proxyFunction() {
+        return proxyFunction.applyAsInt(player);
+    }
+
+    @Benchmark
+    public int handleFunction() {
+        return handleFunction.applyAsInt(player);
+    }
+}
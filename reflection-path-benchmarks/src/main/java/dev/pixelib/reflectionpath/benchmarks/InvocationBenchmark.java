@@ -0,0 +1,71 @@
+package dev.pixelib.reflectionpath.benchmarks;
+
+import dev.pixelib.reflectionpath.ReflectionPath;
+import dev.pixelib.reflectionpath.benchmarks.models.Connection;
+import dev.pixelib.reflectionpath.benchmarks.models.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Method invocation through {@link ReflectionPath#invokeOn(Object, Object...)}, including the cost of the
+ * argument array and boxing, and through {@link ReflectionPath#invoke2(Object, Object, Object)}, compared with
+ * {@link Method#invoke(Object, Object...)} and a direct call.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InvocationBenchmark {
+    private final Player player = new Player("Steve", new Connection("localhost", 25565));
+    private int first = 20;
+    private int second = 22;
+
+    private ReflectionPath add;
+    private ReflectionPath count;
+    private Method addMethod;
+
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        add = new ReflectionPath("add");
+        count = new ReflectionPath("count");
+        addMethod = Player.class.getMethod("add", int.class, int.class);
+    }
+
+    @Benchmark
+    public int direct() {
+        return player.add(first, second);
+    }
+
+    @Benchmark
+    public Object reflection() throws ReflectiveOperationException {
+        return addMethod.invoke(player, first, second);
+    }
+
+    @Benchmark
+    public Object invokeOn() {
+        return add.invokeOn(player, first, second);
+    }
+
+    @Benchmark
+    public Object invoke2() {
+        return add.invoke2(player, first, second);
+    }
+
+    @Benchmark
+    public Object invokeOnVarargs() {
+        return count.invokeOn(player, "values", new Object[]{first, second});
+    }
+}
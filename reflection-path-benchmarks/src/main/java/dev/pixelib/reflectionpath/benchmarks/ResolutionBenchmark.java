@@ -0,0 +1,54 @@
+package dev.pixelib.reflectionpath.benchmarks;
+
+import dev.pixelib.reflectionpath.ReflectionPath;
+import dev.pixelib.reflectionpath.benchmarks.models.Deep;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cold resolution of name-based and type-based paths against an eight level hierarchy.
+ *
+ * <p>Every invocation constructs a new ReflectionPath, so the path is parsed and resolved again. The
+ * per-class member index is shared between instances and is only built during warmup, which matches an
+ * application that creates many paths over the same classes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResolutionBenchmark {
+    private final Deep.Level7 target = Deep.create();
+
+    @Benchmark
+    public Object nameBased() {
+        return new ReflectionPath("connection.address").getAs(target, String.class);
+    }
+
+    @Benchmark
+    public Object typeBased() {
+        return new ReflectionPath("[Connection].[String]").getAs(target, String.class);
+    }
+
+    @Benchmark
+    public Object mixed() {
+        return new ReflectionPath("[Connection].address").getAs(target, String.class);
+    }
+
+    @Benchmark
+    public Object nameBasedWithoutParsing() {
+        ReflectionPath path = ReflectionPath.compile("connection.address");
+        path.clear();
+        return path.getAs(target, String.class);
+    }
+}
@@ -0,0 +1,67 @@
+package dev.pixelib.reflectionpath.benchmarks;
+
+import dev.pixelib.reflectionpath.ReflectionPath;
+import dev.pixelib.reflectionpath.benchmarks.models.Connection;
+import dev.pixelib.reflectionpath.benchmarks.models.Player;
+import dev.pixelib.reflectionpath.resolution.PathResolutionStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cold and warm type-based resolution for each {@link PathResolutionStrategy}.
+ *
+ * <p>{@code [long]} matches a single member of {@link Player}, {@code [int]} matches several, so
+ * {@link PathResolutionStrategy#EXACT_MATCH} measures the cost of a failed resolution on the latter.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StrategyBenchmark {
+    @Param({"FIRST_MATCH", "LAST_MATCH", "EXACT_MATCH"})
+    public PathResolutionStrategy strategy;
+
+    private final Player player = new Player("Steve", new Connection("localhost", 25565));
+    private ReflectionPath warmUnique;
+    private ReflectionPath warmRepeated;
+
+    @Setup
+    public void setup() {
+        warmUnique = new ReflectionPath("[long]", strategy);
+        warmRepeated = new ReflectionPath("[int]", strategy);
+    }
+
+    @Benchmark
+    public long coldUniqueType() {
+        return new ReflectionPath("[long]", strategy).getLong(player);
+    }
+
+    @Benchmark
+    public Optional<Integer> coldRepeatedType() {
+        return new ReflectionPath("[int]", strategy).tryGet(player, Integer.class);
+    }
+
+    @Benchmark
+    public long warmUniqueType() {
+        return warmUnique.getLong(player);
+    }
+
+    @Benchmark
+    public Optional<Integer> warmRepeatedType() {
+        return warmRepeated.tryGet(player, Integer.class);
+    }
+}
@@ -0,0 +1,19 @@
+package dev.pixelib.reflectionpath.benchmarks.models;
+
+public class Connection {
+    private final String address;
+    private final int port;
+
+    public Connection(String address, int port) {
+        this.address = address;
+        this.port = port;
+    }
+
+    public String getAddress() {
+        return address;
+    }
+
+    public int getPort() {
+        return port;
+    }
+}
@@ -0,0 +1,97 @@
+package dev.pixelib.reflectionpath.benchmarks.models;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An eight level class hierarchy with the interesting members declared on the topmost class, so that
+ * resolution has to walk every level before it finds them.
+ */
+public final class Deep {
+    private Deep() {
+    }
+
+    public static Level7 create() {
+        return new Level7(new Connection("localhost", 25565));
+    }
+
+    public static class Level0 {
+        private final Connection connection;
+        private long created;
+
+        Level0(Connection connection) {
+            this.connection = connection;
+        }
+    }
+
+    public static class Level1 extends Level0 {
+        private int first;
+        private List<String> names;
+
+        Level1(Connection connection) {
+            super(connection);
+        }
+    }
+
+    public static class Level2 extends Level1 {
+        private double second;
+        private Map<String, Integer> counts;
+
+        Level2(Connection connection) {
+            super(connection);
+        }
+    }
+
+    public static class Level3 extends Level2 {
+        private boolean third;
+        private Object payload;
+
+        Level3(Connection connection) {
+            super(connection);
+        }
+
+        public int getThird() {
+            return third ? 1 : 0;
+        }
+    }
+
+    public static class Level4 extends Level3 {
+        private int fourth;
+        private long[] history;
+
+        Level4(Connection connection) {
+            super(connection);
+        }
+    }
+
+    public static class Level5 extends Level4 {
+        private float fifth;
+        private StringBuilder buffer;
+
+        Level5(Connection connection) {
+            super(connection);
+        }
+
+        public double getFifth() {
+            return fifth;
+        }
+    }
+
+    public static class Level6 extends Level5 {
+        private short sixth;
+        private Thread owner;
+
+        Level6(Connection connection) {
+            super(connection);
+        }
+    }
+
+    public static class Level7 extends Level6 {
+        private char seventh;
+        private Runnable callback;
+
+        Level7(Connection connection) {
+            super(connection);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package dev.pixelib.reflectionpath.benchmarks.models;
+
+public class Player {
+    private final String name;
+    private final Connection connection;
+    private int ping;
+    private int level;
+    private int experience;
+    private long joined = System.currentTimeMillis();
+
+    public Player(String name, Connection connection) {
+        this.name = name;
+        this.connection = connection;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Connection getConnection() {
+        return connection;
+    }
+
+    public int getPing() {
+        return ping;
+    }
+
+    public int add(int first, int second) {
+        return first + second;
+    }
+
+    public int count(String label, Object... values) {
+        return label.length() + values.length;
+    }
+}
@@ -0,0 +1,14 @@
+package dev.pixelib.reflectionpath.benchmarks.models;
+
+public class VipPlayer extends Player {
+    private final String tier;
+
+    public VipPlayer(String name, Connection connection, String tier) {
+        super(name, connection);
+        this.tier = tier;
+    }
+
+    public String getTier() {
+        return tier;
+    }
+}
@@ -0,0 +1,237 @@
+package dev.pixelib.reflectionpath.processor;
+
+import dev.pixelib.reflectionpath.annotations.PathAccessor;
+import dev.pixelib.reflectionpath.resolution.CompiledPath;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Types;
+import java.util.List;
+
+/**
+ * Writes the source of the class generated for one accessor interface.
+ */
+final class AccessorWriter {
+    private static final String REFLECTION_PATH = "dev.pixelib.reflectionpath.ReflectionPath";
+    private static final String STRATEGY = "dev.pixelib.reflectionpath.resolution.PathResolutionStrategy";
+
+    private final Types types;
+    private final PackageElement packageElement;
+    private final TypeElement accessorInterface;
+    private final String simpleName;
+    private final StringBuilder fields = new StringBuilder();
+    private final StringBuilder methods = new StringBuilder();
+    private int fallbacks;
+
+    AccessorWriter(Types types, PackageElement packageElement, TypeElement accessorInterface, String simpleName) {
+        this.types = types;
+        this.packageElement = packageElement;
+        this.accessorInterface = accessorInterface;
+        this.simpleName = simpleName;
+    }
+
+    String qualifiedName() {
+        return packageElement.isUnnamed() ? simpleName : packageElement.getQualifiedName() + "." + simpleName;
+    }
+
+    /**
+     * Adds the implementation of an accessor method.
+     *
+     * @return false if the value of the path cannot be converted to the return type of the method
+     */
+    boolean addMethod(ExecutableElement method, PathAccessor accessor, CompiledPath path,
+                      List<CompileTimeResolver.Step> steps) {
+        TypeMirror returnType = method.getReturnType();
+        TypeMirror valueType = steps.get(steps.size() - 1).type();
+        if (!types.isAssignable(valueType, returnType)) {
+            return false;
+        }
+
+        String parameter = method.getParameters().get(0).getSimpleName().toString();
+        boolean nullSafe = !path.nullSafeSegments().isEmpty();
+        boolean direct = steps.stream().allMatch(this::isAccessible)
+                && !(nullSafe && returnType.getKind().isPrimitive());
+
+        methods.append('\n');
+        if (!direct && isParameterized(returnType)) {
+            methods.append("    @SuppressWarnings(\"unchecked\")\n");
+        }
+        methods.append("    @Override\n")
+                .append("    public ").append(returnType).append(' ').append(method.getSimpleName())
+                .append('(').append(method.getParameters().get(0).asType()).append(' ').append(parameter)
+                .append(") {\n");
+        if (direct) {
+            writeDirect(path, steps, parameter);
+        } else {
+            writeFallback(accessor, returnType, valueType, parameter);
+        }
+        methods.append("    }\n");
+        return true;
+    }
+
+    String write() {
+        StringBuilder source = new StringBuilder();
+        if (!packageElement.isUnnamed()) {
+            source.append("package ").append(packageElement.getQualifiedName()).append(";\n\n");
+        }
+        source.append("@javax.annotation.processing.Generated(\"")
+                .append(PathAccessorProcessor.class.getName()).append("\")\n");
+        if (accessorInterface.getModifiers().contains(Modifier.PUBLIC)) {
+            source.append("public ");
+        }
+        source.append("final class ").append(simpleName)
+                .append(" implements ").append(accessorInterface.getQualifiedName()).append(" {\n")
+                .append(fields);
+        if (fallbacks > 0) {
+            source.append('\n')
+                    .append("    private static ").append(REFLECTION_PATH).append(" path(String path, ")
+                    .append(STRATEGY).append(" strategy, boolean ignoreToString) {\n")
+                    .append("        ").append(REFLECTION_PATH).append(" reflectionPath = new ")
+                    .append(REFLECTION_PATH).append("(path, strategy);\n")
+                    .append("        reflectionPath.setIgnoreToString(ignoreToString);\n")
+                    .append("        return reflectionPath;\n")
+                    .append("    }\n");
+        }
+        return source.append(methods).append("}\n").toString();
+    }
+
+    private void writeDirect(CompiledPath path, List<CompileTimeResolver.Step> steps, String parameter) {
+        String expression = parameter;
+        for (int i = 0; i < steps.size(); i++) {
+            if (path.isNullSafe(i)) {
+                String variable = "value" + i;
+                methods.append("        var ").append(variable).append(" = ").append(expression).append(";\n")
+                        .append("        if (").append(variable).append(" == null) {\n")
+                        .append("            return null;\n")
+                        .append("        }\n");
+                expression = variable;
+            }
+
+            CompileTimeResolver.Step step = steps.get(i);
+            String receiver = step.isStatic()
+                    ? ((TypeElement) step.member().getEnclosingElement()).getQualifiedName().toString()
+                    : expression;
+            expression = receiver + "." + step.member().getSimpleName() + (step.isField() ? "" : "()");
+        }
+        methods.append("        return ").append(expression).append(";\n");
+    }
+
+    private void writeFallback(PathAccessor accessor, TypeMirror returnType, TypeMirror valueType, String parameter) {
+        String field = "PATH_" + fallbacks++;
+        fields.append("    private static final ").append(REFLECTION_PATH).append(' ').append(field)
+                .append(" = path(").append(literal(accessor.value())).append(", ")
+                .append(STRATEGY).append('.').append(accessor.strategy().name()).append(", ")
+                .append(accessor.ignoreToString()).append(");\n");
+
+        methods.append("        return ");
+        if (valueType.getKind().isPrimitive()) {
+            String getter = switch (returnType.getKind()) {
+                case INT -> "getInt";
+                case LONG -> "getLong";
+                case DOUBLE -> "getDouble";
+                case BOOLEAN -> "getBoolean";
+                default -> null;
+            };
+            if (getter != null) {
+                methods.append(field).append('.').append(getter).append('(').append(parameter).append(");\n");
+                return;
+            }
+        }
+
+        // Primitive values are read boxed as their own type and converted by the return statement
+        TypeMirror castType;
+        if (valueType.getKind().isPrimitive()) {
+            castType = types.boxedClass((PrimitiveType) valueType).asType();
+        } else if (returnType.getKind().isPrimitive()) {
+            castType = types.boxedClass((PrimitiveType) returnType).asType();
+        } else {
+            castType = types.erasure(returnType);
+        }
+        if (isParameterized(returnType)) {
+            methods.append('(').append(returnType).append(") ");
+        }
+        methods.append(field).append(".getAs(").append(parameter).append(", ")
+                .append(castType).append(".class);\n");
+    }
+
+    private boolean isParameterized(TypeMirror type) {
+        return !type.getKind().isPrimitive() && !types.isSameType(type, types.erasure(type));
+    }
+
+    /**
+     * Returns whether a member can be read directly from the package of the generated class.
+     */
+    private boolean isAccessible(CompileTimeResolver.Step step) {
+        Element member = step.member();
+        Element declaringType = member.getEnclosingElement();
+        if (member.getModifiers().contains(Modifier.PRIVATE)
+                || !isAccessible(declaringType.asType())
+                || !isAccessible(step.receiverType())) {
+            return false;
+        }
+        if (member.getModifiers().contains(Modifier.PUBLIC)) {
+            return true;
+        }
+        return isInPackage(declaringType)
+                && (step.receiverType().getKind() != TypeKind.DECLARED
+                || isInPackage(((DeclaredType) step.receiverType()).asElement()));
+    }
+
+    private boolean isAccessible(TypeMirror type) {
+        if (type.getKind() == TypeKind.ARRAY) {
+            return isAccessible(((ArrayType) type).getComponentType());
+        }
+        if (type.getKind() != TypeKind.DECLARED) {
+            return type.getKind().isPrimitive();
+        }
+
+        Element element = ((DeclaredType) type).asElement();
+        while (element instanceof TypeElement) {
+            if (element.getModifiers().contains(Modifier.PRIVATE)
+                    || !element.getModifiers().contains(Modifier.PUBLIC) && !isInPackage(element)) {
+                return false;
+            }
+            element = element.getEnclosingElement();
+        }
+        // Local and anonymous classes are enclosed by a method instead of a package
+        return element instanceof PackageElement;
+    }
+
+    private boolean isInPackage(Element element) {
+        Element current = element;
+        while (!(current instanceof PackageElement)) {
+            current = current.getEnclosingElement();
+        }
+        return current.equals(packageElement);
+    }
+
+    private static String literal(String value) {
+        StringBuilder literal = new StringBuilder("\"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> literal.append("\\\"");
+                case '\\' -> literal.append("\\\\");
+                case '\n' -> literal.append("\\n");
+                case '\r' -> literal.append("\\r");
+                case '\t' -> literal.append("\\t");
+                default -> {
+                    if (c < 0x20 || c > 0x7e) {
+                        literal.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        literal.append(c);
+                    }
+                }
+            }
+        }
+        return literal.append('"').toString();
+    }
+}
@@ -0,0 +1,212 @@
+package dev.pixelib.reflectionpath.processor;
+
+import dev.pixelib.reflectionpath.resolution.CompiledPath;
+import dev.pixelib.reflectionpath.resolution.NameSegment;
+import dev.pixelib.reflectionpath.resolution.PathResolutionStrategy;
+import dev.pixelib.reflectionpath.resolution.PathSegment;
+import dev.pixelib.reflectionpath.resolution.TypePathComponent;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Resolves paths against the types of the compilation, following the rules ReflectionPath applies at runtime:
+ * names match a field before a method without parameters, type segments match fields before zero-argument methods, and members
+ * are searched from the class itself up to its topmost superclass. Member types are erased, as they are by
+ * reflection.
+ */
+final class CompileTimeResolver {
+    private final Elements elements;
+    private final Types types;
+
+    CompileTimeResolver(Elements elements, Types types) {
+        this.elements = elements;
+        this.types = types;
+    }
+
+    /**
+     * Resolves a path against a root type.
+     *
+     * @param rootType The type the path is applied to
+     * @param path The compiled path
+     * @param strategy The strategy to use when multiple members match a type segment
+     * @param ignoreToString Whether toString methods are ignored when resolving methods by type
+     * @return The members to traverse, in order
+     * @throws ResolutionException if a segment cannot be resolved
+     */
+    List<Step> resolve(TypeMirror rootType, CompiledPath path, PathResolutionStrategy strategy,
+                       boolean ignoreToString) throws ResolutionException {
+        List<Step> steps = new ArrayList<>(path.segments().size());
+        TypeMirror currentType = types.erasure(rootType);
+
+        for (PathSegment segment : path.segments()) {
+            Element member;
+            if (segment instanceof NameSegment name) {
+                member = findByName(currentType, name.name());
+            } else if (segment instanceof TypePathComponent component) {
+                member = findByType(currentType, component, strategy, ignoreToString);
+            } else {
+                throw new ResolutionException("Segment " + segment + " is not supported by generated accessors");
+            }
+
+            Step step = new Step(currentType, member, types.erasure(typeOf(member)));
+            steps.add(step);
+            currentType = step.type();
+        }
+        return steps;
+    }
+
+    private Element findByName(TypeMirror type, String name) throws ResolutionException {
+        for (TypeElement current : hierarchy(type)) {
+            for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+                if (field.getSimpleName().contentEquals(name)) {
+                    return field;
+                }
+            }
+        }
+        boolean overloaded = false;
+        for (TypeElement current : hierarchy(type)) {
+            for (ExecutableElement method : ElementFilter.methodsIn(current.getEnclosedElements())) {
+                if (method.getSimpleName().contentEquals(name)) {
+                    if (method.getParameters().isEmpty()) {
+                        return method;
+                    }
+                    overloaded = true;
+                }
+            }
+        }
+        if (overloaded) {
+            throw new ResolutionException("Method " + name + " requires arguments");
+        }
+        throw new ResolutionException("No field or method found for '" + name + "' in " + simpleName(type));
+    }
+
+    private Element findByType(TypeMirror type, TypePathComponent component, PathResolutionStrategy strategy,
+                               boolean ignoreToString) throws ResolutionException {
+        List<Element> matches = new ArrayList<>();
+        for (TypeElement current : hierarchy(type)) {
+            for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+                if (matches(field.asType(), component)) {
+                    matches.add(field);
+                }
+            }
+        }
+        for (TypeElement current : hierarchy(type)) {
+            for (ExecutableElement method : ElementFilter.methodsIn(current.getEnclosedElements())) {
+                if (method.getParameters().isEmpty()
+                        && !(ignoreToString && method.getSimpleName().contentEquals("toString"))
+                        && matches(method.getReturnType(), component)) {
+                    matches.add(method);
+                }
+            }
+        }
+
+        Element member = matches.isEmpty() ? null : switch (strategy) {
+            case FIRST_MATCH -> matches.get(0);
+            case LAST_MATCH -> matches.get(matches.size() - 1);
+            case EXACT_MATCH -> matches.size() == 1 ? matches.get(0) : null;
+        };
+        if (member == null) {
+            throw new ResolutionException(String.format("No member found of type '%s' in %s",
+                    component.typeName(), simpleName(type)));
+        }
+        return member;
+    }
+
+    private boolean matches(TypeMirror memberType, TypePathComponent component) {
+        TypeMirror erased = types.erasure(memberType);
+        boolean isArray = erased.getKind() == TypeKind.ARRAY;
+        if (isArray != component.isArray()) {
+            return false;
+        }
+        return names(isArray ? ((ArrayType) erased).getComponentType() : erased).contains(component.typeName());
+    }
+
+    /**
+     * Returns the simple, binary and canonical names of a type, as reported by {@link Class#getSimpleName()},
+     * {@link Class#getName()} and {@link Class#getCanonicalName()}.
+     */
+    private Set<String> names(TypeMirror type) {
+        Set<String> names = new LinkedHashSet<>(4);
+        if (type.getKind().isPrimitive() || type.getKind() == TypeKind.VOID) {
+            names.add(type.toString());
+        } else if (type.getKind() == TypeKind.ARRAY) {
+            for (String name : names(((ArrayType) type).getComponentType())) {
+                names.add(name + "[]");
+            }
+        } else if (type.getKind() == TypeKind.DECLARED) {
+            TypeElement element = (TypeElement) ((DeclaredType) type).asElement();
+            names.add(element.getSimpleName().toString());
+            names.add(elements.getBinaryName(element).toString());
+            if (!element.getQualifiedName().isEmpty()) {
+                names.add(element.getQualifiedName().toString());
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Returns a class and its superclasses, or nothing for types without members such as primitives and arrays.
+     */
+    private List<TypeElement> hierarchy(TypeMirror type) {
+        List<TypeElement> hierarchy = new ArrayList<>();
+        TypeMirror current = type;
+        while (current.getKind() == TypeKind.DECLARED) {
+            TypeElement element = (TypeElement) ((DeclaredType) current).asElement();
+            hierarchy.add(element);
+            current = element.getKind() == ElementKind.INTERFACE ? types.getNoType(TypeKind.NONE) : element.getSuperclass();
+        }
+        return hierarchy;
+    }
+
+    private static TypeMirror typeOf(Element member) {
+        return member instanceof ExecutableElement method ? method.getReturnType() : member.asType();
+    }
+
+    private static String simpleName(TypeMirror type) {
+        return type.getKind() == TypeKind.DECLARED
+                ? ((DeclaredType) type).asElement().getSimpleName().toString()
+                : type.toString();
+    }
+
+    /**
+     * A resolved member of a path.
+     *
+     * @param receiverType The erased type the member is read from
+     * @param member The field or method
+     * @param type The erased type of the member
+     */
+    record Step(TypeMirror receiverType, Element member, TypeMirror type) {
+        boolean isField() {
+            return member.getKind().isField();
+        }
+
+        boolean isStatic() {
+            return member.getModifiers().contains(Modifier.STATIC);
+        }
+    }
+
+    /**
+     * Thrown when a path cannot be resolved at compile time.
+     */
+    static final class ResolutionException extends Exception {
+        ResolutionException(String message) {
+            super(message);
+        }
+    }
+}
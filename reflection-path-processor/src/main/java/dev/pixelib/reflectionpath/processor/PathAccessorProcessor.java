@@ -0,0 +1,147 @@
+package dev.pixelib.reflectionpath.processor;
+
+import dev.pixelib.reflectionpath.annotations.PathAccessor;
+import dev.pixelib.reflectionpath.annotations.PathAccessors;
+import dev.pixelib.reflectionpath.resolution.CompiledPath;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Annotation processor generating implementations of interfaces with {@link PathAccessor} methods.
+ *
+ * <p>Each path is resolved against the declared parameter type of its method with the rules ReflectionPath
+ * applies at runtime. Paths whose members and types are all accessible from the package of the interface
+ * are compiled into plain field reads and method calls; all other paths are read through a ReflectionPath
+ * held in a static field of the generated class. Paths that cannot be resolved are reported as errors.
+ *
+ * <p>Generated accessors resolve against the declared parameter type, so a subclass passed at runtime that
+ * declares additional matching members still reads the member found at compile time.
+ */
+@SupportedAnnotationTypes("dev.pixelib.reflectionpath.annotations.PathAccessor")
+public final class PathAccessorProcessor extends AbstractProcessor {
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Set<TypeElement> interfaces = new LinkedHashSet<>();
+        for (Element element : roundEnv.getElementsAnnotatedWith(PathAccessor.class)) {
+            Element owner = element.getEnclosingElement();
+            if (owner.getKind() != ElementKind.INTERFACE) {
+                error(element, "@PathAccessor methods must be declared in an interface");
+                continue;
+            }
+            interfaces.add((TypeElement) owner);
+        }
+
+        for (TypeElement accessorInterface : interfaces) {
+            generate(accessorInterface);
+        }
+        return true;
+    }
+
+    private void generate(TypeElement accessorInterface) {
+        if (!accessorInterface.getTypeParameters().isEmpty()) {
+            error(accessorInterface, "Accessor interfaces cannot declare type parameters");
+            return;
+        }
+        if (accessorInterface.getModifiers().contains(Modifier.PRIVATE)) {
+            error(accessorInterface, "Accessor interfaces cannot be private");
+            return;
+        }
+
+        PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(accessorInterface);
+        CompileTimeResolver resolver = new CompileTimeResolver(processingEnv.getElementUtils(),
+                processingEnv.getTypeUtils());
+        AccessorWriter writer = new AccessorWriter(processingEnv.getTypeUtils(), packageElement,
+                accessorInterface, implementationName(accessorInterface, packageElement));
+
+        boolean valid = true;
+        List<ExecutableElement> methods = new ArrayList<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(
+                processingEnv.getElementUtils().getAllMembers(accessorInterface))) {
+            if (!method.getModifiers().contains(Modifier.ABSTRACT)) {
+                continue;
+            }
+            if (method.getAnnotation(PathAccessor.class) == null) {
+                error(method, "Abstract methods of accessor interfaces must be annotated with @PathAccessor");
+                valid = false;
+            } else {
+                methods.add(method);
+            }
+        }
+
+        for (ExecutableElement method : methods) {
+            PathAccessor accessor = method.getAnnotation(PathAccessor.class);
+            if (method.getParameters().size() != 1 || method.getReturnType().getKind() == TypeKind.VOID
+                    || !method.getTypeParameters().isEmpty()) {
+                error(method, "@PathAccessor methods must take the root object as their only parameter, "
+                        + "return a value and declare no type parameters");
+                valid = false;
+                continue;
+            }
+
+            try {
+                CompiledPath path = CompiledPath.parse(accessor.value());
+                List<CompileTimeResolver.Step> steps = resolver.resolve(method.getParameters().get(0).asType(),
+                        path, accessor.strategy(), accessor.ignoreToString());
+                if (!writer.addMethod(method, accessor, path, steps)) {
+                    error(method, "Path '" + accessor.value() + "' does not resolve to a value assignable to "
+                            + method.getReturnType());
+                    valid = false;
+                }
+            } catch (IllegalArgumentException | CompileTimeResolver.ResolutionException e) {
+                error(method, "Invalid path '" + accessor.value() + "': " + e.getMessage());
+                valid = false;
+            }
+        }
+
+        if (!valid) {
+            return;
+        }
+        try {
+            JavaFileObject file = processingEnv.getFiler()
+                    .createSourceFile(writer.qualifiedName(), accessorInterface);
+            try (Writer out = file.openWriter()) {
+                out.write(writer.write());
+            }
+        } catch (IOException e) {
+            error(accessorInterface, "Failed to write generated accessor: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the simple name of the generated class, matching {@link PathAccessors#implementationName(Class)}.
+     */
+    private static String implementationName(TypeElement accessorInterface, PackageElement packageElement) {
+        String qualifiedName = accessorInterface.getQualifiedName().toString();
+        String packageName = packageElement.getQualifiedName().toString();
+        String nestedName = packageName.isEmpty() ? qualifiedName : qualifiedName.substring(packageName.length() + 1);
+        return PathAccessors.PREFIX + nestedName.replace('.', '_');
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}
@@ -0,0 +1,227 @@
+package dev.pixelib.reflectionpath.processor;
+
+import dev.pixelib.reflectionpath.annotations.PathAccessors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PathAccessorProcessorTests {
+    private static final String PLAYER = """
+            package fixtures;
+
+            public class Player {
+                public String name = "Steve";
+                private final Connection connection;
+                private int ping = 42;
+
+                public Player(Connection connection) {
+                    this.connection = connection;
+                }
+
+                public Connection getConnection() {
+                    return connection;
+                }
+            }
+            """;
+
+    private static final String CONNECTION = """
+            package fixtures;
+
+            public class Connection {
+                public int port = 25565;
+                private final String address;
+
+                public Connection(String address) {
+                    this.address = address;
+                }
+            }
+            """;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testDirectAccessors() throws Exception {
+        Compilation compilation = compile(Map.of("fixtures.Direct", """
+                package fixtures;
+
+                import dev.pixelib.reflectionpath.annotations.PathAccessor;
+
+                public interface Direct {
+                    @PathAccessor("name")
+                    String name(Player player);
+
+                    @PathAccessor("[String]")
+                    String firstString(Player player);
+
+                    @PathAccessor("getConnection?.port")
+                    Integer port(Player player);
+
+                    @PathAccessor("getConnection.port")
+                    long widenedPort(Player player);
+                }
+                """));
+
+        assertTrue(compilation.success(), compilation.errors()::toString);
+        String source = compilation.generatedSource("fixtures/PathAccessor_Direct.java");
+        assertFalse(source.contains("ReflectionPath"), source);
+
+        Object accessors = compilation.accessors("fixtures.Direct");
+        Object player = compilation.player("localhost");
+        assertEquals("Steve", call(accessors, "name", player));
+        assertEquals("Steve", call(accessors, "firstString", player));
+        assertEquals(25565, call(accessors, "port", player));
+        assertNull(call(accessors, "port", compilation.player(null)));
+        assertEquals(25565L, call(accessors, "widenedPort", player));
+    }
+
+    @Test
+    void testFallbackForInaccessibleMembers() throws Exception {
+        Compilation compilation = compile(Map.of("fixtures.Fallback", """
+                package fixtures;
+
+                import dev.pixelib.reflectionpath.annotations.PathAccessor;
+
+                public interface Fallback {
+                    @PathAccessor("ping")
+                    int ping(Player player);
+
+                    @PathAccessor("getConnection.address")
+                    String address(Player player);
+
+                    @PathAccessor("getConnection?.port")
+                    int port(Player player);
+                }
+                """));
+
+        assertTrue(compilation.success(), compilation.errors()::toString);
+        String source = compilation.generatedSource("fixtures/PathAccessor_Fallback.java");
+        assertTrue(source.contains("PATH_2"), source);
+
+        Object accessors = compilation.accessors("fixtures.Fallback");
+        Object player = compilation.player("localhost");
+        assertEquals(42, call(accessors, "ping", player));
+        assertEquals("localhost", call(accessors, "address", player));
+        assertEquals(25565, call(accessors, "port", player));
+    }
+
+    @Test
+    void testInvalidAccessors() throws IOException {
+        Compilation compilation = compile(Map.of("fixtures.Broken", """
+                package fixtures;
+
+                import dev.pixelib.reflectionpath.annotations.PathAccessor;
+
+                public interface Broken {
+                    @PathAccessor("missing")
+                    String missing(Player player);
+
+                    @PathAccessor("name")
+                    int wrongType(Player player);
+
+                    @PathAccessor("a..b")
+                    String malformed(Player player);
+
+                    String unannotated(Player player);
+                }
+                """));
+
+        assertFalse(compilation.success());
+        String errors = compilation.errors().toString();
+        assertTrue(errors.contains("No field or method found for 'missing'"), errors);
+        assertTrue(errors.contains("does not resolve to a value assignable to int"), errors);
+        assertTrue(errors.contains("Empty segment"), errors);
+        assertTrue(errors.contains("must be annotated with @PathAccessor"), errors);
+    }
+
+    private static Object call(Object target, String name, Object argument) throws Exception {
+        for (Method method : target.getClass().getInterfaces()[0].getMethods()) {
+            if (method.getName().equals(name)) {
+                return method.invoke(target, argument);
+            }
+        }
+        throw new NoSuchMethodException(name);
+    }
+
+    private Compilation compile(Map<String, String> sources) throws IOException {
+        Path classes = Files.createDirectories(directory.resolve("classes"));
+        Path generated = Files.createDirectories(directory.resolve("generated"));
+
+        List<JavaFileObject> files = new ArrayList<>();
+        files.add(new Source("fixtures.Player", PLAYER));
+        files.add(new Source("fixtures.Connection", CONNECTION));
+        sources.forEach((name, source) -> files.add(new Source(name, source)));
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null)) {
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics,
+                    List.of("-d", classes.toString(), "-s", generated.toString(),
+                            "-classpath", System.getProperty("java.class.path")),
+                    null, files);
+            task.setProcessors(List.of(new PathAccessorProcessor()));
+            boolean success = task.call();
+
+            List<String> errors = new ArrayList<>();
+            for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+                if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+                    errors.add(diagnostic.getMessage(null));
+                }
+            }
+            ClassLoader loader = new URLClassLoader(new URL[]{classes.toUri().toURL()},
+                    PathAccessorProcessorTests.class.getClassLoader());
+            return new Compilation(success, errors, loader, generated);
+        }
+    }
+
+    private record Compilation(boolean success, List<String> errors, ClassLoader loader, Path generated) {
+        String generatedSource(String file) throws IOException {
+            return Files.readString(generated.resolve(file));
+        }
+
+        Object accessors(String name) throws Exception {
+            return PathAccessors.create(loader.loadClass(name));
+        }
+
+        Object player(String address) throws Exception {
+            Object connection = address == null ? null
+                    : loader.loadClass("fixtures.Connection").getConstructor(String.class).newInstance(address);
+            return loader.loadClass("fixtures.Player")
+                    .getConstructor(loader.loadClass("fixtures.Connection"))
+                    .newInstance(connection);
+        }
+    }
+
+    private static final class Source extends SimpleJavaFileObject {
+        private final String source;
+
+        private Source(String name, String source) {
+            super(URI.create("string:///" + name.replace('.', '/') + Kind.SOURCE.extension), Kind.SOURCE);
+            this.source = source;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return source;
+        }
+    }
+}
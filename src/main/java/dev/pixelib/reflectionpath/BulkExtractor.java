@@ -0,0 +1,114 @@
+package dev.pixelib.reflectionpath;
+
+import dev.pixelib.reflectionpath.errors.ReflectionException;
+import dev.pixelib.reflectionpath.resolution.ResolvedPath;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Applies a single ReflectionPath to many targets, splitting large batches across the common fork-join pool.
+ *
+ * <p>Lists with random access are read in place, other lists are copied once so that they can be split.
+ * Each chunk remembers the resolved paths of the last {@value #REMEMBERED_CLASSES} distinct classes it saw, so
+ * elements of a few classes are read without consulting the path cache, however they are interleaved. Elements
+ * are not grouped by class: grouping needs index arrays as large as the batch and reads the targets and results
+ * out of order, which costs more than the cache lookups it saves.
+ */
+final class BulkExtractor extends RecursiveAction {
+    /** Batches up to this size are extracted on the calling thread, without any fork-join overhead */
+    static final int SEQUENTIAL_THRESHOLD = 4096;
+    private static final int REMEMBERED_CLASSES = 8;
+
+    private final ReflectionPath path;
+    private final List<?> targets;
+    private final int from;
+    private final int to;
+    private final Step step;
+
+    private BulkExtractor(ReflectionPath path, List<?> targets, int from, int to, Step step) {
+        this.path = path;
+        this.targets = targets;
+        this.from = from;
+        this.to = to;
+        this.step = step;
+    }
+
+    /**
+     * Applies the step to every target, in parallel if there are more than {@link #SEQUENTIAL_THRESHOLD}.
+     *
+     * @param path The path to apply
+     * @param targets The target objects
+     * @param step The extraction applied to every target
+     * @throws ReflectionException if a target cannot be resolved or read
+     */
+    static void run(ReflectionPath path, List<?> targets, Step step) {
+        List<?> elements = targets instanceof RandomAccess ? targets : Arrays.asList(targets.toArray());
+        BulkExtractor task = new BulkExtractor(path, elements, 0, elements.size(), step);
+        if (elements.size() <= SEQUENTIAL_THRESHOLD) {
+            task.extract();
+        } else {
+            ForkJoinPool.commonPool().invoke(task);
+        }
+    }
+
+    @Override
+    protected void compute() {
+        if (to - from <= SEQUENTIAL_THRESHOLD) {
+            extract();
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        invokeAll(new BulkExtractor(path, targets, from, middle, step),
+                new BulkExtractor(path, targets, middle, to, step));
+    }
+
+    private void extract() {
+        Class<?>[] classes = new Class<?>[REMEMBERED_CLASSES];
+        ResolvedPath[] paths = new ResolvedPath[REMEMBERED_CLASSES];
+        int last = 0;
+        int next = 0;
+        for (int i = from; i < to; i++) {
+            Object target = targets.get(i);
+            try {
+                if (target == null) {
+                    throw new ReflectionException("Target object cannot be null");
+                }
+                Class<?> targetClass = target.getClass();
+                if (classes[last] != targetClass) {
+                    last = indexOf(classes, targetClass);
+                    if (last < 0) {
+                        // Replaces the remembered classes in turn
+                        last = next;
+                        next = (next + 1) % REMEMBERED_CLASSES;
+                        classes[last] = targetClass;
+                        paths[last] = path.resolveCached(targetClass);
+                    }
+                }
+                step.extract(paths[last], target, i);
+            } catch (Exception e) {
+                throw new ReflectionException("Failed to extract value at index " + i, e);
+            }
+        }
+    }
+
+    private static int indexOf(Class<?>[] classes, Class<?> targetClass) {
+        for (int i = 0; i < classes.length; i++) {
+            if (classes[i] == targetClass) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Reads the value of a single target and stores it.
+     */
+    @FunctionalInterface
+    interface Step {
+        void extract(ResolvedPath path, Object target, int index) throws Exception;
+    }
+}
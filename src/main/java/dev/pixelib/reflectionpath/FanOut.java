@@ -0,0 +1,203 @@
+package dev.pixelib.reflectionpath;
+
+import dev.pixelib.reflectionpath.errors.ReflectionException;
+import dev.pixelib.reflectionpath.resolution.CompiledPath;
+import dev.pixelib.reflectionpath.resolution.WildcardSegment;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * Lazily evaluates a path with wildcards against one target, yielding one value per element reached.
+ *
+ * <p>The path is split at its wildcards into stages, each evaluated by its own ReflectionPath, so every stage is
+ * resolved once per element class and reused for all elements of that class. Only one iterator per wildcard is
+ * held at a time, elements are never copied into intermediate collections.
+ */
+final class FanOut implements Iterator<Object> {
+    private final Plan plan;
+    private final Object target;
+    /** Iterator over the elements of the container at each wildcard, up to the current depth */
+    private final Iterator<?>[] levels;
+    private int depth = -1;
+    private boolean started;
+    private boolean hasNext;
+    private Object next;
+
+    FanOut(Plan plan, Object target) {
+        this.plan = plan;
+        this.target = target;
+        this.levels = new Iterator<?>[plan.wildcards()];
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (hasNext) {
+            return true;
+        }
+        if (!started) {
+            started = true;
+            Object root = apply(0, target);
+            if (levels.length == 0) {
+                return found(root);
+            }
+            levels[0] = elements(root, 0);
+            depth = 0;
+        }
+
+        while (depth >= 0) {
+            Iterator<?> level = levels[depth];
+            if (!level.hasNext()) {
+                levels[depth--] = null;
+                continue;
+            }
+            Object value = apply(depth + 1, level.next());
+            if (depth + 1 == levels.length) {
+                return found(value);
+            }
+            depth++;
+            levels[depth] = elements(value, depth);
+        }
+        return false;
+    }
+
+    @Override
+    public Object next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Object value = next;
+        next = null;
+        hasNext = false;
+        return value;
+    }
+
+    private boolean found(Object value) {
+        next = value;
+        hasNext = true;
+        return true;
+    }
+
+    private Object apply(int stage, Object value) {
+        ReflectionPath path = plan.stages[stage];
+        if (path == null) {
+            return value;
+        }
+        if (value == null) {
+            if (stage > 0 && plan.elementNullSafe[stage]) {
+                return null;
+            }
+            throw new ReflectionException(stage == 0 ? "Target object cannot be null"
+                    : "Cannot apply '" + path.getPath() + "' to a null element");
+        }
+        try {
+            return path.read(value);
+        } catch (Exception e) {
+            throw new ReflectionException("Failed to get value of '" + path.getPath() + "'", e);
+        }
+    }
+
+    private Iterator<?> elements(Object container, int wildcard) {
+        if (container == null) {
+            if (plan.containerNullSafe[wildcard]) {
+                return Collections.emptyIterator();
+            }
+            throw new ReflectionException("Cannot iterate over null");
+        }
+        if (container instanceof Object[] array) {
+            return Arrays.asList(array).iterator();
+        }
+        if (container.getClass().isArray()) {
+            return new PrimitiveArrayIterator(container);
+        }
+        if (container instanceof Iterable<?> iterable) {
+            return iterable.iterator();
+        }
+        if (container instanceof Map<?, ?> map) {
+            return map.values().iterator();
+        }
+        throw new ReflectionException("Cannot iterate over " + container.getClass().getName());
+    }
+
+    /**
+     * Stages of a path between its wildcards.
+     *
+     * @param stages The path applied before the first wildcard and after each wildcard, null where the wildcard
+     *               is the first segment or directly followed by another wildcard
+     * @param containerNullSafe Per wildcard, whether a null container yields no elements instead of failing
+     * @param elementNullSafe Per stage, whether a null element yields null instead of failing
+     */
+    record Plan(ReflectionPath[] stages, boolean[] containerNullSafe, boolean[] elementNullSafe) {
+        /**
+         * Splits a path at its wildcards.
+         *
+         * @param path The compiled path
+         * @param nullSafe Whether every step of the path is null-safe
+         * @param stage Creates the ReflectionPath evaluating a part of the path
+         * @return The plan of the path
+         */
+        static Plan of(CompiledPath path, boolean nullSafe, Function<CompiledPath, ReflectionPath> stage) {
+            List<Integer> wildcards = new ArrayList<>();
+            for (int i = 0; i < path.segments().size(); i++) {
+                if (path.segments().get(i) instanceof WildcardSegment) {
+                    wildcards.add(i);
+                }
+            }
+
+            ReflectionPath[] stages = new ReflectionPath[wildcards.size() + 1];
+            boolean[] containerNullSafe = new boolean[wildcards.size()];
+            boolean[] elementNullSafe = new boolean[wildcards.size() + 1];
+            int start = 0;
+            for (int i = 0; i <= wildcards.size(); i++) {
+                int end = i == wildcards.size() ? path.segments().size() : wildcards.get(i);
+                if (end > start) {
+                    stages[i] = stage.apply(path.subPath(start, end));
+                    elementNullSafe[i] = nullSafe || path.isNullSafe(start);
+                }
+                if (i < wildcards.size()) {
+                    containerNullSafe[i] = nullSafe || path.isNullSafe(end);
+                }
+                start = end + 1;
+            }
+            return new Plan(stages, containerNullSafe, elementNullSafe);
+        }
+
+        int wildcards() {
+            return containerNullSafe.length;
+        }
+    }
+
+    /**
+     * Iterates over the elements of a primitive array, boxing each element as it is reached.
+     */
+    private static final class PrimitiveArrayIterator implements Iterator<Object> {
+        private final Object array;
+        private final int length;
+        private int index;
+
+        private PrimitiveArrayIterator(Object array) {
+            this.array = array;
+            this.length = Array.getLength(array);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < length;
+        }
+
+        @Override
+        public Object next() {
+            if (index >= length) {
+                throw new NoSuchElementException();
+            }
+            return Array.get(array, index++);
+        }
+    }
+}
@@ -0,0 +1,453 @@
+package dev.pixelib.reflectionpath;
+
+import dev.pixelib.reflectionpath.errors.ReflectionException;
+import dev.pixelib.reflectionpath.resolution.ResolvedPath;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Invokes the method a path ends in on one target class, choosing among its overloads by the runtime classes of
+ * the arguments.
+ *
+ * <p>The chosen overload is linked into a method handle taking and returning objects, and cached per tuple of
+ * argument classes. Each arity additionally remembers the last tuple it was called with, which is checked by
+ * identity before the map, so call sites that always pass the same argument classes do not allocate.
+ * Cached tuples only reference the argument classes weakly and at most {@value #MAX_SIGNATURES} of them are kept,
+ * so arguments of classes from other class loaders do not keep those loaders alive through the target class.
+ *
+ * <p>Overloads are chosen like the compiler does, with one difference: as arguments of primitive type arrive
+ * boxed, a wrapper argument matches a primitive parameter before any reference parameter. Varargs methods are
+ * only called with an explicit array.
+ */
+final class Invoker {
+    private static final int MAX_ARITY = 4;
+    private static final int MAX_SIGNATURES = 256;
+    private static final Object[] NO_ARGUMENTS = new Object[0];
+    private static final Map<Class<?>, Class<?>> PRIMITIVES = Map.of(
+            Boolean.class, boolean.class,
+            Byte.class, byte.class,
+            Short.class, short.class,
+            Character.class, char.class,
+            Integer.class, int.class,
+            Long.class, long.class,
+            Float.class, float.class,
+            Double.class, double.class);
+
+    /** Path invoked with its own semantics if it does not end in a method selected by name */
+    private final ResolvedPath fallback;
+    /** Path to the object the method is invoked on, or null to invoke it on the target itself */
+    private final ResolvedPath receiver;
+    private final String name;
+    private final List<Method> overloads;
+    private final boolean nullSafe;
+    private final ConcurrentMap<Signature, Target> targets = new ConcurrentHashMap<>();
+    /** Inline cache of the last target per arity. Racy reads are benign, a stale entry is checked anyway */
+    private final Target[] lastTargets = new Target[MAX_ARITY + 1];
+
+    private Invoker(ResolvedPath fallback, ResolvedPath receiver, String name, List<Method> overloads,
+                    boolean nullSafe) {
+        this.fallback = fallback;
+        this.receiver = receiver;
+        this.name = name;
+        this.overloads = overloads;
+        this.nullSafe = nullSafe;
+    }
+
+    /**
+     * Creates an invoker that selects among the overloads of a method.
+     *
+     * @param receiver The path to the object the method is invoked on, or null to invoke it on the target
+     * @param name The name of the method
+     * @param overloads The methods with that name in the class hierarchy of the receiver
+     * @param nullSafe Whether a null receiver results in null instead of a failure
+     */
+    static Invoker of(ResolvedPath receiver, String name, List<Method> overloads, boolean nullSafe) {
+        return new Invoker(null, receiver, name, overloads, nullSafe);
+    }
+
+    /**
+     * Creates an invoker that delegates to {@link ResolvedPath#invoke(Object, Object...)}, for paths that do not
+     * end in a method selected by name.
+     */
+    static Invoker fallback(ResolvedPath path) {
+        return new Invoker(path, null, null, List.of(), false);
+    }
+
+    Object invoke(Object target, Object[] args) throws Throwable {
+        Object[] arguments = args == null ? NO_ARGUMENTS : args;
+        if (fallback != null) {
+            return fallback.invoke(target, arguments);
+        }
+        Object value = receiver(target);
+        if (value == null && nullSafe) {
+            return null;
+        }
+
+        Target cached = arguments.length <= MAX_ARITY ? lastTargets[arguments.length] : null;
+        if (cached == null || !cached.signature.matches(arguments)) {
+            Class<?>[] classes = new Class<?>[arguments.length];
+            for (int i = 0; i < arguments.length; i++) {
+                classes[i] = classOf(arguments[i]);
+            }
+            cached = target(classes);
+        }
+        return cached.spread.invokeExact(value, arguments);
+    }
+
+    Object invoke0(Object target) throws Throwable {
+        if (fallback != null) {
+            return fallback.invoke(target);
+        }
+        Object value = receiver(target);
+        if (value == null && nullSafe) {
+            return null;
+        }
+        Target cached = lastTargets[0];
+        if (cached == null) {
+            cached = target(new Class<?>[0]);
+        }
+        return cached.exact.invokeExact(value);
+    }
+
+    Object invoke1(Object target, Object first) throws Throwable {
+        if (fallback != null) {
+            return fallback.invoke(target, first);
+        }
+        Object value = receiver(target);
+        if (value == null && nullSafe) {
+            return null;
+        }
+        Class<?> firstClass = classOf(first);
+        Target cached = lastTargets[1];
+        if (cached == null || !cached.signature.matches(0, firstClass)) {
+            cached = target(new Class<?>[]{firstClass});
+        }
+        return cached.exact.invokeExact(value, first);
+    }
+
+    Object invoke2(Object target, Object first, Object second) throws Throwable {
+        if (fallback != null) {
+            return fallback.invoke(target, first, second);
+        }
+        Object value = receiver(target);
+        if (value == null && nullSafe) {
+            return null;
+        }
+        Class<?> firstClass = classOf(first);
+        Class<?> secondClass = classOf(second);
+        Target cached = lastTargets[2];
+        if (cached == null || !cached.signature.matches(0, firstClass)
+                || !cached.signature.matches(1, secondClass)) {
+            cached = target(new Class<?>[]{firstClass, secondClass});
+        }
+        return cached.exact.invokeExact(value, first, second);
+    }
+
+    Object invoke3(Object target, Object first, Object second, Object third) throws Throwable {
+        if (fallback != null) {
+            return fallback.invoke(target, first, second, third);
+        }
+        Object value = receiver(target);
+        if (value == null && nullSafe) {
+            return null;
+        }
+        Class<?> firstClass = classOf(first);
+        Class<?> secondClass = classOf(second);
+        Class<?> thirdClass = classOf(third);
+        Target cached = lastTargets[3];
+        if (cached == null || !cached.signature.matches(0, firstClass)
+                || !cached.signature.matches(1, secondClass) || !cached.signature.matches(2, thirdClass)) {
+            cached = target(new Class<?>[]{firstClass, secondClass, thirdClass});
+        }
+        return cached.exact.invokeExact(value, first, second, third);
+    }
+
+    Object invoke4(Object target, Object first, Object second, Object third, Object fourth) throws Throwable {
+        if (fallback != null) {
+            return fallback.invoke(target, first, second, third, fourth);
+        }
+        Object value = receiver(target);
+        if (value == null && nullSafe) {
+            return null;
+        }
+        Class<?> firstClass = classOf(first);
+        Class<?> secondClass = classOf(second);
+        Class<?> thirdClass = classOf(third);
+        Class<?> fourthClass = classOf(fourth);
+        Target cached = lastTargets[4];
+        if (cached == null || !cached.signature.matches(0, firstClass)
+                || !cached.signature.matches(1, secondClass) || !cached.signature.matches(2, thirdClass)
+                || !cached.signature.matches(3, fourthClass)) {
+            cached = target(new Class<?>[]{firstClass, secondClass, thirdClass, fourthClass});
+        }
+        return cached.exact.invokeExact(value, first, second, third, fourth);
+    }
+
+    private Object receiver(Object target) throws Exception {
+        return receiver == null ? target : receiver.getValue(target);
+    }
+
+    private Target target(Class<?>[] classes) {
+        // Linked outside the map lock, a racing thread links the same overload and the first one is kept
+        Signature signature = new Signature(classes);
+        Target target = targets.get(signature);
+        if (target == null) {
+            Target linked = link(signature, classes);
+            target = targets.putIfAbsent(signature, linked);
+            if (target == null) {
+                target = linked;
+                if (targets.size() > MAX_SIGNATURES) {
+                    // Tuples of collected classes can never match again, drop everything if that is not enough
+                    targets.keySet().removeIf(Signature::isCollected);
+                    if (targets.size() > MAX_SIGNATURES) {
+                        targets.clear();
+                    }
+                }
+            }
+        }
+        if (classes.length <= MAX_ARITY) {
+            lastTargets[classes.length] = target;
+        }
+        return target;
+    }
+
+    private Target link(Signature signature, Class<?>[] classes) {
+        Method method = select(classes);
+        try {
+            method.setAccessible(true);
+            // Varargs methods take their variable arguments as an explicit array
+            MethodHandle handle = MethodHandles.lookup().unreflect(method).asFixedArity();
+            if (Modifier.isStatic(method.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+
+            // Adapting from Object unboxes and widens primitives like Method.invoke does, without referencing
+            // the argument classes
+            MethodHandle exact = handle.asType(MethodType.genericMethodType(classes.length + 1));
+            return new Target(signature, exact, exact.asSpreader(Object[].class, classes.length));
+        } catch (IllegalAccessException | RuntimeException e) {
+            throw new ReflectionException("Failed to link method " + method, e);
+        }
+    }
+
+    /**
+     * Selects the most specific overload applicable to arguments of the given classes.
+     *
+     * @param classes The classes of the arguments, null for null arguments
+     * @return The selected method
+     * @throws ReflectionException if no overload or more than one most specific overload is applicable
+     */
+    Method select(Class<?>[] classes) {
+        List<Method> applicable = new ArrayList<>();
+        for (Method method : overloads) {
+            if (isApplicable(method, classes)) {
+                applicable.add(method);
+            }
+        }
+        if (applicable.isEmpty()) {
+            throw new ReflectionException("No overload of " + name + " is applicable to " + describe(classes));
+        }
+
+        List<Method> mostSpecific = new ArrayList<>();
+        for (Method candidate : applicable) {
+            boolean isMostSpecific = true;
+            for (Method other : applicable) {
+                if (other != candidate && !isAtLeastAsSpecific(candidate, other)) {
+                    isMostSpecific = false;
+                    break;
+                }
+            }
+            if (isMostSpecific) {
+                mostSpecific.add(candidate);
+            }
+        }
+        if (mostSpecific.size() != 1) {
+            throw new ReflectionException("Ambiguous overloads of " + name + " for " + describe(classes)
+                    + ": " + applicable);
+        }
+        return mostSpecific.get(0);
+    }
+
+    private static boolean isApplicable(Method method, Class<?>[] classes) {
+        Class<?>[] parameters = method.getParameterTypes();
+        if (parameters.length != classes.length) {
+            return false;
+        }
+        for (int i = 0; i < parameters.length; i++) {
+            if (!accepts(parameters[i], classes[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean accepts(Class<?> parameter, Class<?> argument) {
+        if (argument == null) {
+            return !parameter.isPrimitive();
+        }
+        if (!parameter.isPrimitive()) {
+            return parameter.isAssignableFrom(argument);
+        }
+        Class<?> primitive = PRIMITIVES.get(argument);
+        return primitive != null && (primitive == parameter || widens(primitive, parameter));
+    }
+
+    private static boolean isAtLeastAsSpecific(Method method, Method other) {
+        Class<?>[] parameters = method.getParameterTypes();
+        Class<?>[] otherParameters = other.getParameterTypes();
+        for (int i = 0; i < parameters.length; i++) {
+            Class<?> parameter = parameters[i];
+            Class<?> otherParameter = otherParameters[i];
+            boolean atLeastAsSpecific;
+            if (parameter == otherParameter) {
+                atLeastAsSpecific = true;
+            } else if (parameter.isPrimitive()) {
+                atLeastAsSpecific = !otherParameter.isPrimitive() || widens(parameter, otherParameter);
+            } else {
+                atLeastAsSpecific = !otherParameter.isPrimitive() && otherParameter.isAssignableFrom(parameter);
+            }
+            if (!atLeastAsSpecific) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether a primitive widening conversion exists from one primitive type to another.
+     */
+    private static boolean widens(Class<?> from, Class<?> to) {
+        if (from == byte.class) {
+            return to == short.class || to == int.class || to == long.class || to == float.class || to == double.class;
+        }
+        if (from == short.class || from == char.class) {
+            return to == int.class || to == long.class || to == float.class || to == double.class;
+        }
+        if (from == int.class) {
+            return to == long.class || to == float.class || to == double.class;
+        }
+        if (from == long.class) {
+            return to == float.class || to == double.class;
+        }
+        return from == float.class && to == double.class;
+    }
+
+    private static Class<?> classOf(Object argument) {
+        return argument == null ? null : argument.getClass();
+    }
+
+    private static String describe(Class<?>[] classes) {
+        StringJoiner joiner = new StringJoiner(", ", "(", ")");
+        for (Class<?> type : classes) {
+            joiner.add(type == null ? "null" : type.getSimpleName());
+        }
+        return joiner.toString();
+    }
+
+    /**
+     * Tuple of argument classes, null for null arguments. The classes are referenced weakly, a tuple whose classes
+     * were collected is only equal to itself.
+     */
+    private static final class Signature {
+        private final WeakReference<?>[] classes;
+        private final int hash;
+
+        private Signature(Class<?>[] argumentClasses) {
+            classes = new WeakReference<?>[argumentClasses.length];
+            int hashCode = 1;
+            for (int i = 0; i < argumentClasses.length; i++) {
+                Class<?> argumentClass = argumentClasses[i];
+                classes[i] = argumentClass == null ? null : new WeakReference<>(argumentClass);
+                hashCode = 31 * hashCode + System.identityHashCode(argumentClass);
+            }
+            hash = hashCode;
+        }
+
+        /**
+         * Returns whether the argument at an index is of the given class.
+         *
+         * @param index The index of the argument
+         * @param argumentClass The class of the argument, null for a null argument
+         */
+        private boolean matches(int index, Class<?> argumentClass) {
+            WeakReference<?> reference = classes[index];
+            if (reference == null) {
+                return argumentClass == null;
+            }
+            return argumentClass != null && reference.get() == argumentClass;
+        }
+
+        private boolean matches(Object[] arguments) {
+            if (arguments.length != classes.length) {
+                return false;
+            }
+            for (int i = 0; i < arguments.length; i++) {
+                if (!matches(i, classOf(arguments[i]))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean isCollected() {
+            for (WeakReference<?> reference : classes) {
+                if (reference != null && reference.get() == null) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof Signature signature) || signature.hash != hash
+                    || signature.classes.length != classes.length) {
+                return false;
+            }
+            for (int i = 0; i < classes.length; i++) {
+                WeakReference<?> reference = classes[i];
+                WeakReference<?> otherReference = signature.classes[i];
+                if (reference == null || otherReference == null) {
+                    if (reference != otherReference) {
+                        return false;
+                    }
+                } else {
+                    Object referent = reference.get();
+                    if (referent == null || referent != otherReference.get()) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Overload linked for one tuple of argument classes.
+     *
+     * @param signature The argument classes the overload was selected for
+     * @param exact Handle taking the receiver and the arguments as objects and returning an object
+     * @param spread Handle taking the receiver and an array of arguments and returning an object
+     */
+    private record Target(Signature signature, MethodHandle exact, MethodHandle spread) {
+    }
+}
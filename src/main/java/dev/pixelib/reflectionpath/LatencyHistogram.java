@@ -0,0 +1,122 @@
+package dev.pixelib.reflectionpath;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntToLongFunction;
+
+/**
+ * Concurrent latency histogram with power of two buckets. Bucket {@code i} counts durations of
+ * {@code [2^(i-1), 2^i)} nanoseconds, bucket 0 counts durations of zero, which keeps recording to a single
+ * {@link LongAdder} increment at the cost of reporting percentiles as bucket upper bounds.
+ */
+public final class LatencyHistogram {
+    private static final int BUCKETS = 64;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+    private final LongAdder totalNanos = new LongAdder();
+
+    LatencyHistogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    void record(long nanos) {
+        long duration = Math.max(0, nanos);
+        buckets[Math.min(BUCKETS - 1, Long.SIZE - Long.numberOfLeadingZeros(duration))].increment();
+        totalNanos.add(duration);
+    }
+
+    void reset() {
+        for (LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+        totalNanos.reset();
+    }
+
+    /**
+     * Returns the mean of the recorded durations without taking a snapshot.
+     */
+    double meanNanos() {
+        long count = 0;
+        for (LongAdder bucket : buckets) {
+            count += bucket.sum();
+        }
+        return count == 0 ? 0 : (double) totalNanos.sum() / count;
+    }
+
+    /**
+     * Returns an upper bound of the given percentile without taking a snapshot, as
+     * {@link Snapshot#percentileNanos(double)} does.
+     */
+    long percentileNanos(double fraction) {
+        long count = 0;
+        for (LongAdder bucket : buckets) {
+            count += bucket.sum();
+        }
+        return percentile(fraction, count, i -> buckets[i].sum());
+    }
+
+    private static long percentile(double fraction, long count, IntToLongFunction bucket) {
+        if (!(fraction >= 0 && fraction <= 1)) {
+            throw new IllegalArgumentException("Fraction must be between 0 and 1");
+        }
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(fraction * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += bucket.applyAsLong(i);
+            if (seen >= rank) {
+                return i == 0 ? 1 : i >= Long.SIZE - 1 ? Long.MAX_VALUE : 1L << i;
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+
+    /**
+     * Returns a snapshot of the recorded durations. Durations recorded while the snapshot is taken may be
+     * partially included.
+     *
+     * @return The current distribution
+     */
+    public Snapshot snapshot() {
+        long[] counts = new long[BUCKETS];
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets[i].sum();
+            count += counts[i];
+        }
+        return new Snapshot(count, totalNanos.sum(), counts);
+    }
+
+    /**
+     * Snapshot of the durations recorded by a LatencyHistogram.
+     *
+     * @param count The number of recorded durations
+     * @param totalNanos The sum of all recorded durations in nanoseconds
+     * @param buckets The number of durations per power of two bucket
+     */
+    public record Snapshot(long count, long totalNanos, long[] buckets) {
+        /**
+         * Returns the mean of the recorded durations.
+         *
+         * @return The mean duration in nanoseconds, or 0 if nothing was recorded
+         */
+        public double meanNanos() {
+            return count == 0 ? 0 : (double) totalNanos / count;
+        }
+
+        /**
+         * Returns an upper bound of the duration below which the given fraction of durations fall.
+         *
+         * @param fraction The fraction between 0 and 1, e.g. 0.99 for the 99th percentile
+         * @return The exclusive upper bound of the bucket holding the percentile in nanoseconds,
+         *         or 0 if nothing was recorded
+         * @throws IllegalArgumentException if the fraction is not between 0 and 1
+         */
+        public long percentileNanos(double fraction) {
+            return percentile(fraction, count, i -> buckets[i]);
+        }
+    }
+}
@@ -0,0 +1,330 @@
+package dev.pixelib.reflectionpath;
+
+import dev.pixelib.reflectionpath.resolution.TypePathComponent;
+
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Lazily built, thread-safe index of the members of a class and its superclasses, shared by all
+ * ReflectionPath instances. Type-based lookups become hash lookups on the simple, binary or canonical
+ * name of the member type instead of scans over {@link Class#getDeclaredFields()} and
+ * {@link Class#getDeclaredMethods()}. Type components created from class tokens are looked up by the member
+ * type itself, without computing any names.
+ *
+ * <p>Indexes are stored in a {@link ClassValue}, so they are discarded together with their class.
+ */
+final class MemberIndex {
+    private static final ClassValue<MemberIndex> INDEXES = new ClassValue<>() {
+        @Override
+        protected MemberIndex computeValue(Class<?> type) {
+            return new MemberIndex(type);
+        }
+    };
+
+    private final Class<?> type;
+    private final Field[] declaredFields;
+    private final Method[] declaredMethods;
+
+    /** Members of the class hierarchy by member type, built on first use. Racing builds are harmless */
+    private volatile Map<TypeKey, Members> membersByType;
+    /** Members of the class hierarchy by the identity of their type, built on first use */
+    private volatile Map<Class<?>, Members> membersByClass;
+
+    private MemberIndex(Class<?> type) {
+        this.type = type;
+        this.declaredFields = type.getDeclaredFields();
+        this.declaredMethods = type.getDeclaredMethods();
+    }
+
+    /**
+     * Returns the index of a class.
+     *
+     * @param type The class to index
+     * @return The shared index of the class
+     */
+    static MemberIndex of(Class<?> type) {
+        return INDEXES.get(type);
+    }
+
+    /**
+     * Discards the index of a class, for example after the class was redefined.
+     *
+     * @param type The class to discard the index of
+     */
+    static void invalidate(Class<?> type) {
+        INDEXES.remove(type);
+    }
+
+    /**
+     * Finds all fields and zero-argument methods in the class hierarchy whose type matches the component.
+     * Fields come first, both ordered from the class itself up to its topmost superclass.
+     *
+     * @param component The type component to match against
+     * @param ignoreToString Whether to leave out toString methods
+     * @return The matching members, never null
+     */
+    List<AccessibleObject> findByType(TypePathComponent component, boolean ignoreToString) {
+        Members members;
+        if (component.assignable()) {
+            members = findAssignable(component.type());
+        } else if (component.type() != null) {
+            Map<Class<?>, Members> index = membersByClass;
+            if (index == null) {
+                index = buildIndex(List::of);
+                membersByClass = index;
+            }
+            members = index.get(component.type());
+        } else {
+            Map<TypeKey, Members> index = membersByType;
+            if (index == null) {
+                index = buildIndex(MemberIndex::typeKeys);
+                membersByType = index;
+            }
+            members = index.get(new TypeKey(component.typeName(), component.isArray()));
+        }
+
+        if (members == null) {
+            return List.of();
+        }
+        return ignoreToString ? members.withoutToString : members.all;
+    }
+
+    /**
+     * Searches for a field with the given name in the class hierarchy.
+     *
+     * @param name The name of the field to find
+     * @return The field declared closest to the class, or null if there is none
+     */
+    Field findField(String name) {
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            for (Field field : of(current).declaredFields) {
+                if (field.getName().equals(name)) {
+                    return field;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Searches for a method with the given name in the class hierarchy. A method without parameters is preferred,
+     * so that reading a value through an overloaded name does not pick an overload that requires arguments.
+     *
+     * @param name The name of the method to find
+     * @return The first method with that name and no parameters declared closest to the class, otherwise the first
+     *         method with that name declared closest to the class, or null if there is none
+     */
+    Method findMethod(String name) {
+        Method first = null;
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            for (Method method : of(current).declaredMethods) {
+                if (method.getName().equals(name)) {
+                    if (method.getParameterCount() == 0) {
+                        return method;
+                    }
+                    if (first == null) {
+                        first = method;
+                    }
+                }
+            }
+        }
+        return first;
+    }
+
+    /**
+     * Returns whether the class itself declares a field or method with the given name, ignoring its superclasses.
+     *
+     * @param name The name of the member
+     * @return true if a declared field or method of any arity has that name
+     */
+    boolean declares(String name) {
+        for (Field field : declaredFields) {
+            if (field.getName().equals(name)) {
+                return true;
+            }
+        }
+        for (Method method : declaredMethods) {
+            if (method.getName().equals(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns whether the class itself declares a field or zero-argument method whose type matches the component,
+     * ignoring its superclasses.
+     *
+     * @param component The type component to match against
+     * @param ignoreToString Whether to leave out toString methods
+     * @return true if {@link #findByType(TypePathComponent, boolean)} would find a member declared by the class
+     */
+    boolean declaresType(TypePathComponent component, boolean ignoreToString) {
+        for (Field field : declaredFields) {
+            if (matches(field.getType(), component)) {
+                return true;
+            }
+        }
+        for (Method method : declaredMethods) {
+            if (method.getParameterCount() == 0 && matches(method.getReturnType(), component)
+                    && !(ignoreToString && method.getName().equals("toString"))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean matches(Class<?> memberType, TypePathComponent component) {
+        if (component.type() != null) {
+            return component.assignable()
+                    ? component.type().isAssignableFrom(memberType)
+                    : memberType == component.type();
+        }
+        if (memberType.isArray() != component.isArray()) {
+            return false;
+        }
+        Class<?> type = memberType.isArray() ? memberType.getComponentType() : memberType;
+        String name = component.typeName();
+        return name.equals(type.getSimpleName()) || name.equals(type.getName())
+                || name.equals(type.getCanonicalName());
+    }
+
+    /**
+     * Finds all overloads of a method in the class hierarchy. Methods overridden by a subclass and bridge methods
+     * are left out.
+     *
+     * @param name The name of the methods to find
+     * @return The methods with that name, ordered from the class itself up to its topmost superclass
+     */
+    List<Method> findMethods(String name) {
+        List<Method> methods = new ArrayList<>();
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            for (Method method : of(current).declaredMethods) {
+                if (method.getName().equals(name) && !method.isBridge() && !isOverridden(method, methods)) {
+                    methods.add(method);
+                }
+            }
+        }
+        return methods;
+    }
+
+    private static boolean isOverridden(Method method, List<Method> subclassMethods) {
+        for (Method subclassMethod : subclassMethods) {
+            if (Arrays.equals(subclassMethod.getParameterTypes(), method.getParameterTypes())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Collects the members whose type is the given class or one of its subtypes. The result is not cached, so
+     * that the index of a class never references classes its members do not refer to.
+     */
+    private Members findAssignable(Class<?> supertype) {
+        List<AccessibleObject> all = new ArrayList<>();
+        List<AccessibleObject> withoutToString = new ArrayList<>();
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            for (Field field : of(current).declaredFields) {
+                if (supertype.isAssignableFrom(field.getType())) {
+                    all.add(field);
+                    withoutToString.add(field);
+                }
+            }
+        }
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            for (Method method : of(current).declaredMethods) {
+                if (method.getParameterCount() == 0 && supertype.isAssignableFrom(method.getReturnType())) {
+                    all.add(method);
+                    if (!method.getName().equals("toString")) {
+                        withoutToString.add(method);
+                    }
+                }
+            }
+        }
+        return new Members(all, withoutToString);
+    }
+
+    /**
+     * Indexes the fields and zero-argument methods of the class hierarchy under every key of their type.
+     */
+    private <K> Map<K, Members> buildIndex(Function<Class<?>, Collection<K>> keys) {
+        Map<K, List<AccessibleObject>> all = new HashMap<>();
+        Map<K, List<AccessibleObject>> withoutToString = new HashMap<>();
+
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            for (Field field : of(current).declaredFields) {
+                for (K key : keys.apply(field.getType())) {
+                    add(all, key, field);
+                    add(withoutToString, key, field);
+                }
+            }
+        }
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            for (Method method : of(current).declaredMethods) {
+                if (method.getParameterCount() != 0) {
+                    continue;
+                }
+                for (K key : keys.apply(method.getReturnType())) {
+                    add(all, key, method);
+                    if (!method.getName().equals("toString")) {
+                        add(withoutToString, key, method);
+                    }
+                }
+            }
+        }
+
+        Map<K, Members> index = new HashMap<>();
+        for (var entry : all.entrySet()) {
+            List<AccessibleObject> filtered = withoutToString.getOrDefault(entry.getKey(), List.of());
+            index.put(entry.getKey(), new Members(
+                    Collections.unmodifiableList(entry.getValue()),
+                    Collections.unmodifiableList(filtered)));
+        }
+        return index;
+    }
+
+    private static <K> void add(Map<K, List<AccessibleObject>> index, K key, AccessibleObject member) {
+        index.computeIfAbsent(key, ignored -> new ArrayList<>()).add(member);
+    }
+
+    private static List<TypeKey> typeKeys(Class<?> memberType) {
+        boolean isArray = memberType.isArray();
+        List<TypeKey> keys = new ArrayList<>(4);
+        for (String name : names(isArray ? memberType.getComponentType() : memberType)) {
+            keys.add(new TypeKey(name, isArray));
+        }
+        return keys;
+    }
+
+    /**
+     * Returns the distinct names a type component may use to refer to a type.
+     */
+    private static Set<String> names(Class<?> type) {
+        Set<String> names = new LinkedHashSet<>(4);
+        names.add(type.getSimpleName());
+        names.add(type.getName());
+        if (type.getCanonicalName() != null) {
+            names.add(type.getCanonicalName());
+        }
+        return names;
+    }
+
+    private record TypeKey(String name, boolean isArray) {
+    }
+
+    private record Members(List<AccessibleObject> all, List<AccessibleObject> withoutToString) {
+    }
+}
@@ -0,0 +1,279 @@
+package dev.pixelib.reflectionpath;
+
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics of a single {@link ReflectionPath}, enabled through {@link ReflectionPath#enableMetrics()}.
+ *
+ * <p>Counters are {@link LongAdder}s, so threads sharing a path do not contend on them. Timestamps are taken
+ * around reads and method invocations and when the path is resolved against a new target class, but not around
+ * writes. Paths without metrics only pay for a null check.
+ *
+ * <p>The metrics can be read programmatically through {@link #snapshot()} or exposed through JMX with
+ * {@link #register()}. Each JMX attribute reads only the counters it reports, without taking a snapshot.
+ */
+public final class PathMetrics implements PathMetricsMXBean {
+    /** JMX domain the metrics are registered in */
+    public static final String DOMAIN = "dev.pixelib.reflectionpath";
+
+    private final String path;
+    private final LongAdder inlineHits = new LongAdder();
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder resolutionFailures = new LongAdder();
+    private final LongAdder accessFailures = new LongAdder();
+    private final LongAdder invocations = new LongAdder();
+    private final LongAdder invocationFailures = new LongAdder();
+    private final LatencyHistogram resolutionTime = new LatencyHistogram();
+    private final LatencyHistogram readTime = new LatencyHistogram();
+    private final LatencyHistogram invocationTime = new LatencyHistogram();
+    /** Target classes resolved since the path was last cleared, held weakly so they can still be unloaded */
+    private final Map<Class<?>, Boolean> resolvedClasses = Collections.synchronizedMap(new WeakHashMap<>());
+    private volatile ObjectName objectName;
+
+    PathMetrics(String path) {
+        this.path = path;
+    }
+
+    void inlineHit() {
+        inlineHits.increment();
+    }
+
+    void lookup() {
+        lookups.increment();
+    }
+
+    void resolved(Class<?> targetClass, long nanos, boolean failed) {
+        misses.increment();
+        resolutionTime.record(nanos);
+        if (failed) {
+            resolutionFailures.increment();
+        }
+        resolvedClasses.put(targetClass, Boolean.TRUE);
+    }
+
+    void accessFailed() {
+        accessFailures.increment();
+    }
+
+    void read(long nanos) {
+        readTime.record(nanos);
+    }
+
+    void invoked(long nanos, boolean failed) {
+        invocations.increment();
+        invocationTime.record(nanos);
+        if (failed) {
+            invocationFailures.increment();
+        }
+    }
+
+    void invalidated(Class<?> targetClass) {
+        resolvedClasses.remove(targetClass);
+    }
+
+    void cleared() {
+        resolvedClasses.clear();
+    }
+
+    /**
+     * Returns a snapshot of the metrics. Counters are read one after another, so accesses made while the
+     * snapshot is taken may be partially included.
+     *
+     * @return The current metrics
+     */
+    public Snapshot snapshot() {
+        long inline = inlineHits.sum();
+        long missCount = misses.sum();
+        long lookupCount = Math.max(lookups.sum(), missCount);
+        return new Snapshot(path,
+                resolvedClasses.size(),
+                inline + lookupCount - missCount,
+                missCount,
+                inline + lookupCount,
+                resolutionFailures.sum(),
+                accessFailures.sum(),
+                invocations.sum(),
+                invocationFailures.sum(),
+                resolutionTime.snapshot(),
+                readTime.snapshot(),
+                invocationTime.snapshot());
+    }
+
+    /**
+     * Registers these metrics with the platform MBean server, under the {@value #DOMAIN} domain.
+     * Registering metrics that are already registered returns the existing name.
+     *
+     * @return The name the metrics are registered under
+     * @throws IllegalStateException if the metrics cannot be registered
+     */
+    public synchronized ObjectName register() {
+        if (objectName != null) {
+            return objectName;
+        }
+        try {
+            ObjectName name = new ObjectName(DOMAIN + ":type=PathMetrics,path=" + ObjectName.quote(path)
+                    + ",id=" + Integer.toHexString(System.identityHashCode(this)));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, name);
+            objectName = name;
+            return name;
+        } catch (JMException e) {
+            throw new IllegalStateException("Failed to register metrics of path " + path, e);
+        }
+    }
+
+    /**
+     * Removes these metrics from the platform MBean server, if they are registered.
+     */
+    public synchronized void unregister() {
+        ObjectName name = objectName;
+        if (name == null) {
+            return;
+        }
+        objectName = null;
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            server.unregisterMBean(name);
+        } catch (InstanceNotFoundException e) {
+            // Already removed through the MBean server
+        } catch (JMException e) {
+            throw new IllegalStateException("Failed to unregister metrics of path " + path, e);
+        }
+    }
+
+    @Override
+    public String getPath() {
+        return path;
+    }
+
+    @Override
+    public int getCacheSize() {
+        return resolvedClasses.size();
+    }
+
+    @Override
+    public long getCacheHits() {
+        long missCount = misses.sum();
+        return inlineHits.sum() + Math.max(lookups.sum(), missCount) - missCount;
+    }
+
+    @Override
+    public long getCacheMisses() {
+        return misses.sum();
+    }
+
+    @Override
+    public long getAccesses() {
+        return inlineHits.sum() + Math.max(lookups.sum(), misses.sum());
+    }
+
+    @Override
+    public long getResolutionFailures() {
+        return resolutionFailures.sum();
+    }
+
+    @Override
+    public long getAccessFailures() {
+        return accessFailures.sum();
+    }
+
+    @Override
+    public long getInvocations() {
+        return invocations.sum();
+    }
+
+    @Override
+    public long getInvocationFailures() {
+        return invocationFailures.sum();
+    }
+
+    @Override
+    public double getResolutionTimeMeanNanos() {
+        return resolutionTime.meanNanos();
+    }
+
+    @Override
+    public long getResolutionTime99thPercentileNanos() {
+        return resolutionTime.percentileNanos(0.99);
+    }
+
+    @Override
+    public double getReadTimeMeanNanos() {
+        return readTime.meanNanos();
+    }
+
+    @Override
+    public long getReadTime99thPercentileNanos() {
+        return readTime.percentileNanos(0.99);
+    }
+
+    @Override
+    public double getInvocationTimeMeanNanos() {
+        return invocationTime.meanNanos();
+    }
+
+    @Override
+    public long getInvocationTime99thPercentileNanos() {
+        return invocationTime.percentileNanos(0.99);
+    }
+
+    @Override
+    public void reset() {
+        inlineHits.reset();
+        lookups.reset();
+        misses.reset();
+        resolutionFailures.reset();
+        accessFailures.reset();
+        invocations.reset();
+        invocationFailures.reset();
+        resolutionTime.reset();
+        readTime.reset();
+        invocationTime.reset();
+    }
+
+    /**
+     * Snapshot of the metrics of a ReflectionPath.
+     *
+     * @param path The path expression
+     * @param cacheSize The number of target classes currently resolved by the path
+     * @param cacheHits The number of accesses that were served by the cache
+     * @param cacheMisses The number of accesses that had to resolve the path against a new target class
+     * @param accesses The number of reads, writes and invocations through the path
+     * @param resolutionFailures The number of target classes the path could not be resolved against
+     * @param accessFailures The number of reads and writes that failed
+     * @param invocations The number of method invocations through the path
+     * @param invocationFailures The number of method invocations that failed
+     * @param resolutionTime The distribution of the time to resolve the path against a target class
+     * @param readTime The distribution of the time of reads, including resolution on a cache miss
+     * @param invocationTime The distribution of the time of method invocations
+     */
+    public record Snapshot(String path,
+                           int cacheSize,
+                           long cacheHits,
+                           long cacheMisses,
+                           long accesses,
+                           long resolutionFailures,
+                           long accessFailures,
+                           long invocations,
+                           long invocationFailures,
+                           LatencyHistogram.Snapshot resolutionTime,
+                           LatencyHistogram.Snapshot readTime,
+                           LatencyHistogram.Snapshot invocationTime) {
+        /**
+         * Returns the ratio of cache hits to accesses.
+         *
+         * @return The hit rate between 0 and 1, or 0 if the path was never accessed
+         */
+        public double hitRate() {
+            return accesses == 0 ? 0 : (double) cacheHits / accesses;
+        }
+    }
+}
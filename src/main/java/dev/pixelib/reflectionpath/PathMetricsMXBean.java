@@ -0,0 +1,86 @@
+package dev.pixelib.reflectionpath;
+
+/**
+ * Management interface of {@link PathMetrics}, exposed through JMX by {@link PathMetrics#register()}.
+ */
+public interface PathMetricsMXBean {
+    /**
+     * @return The path expression the metrics are collected for
+     */
+    String getPath();
+
+    /**
+     * @return The number of target classes currently resolved by the path
+     */
+    int getCacheSize();
+
+    /**
+     * @return The number of accesses that were served by the cache
+     */
+    long getCacheHits();
+
+    /**
+     * @return The number of accesses that had to resolve the path against a new target class
+     */
+    long getCacheMisses();
+
+    /**
+     * @return The number of reads, writes and invocations through the path
+     */
+    long getAccesses();
+
+    /**
+     * @return The number of target classes the path could not be resolved against
+     */
+    long getResolutionFailures();
+
+    /**
+     * @return The number of reads and writes that failed
+     */
+    long getAccessFailures();
+
+    /**
+     * @return The number of method invocations through the path
+     */
+    long getInvocations();
+
+    /**
+     * @return The number of method invocations that failed
+     */
+    long getInvocationFailures();
+
+    /**
+     * @return The mean time to resolve the path against a target class in nanoseconds
+     */
+    double getResolutionTimeMeanNanos();
+
+    /**
+     * @return The 99th percentile of the time to resolve the path against a target class in nanoseconds
+     */
+    long getResolutionTime99thPercentileNanos();
+
+    /**
+     * @return The mean time of a read in nanoseconds
+     */
+    double getReadTimeMeanNanos();
+
+    /**
+     * @return The 99th percentile of the time of a read in nanoseconds
+     */
+    long getReadTime99thPercentileNanos();
+
+    /**
+     * @return The mean time of a method invocation in nanoseconds
+     */
+    double getInvocationTimeMeanNanos();
+
+    /**
+     * @return The 99th percentile of the time of a method invocation in nanoseconds
+     */
+    long getInvocationTime99thPercentileNanos();
+
+    /**
+     * Resets all counters and histograms. The cache size is not affected.
+     */
+    void reset();
+}
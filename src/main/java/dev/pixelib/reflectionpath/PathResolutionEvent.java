@@ -0,0 +1,56 @@
+package dev.pixelib.reflectionpath;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event emitted when a ReflectionPath is resolved against a target class it has not seen before.
+ */
+@Name("dev.pixelib.reflectionpath.PathResolution")
+@Label("Path Resolution")
+@Category("ReflectionPath")
+@Description("Resolution of a path against a new target class")
+final class PathResolutionEvent extends Event {
+    static final String SCAN = "Scan";
+    static final String MANIFEST = "Manifest";
+    static final String SHARED_CACHE = "Shared Cache";
+    static final String SUPERCLASS = "Superclass";
+
+    @Label("Path")
+    String path;
+
+    @Label("Target Class")
+    Class<?> targetClass;
+
+    @Label("Strategy")
+    String strategy;
+
+    @Label("Members Scanned")
+    @Description("Number of members matched against the segments of the path")
+    int membersScanned;
+
+    @Label("Source")
+    @Description("Whether the members were found by scanning, through the manifest, in the shared cache or were "
+            + "inherited from the resolution of a superclass")
+    String source = SHARED_CACHE;
+
+    @Label("Failed")
+    boolean failed;
+
+    /**
+     * Ends the event and commits it if it is enabled.
+     */
+    void finish(String resolvedPath, Class<?> resolvedClass, String resolutionStrategy, boolean resolutionFailed) {
+        end();
+        if (shouldCommit()) {
+            path = resolvedPath;
+            targetClass = resolvedClass;
+            strategy = resolutionStrategy;
+            failed = resolutionFailed;
+            commit();
+        }
+    }
+}
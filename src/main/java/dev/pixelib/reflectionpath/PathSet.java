@@ -0,0 +1,286 @@
+package dev.pixelib.reflectionpath;
+
+import dev.pixelib.reflectionpath.errors.ReflectionException;
+import dev.pixelib.reflectionpath.resolution.AccessBackend;
+import dev.pixelib.reflectionpath.resolution.PathResolutionStrategy;
+import dev.pixelib.reflectionpath.resolution.ResolvedPath;
+
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * PathSet reads many paths from the same root object at once.
+ *
+ * <p>The paths are resolved per target class and merged into a prefix trie of their members, so members
+ * shared by several paths are read only once per extraction. For example, reading
+ * {@code "connection.channel"} and {@code "connection.address"} reads {@code connection} a single time.
+ * Each member is read through the backend of its path, and null-safe steps evaluate to null for every path
+ * below them, as they do for a single ReflectionPath. Extracting paths with index, key or wildcard steps fails.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * PathSet paths = new PathSet("connection.channel", "connection.address", "profile.name");
+ * Object[] values = paths.extract(handle);
+ * }</pre>
+ *
+ * <p>This class is thread-safe. Tries are cached per target class through a {@link ClassValue}, so settings
+ * changed on the individual paths only apply after {@link #clear()}.
+ *
+ * @see ReflectionPath
+ */
+public final class PathSet {
+    private final List<ReflectionPath> paths;
+    private volatile ClassValue<Node> tries = newCache();
+
+    /**
+     * Constructs a new PathSet with the specified path expressions using the default
+     * FIRST_MATCH resolution strategy.
+     *
+     * @param paths The path expressions to read
+     * @throws IllegalArgumentException if no paths are given or one of them is null, empty or malformed
+     */
+    public PathSet(String... paths) {
+        this(PathResolutionStrategy.FIRST_MATCH, paths);
+    }
+
+    /**
+     * Constructs a new PathSet with the specified path expressions and resolution strategy.
+     *
+     * @param strategy The strategy to use when multiple matches are found
+     * @param paths The path expressions to read
+     * @throws IllegalArgumentException if no paths are given or one of them is null, empty or malformed
+     */
+    public PathSet(PathResolutionStrategy strategy, String... paths) {
+        if (paths == null || paths.length == 0) {
+            throw new IllegalArgumentException("Paths cannot be null or empty");
+        }
+        List<ReflectionPath> compiled = new ArrayList<>(paths.length);
+        for (String path : paths) {
+            compiled.add(new ReflectionPath(path, strategy));
+        }
+        this.paths = List.copyOf(compiled);
+    }
+
+    /**
+     * Determines if every step of every path is null-safe, see {@link ReflectionPath#setNullSafe(boolean)}.
+     *
+     * @param nullSafe true to make every step null-safe, false to only honor {@code ?.} in the expressions
+     */
+    public void setNullSafe(boolean nullSafe) {
+        paths.forEach(path -> path.setNullSafe(nullSafe));
+        clear();
+    }
+
+    /**
+     * Selects the backend used to access members of every path,
+     * see {@link ReflectionPath#setBackend(AccessBackend)}.
+     *
+     * @param backend The backend to use
+     * @throws IllegalArgumentException if the backend is null
+     */
+    public void setBackend(AccessBackend backend) {
+        if (backend == null) {
+            throw new IllegalArgumentException("Backend cannot be null");
+        }
+        paths.forEach(path -> path.setBackend(backend));
+        clear();
+    }
+
+    /**
+     * Returns the number of paths in this set.
+     *
+     * @return The number of paths
+     */
+    public int size() {
+        return paths.size();
+    }
+
+    /**
+     * Returns the paths of this set, in the order their values are extracted.
+     *
+     * @return The paths
+     */
+    public List<ReflectionPath> paths() {
+        return paths;
+    }
+
+    /**
+     * Reads all paths from the target object.
+     *
+     * @param target The target object to resolve the paths from
+     * @return The values of the paths, in the order the paths were given
+     * @throws ReflectionException if a path cannot be resolved or read
+     */
+    public Object[] extract(Object target) {
+        Object[] results = new Object[paths.size()];
+        extract(target, results);
+        return results;
+    }
+
+    /**
+     * Reads all paths from the target object into the given array.
+     *
+     * @param target The target object to resolve the paths from
+     * @param results The array to store the values in, in the order the paths were given
+     * @throws ReflectionException if a path cannot be resolved or read
+     * @throws IllegalArgumentException if the array does not have exactly one element per path
+     */
+    public void extract(Object target, Object[] results) {
+        if (results.length != paths.size()) {
+            throw new IllegalArgumentException(
+                    "Expected an array of length " + paths.size() + " but got " + results.length);
+        }
+        extract(target, (index, value) -> results[index] = value);
+    }
+
+    /**
+     * Reads all paths from the target object and passes each value to the sink.
+     * Values are passed in trie order, which is not necessarily the order the paths were given.
+     *
+     * @param target The target object to resolve the paths from
+     * @param sink The sink receiving the index of each path with its value
+     * @throws ReflectionException if a path cannot be resolved or read
+     */
+    public void extract(Object target, Sink sink) {
+        if (target == null) {
+            throw new ReflectionException("Target object cannot be null");
+        }
+        try {
+            evaluate(tries.get(target.getClass()), target, sink);
+        } catch (Exception e) {
+            throw new ReflectionException("Failed to extract paths", e);
+        }
+    }
+
+    /**
+     * Discards the trie of a single target class, for example after the class was redefined.
+     *
+     * @param targetClass The class to discard the trie of
+     */
+    public void invalidate(Class<?> targetClass) {
+        tries.remove(targetClass);
+    }
+
+    /**
+     * Discards the tries of all target classes.
+     */
+    public void clear() {
+        tries = newCache();
+    }
+
+    private static void evaluate(Node node, Object value, Sink sink) throws Exception {
+        for (int leaf : node.leaves) {
+            sink.accept(leaf, value);
+        }
+        for (Node child : node.children) {
+            if (value == null && child.nullSafe) {
+                child.acceptNull(sink);
+            } else {
+                evaluate(child, child.path.getValue(value), sink);
+            }
+        }
+    }
+
+    private ClassValue<Node> newCache() {
+        return new ClassValue<>() {
+            @Override
+            protected Node computeValue(Class<?> targetClass) {
+                return build(targetClass);
+            }
+        };
+    }
+
+    private Node build(Class<?> targetClass) {
+        Builder root = new Builder(null);
+        for (int i = 0; i < paths.size(); i++) {
+            ReflectionPath path = paths.get(i);
+            Builder node = root;
+            Class<?> receiverClass = targetClass;
+            List<AccessibleObject> chain = path.resolveChain(targetClass);
+            for (int segment = 0; segment < chain.size(); segment++) {
+                AccessibleObject member = chain.get(segment);
+                if (member instanceof Method method && method.getParameterCount() != 0) {
+                    throw new ReflectionException("Method " + method.getName() + " requires arguments");
+                }
+                Class<?> memberClass = receiverClass;
+                node = node.children.computeIfAbsent(new Step(member, path.isNullSafe(segment)),
+                        step -> new Builder(path.linkMember(memberClass, step.member)));
+                receiverClass = member instanceof Field field ? field.getType() : ((Method) member).getReturnType();
+            }
+            node.leaves.add(i);
+        }
+        return root.build(false);
+    }
+
+    /**
+     * Receives the values read by {@link #extract(Object, Sink)}.
+     */
+    @FunctionalInterface
+    public interface Sink {
+        /**
+         * Accepts the value of a path.
+         *
+         * @param index The index of the path in this set
+         * @param value The value of the path
+         */
+        void accept(int index, Object value);
+    }
+
+    /**
+     * Member of a path in the trie, together with whether the path is null-safe at that member.
+     */
+    private record Step(AccessibleObject member, boolean nullSafe) {
+    }
+
+    /**
+     * Immutable trie node reading a single member through its linked path. The root node has no path and reads
+     * nothing. A null-safe node evaluates to null, together with all nodes below it, when applied to null.
+     */
+    private static final class Node {
+        private final ResolvedPath path;
+        private final boolean nullSafe;
+        private final Node[] children;
+        private final int[] leaves;
+
+        private Node(ResolvedPath path, boolean nullSafe, Node[] children, int[] leaves) {
+            this.path = path;
+            this.nullSafe = nullSafe;
+            this.children = children;
+            this.leaves = leaves;
+        }
+
+        private void acceptNull(Sink sink) {
+            for (int leaf : leaves) {
+                sink.accept(leaf, null);
+            }
+            for (Node child : children) {
+                child.acceptNull(sink);
+            }
+        }
+    }
+
+    private static final class Builder {
+        private final ResolvedPath path;
+        private final Map<Step, Builder> children = new LinkedHashMap<>();
+        private final List<Integer> leaves = new ArrayList<>();
+
+        private Builder(ResolvedPath path) {
+            this.path = path;
+        }
+
+        private Node build(boolean nullSafe) {
+            Node[] builtChildren = new Node[children.size()];
+            int i = 0;
+            for (Map.Entry<Step, Builder> child : children.entrySet()) {
+                builtChildren[i++] = child.getValue().build(child.getKey().nullSafe);
+            }
+            return new Node(path, nullSafe, builtChildren,
+                    leaves.stream().mapToInt(Integer::intValue).toArray());
+        }
+    }
+}
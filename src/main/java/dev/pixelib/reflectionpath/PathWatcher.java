@@ -0,0 +1,587 @@
+package dev.pixelib.reflectionpath;
+
+import dev.pixelib.reflectionpath.errors.ReflectionException;
+import dev.pixelib.reflectionpath.resolution.ResolvedPath;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * PathWatcher polls the values of many paths on their targets and reports only the values that changed,
+ * for example once per server tick.
+ *
+ * <p>Every watch resolves its path against the class of its target once, when it is registered, and reads it
+ * without consulting the path cache afterwards. Watches registered with {@link #watchInt(Object, ReflectionPath)},
+ * {@link #watchLong(Object, ReflectionPath)}, {@link #watchDouble(Object, ReflectionPath)} and
+ * {@link #watchBoolean(Object, ReflectionPath)} keep their last value in a primitive array and are compared
+ * without boxing, doubles by their bits. Other watches compare their values with {@link Objects#equals}.
+ *
+ * <p>{@link #poll()} reads all watches, in parallel on the common fork-join pool if the watcher was created with
+ * a parallelism above one and there are enough watches, then notifies the listener of the changed watches one
+ * at a time on the polling thread, in registration order. A watch that fails to read keeps its last value and is
+ * reported to {@link Listener#failed(Watch, ReflectionException)}, without affecting the other watches. The
+ * listener is called after the watcher released its lock, so it may register, remove and poll watches from any
+ * thread.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * PathWatcher watcher = new PathWatcher(watch -> broadcast(watch.target(), watch.intValue()), 4);
+ * ReflectionPath health = new ReflectionPath("health");
+ * for (Entity entity : entities) {
+ *     watcher.watchInt(entity, health);
+ * }
+ * // Every tick
+ * watcher.poll();
+ * }</pre>
+ *
+ * <p>This class is thread-safe. Watches keep their targets strongly reachable until they are removed.
+ *
+ * @see ReflectionPath
+ */
+public final class PathWatcher {
+    /** Watches read per task, at least, when polling in parallel */
+    static final int MIN_CHUNK_SIZE = 1024;
+
+    private final Listener listener;
+    private final int parallelism;
+
+    private int size;
+    private Watch[] watches = new Watch[16];
+    private Object[] targets = new Object[16];
+    private ResolvedPath[] paths = new ResolvedPath[16];
+    private Kind[] kinds = new Kind[16];
+    /** Last values of primitive watches, ints, longs and booleans widened to long and doubles as raw bits */
+    private long[] bits = new long[16];
+    private long[] previousBits = new long[16];
+    private long[] nextBits = new long[16];
+    private Object[] values = new Object[16];
+    private Object[] previousValues = new Object[16];
+    private Object[] nextValues = new Object[16];
+    private boolean[] changed = new boolean[16];
+    /** Failures of the watches read by the current poll or registration */
+    private ReflectionException[] failures = new ReflectionException[16];
+
+    /**
+     * Constructs a new PathWatcher that reads all watches on the polling thread.
+     *
+     * @param listener The listener notified of every changed watch
+     * @throws IllegalArgumentException if the listener is null
+     */
+    public PathWatcher(Listener listener) {
+        this(listener, 1);
+    }
+
+    /**
+     * Constructs a new PathWatcher that splits reading the watches into up to the given number of tasks.
+     *
+     * @param listener The listener notified of every changed watch
+     * @param parallelism The maximum number of tasks reading watches at once, 1 to read on the polling thread
+     * @throws IllegalArgumentException if the listener is null or the parallelism is not positive
+     */
+    public PathWatcher(Listener listener, int parallelism) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null");
+        }
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        this.listener = listener;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Watches the value at a path, compared with {@link Objects#equals}.
+     *
+     * @param target The object to read the path from
+     * @param path The path to watch
+     * @return The registered watch
+     * @throws ReflectionException if the path cannot be resolved against the class of the target or read
+     * @throws IllegalArgumentException if the target or path is null
+     */
+    public Watch watch(Object target, ReflectionPath path) {
+        return add(target, path, Kind.OBJECT);
+    }
+
+    /**
+     * Watches the int value at a path, compared without boxing.
+     *
+     * @param target The object to read the path from
+     * @param path The path to watch
+     * @return The registered watch
+     * @throws ReflectionException if the path cannot be resolved against the class of the target or does not
+     *                             hold an int compatible value
+     * @throws IllegalArgumentException if the target or path is null
+     */
+    public Watch watchInt(Object target, ReflectionPath path) {
+        return add(target, path, Kind.INT);
+    }
+
+    /**
+     * Watches the long value at a path, compared without boxing.
+     *
+     * @param target The object to read the path from
+     * @param path The path to watch
+     * @return The registered watch
+     * @throws ReflectionException if the path cannot be resolved against the class of the target or does not
+     *                             hold a long compatible value
+     * @throws IllegalArgumentException if the target or path is null
+     */
+    public Watch watchLong(Object target, ReflectionPath path) {
+        return add(target, path, Kind.LONG);
+    }
+
+    /**
+     * Watches the double value at a path, compared by its bits without boxing, so a NaN value is not reported
+     * as changed on every poll.
+     *
+     * @param target The object to read the path from
+     * @param path The path to watch
+     * @return The registered watch
+     * @throws ReflectionException if the path cannot be resolved against the class of the target or does not
+     *                             hold a double compatible value
+     * @throws IllegalArgumentException if the target or path is null
+     */
+    public Watch watchDouble(Object target, ReflectionPath path) {
+        return add(target, path, Kind.DOUBLE);
+    }
+
+    /**
+     * Watches the boolean value at a path, compared without boxing.
+     *
+     * @param target The object to read the path from
+     * @param path The path to watch
+     * @return The registered watch
+     * @throws ReflectionException if the path cannot be resolved against the class of the target or does not
+     *                             hold a boolean
+     * @throws IllegalArgumentException if the target or path is null
+     */
+    public Watch watchBoolean(Object target, ReflectionPath path) {
+        return add(target, path, Kind.BOOLEAN);
+    }
+
+    /**
+     * Stops watching. Removing a watch during a poll, for example from the listener, takes effect immediately.
+     *
+     * @param watch The watch to remove
+     * @return true if the watch was registered with this watcher and is now removed
+     */
+    public synchronized boolean unwatch(Watch watch) {
+        if (watch == null || watch.watcher() != this || watch.index < 0) {
+            return false;
+        }
+        int index = watch.index;
+        int moved = size - index - 1;
+        System.arraycopy(watches, index + 1, watches, index, moved);
+        System.arraycopy(targets, index + 1, targets, index, moved);
+        System.arraycopy(paths, index + 1, paths, index, moved);
+        System.arraycopy(kinds, index + 1, kinds, index, moved);
+        System.arraycopy(bits, index + 1, bits, index, moved);
+        System.arraycopy(previousBits, index + 1, previousBits, index, moved);
+        System.arraycopy(values, index + 1, values, index, moved);
+        System.arraycopy(previousValues, index + 1, previousValues, index, moved);
+        size--;
+        clear(size);
+        for (int i = index; i < size; i++) {
+            watches[i].index = i;
+        }
+        watch.index = -1;
+        return true;
+    }
+
+    /**
+     * Returns the number of registered watches.
+     *
+     * @return The number of watches
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Reads every watch and notifies the listener of those whose value changed since the previous poll, or since
+     * they were registered, followed by those that failed to read. Watches removed before the listener would be
+     * notified of them are skipped.
+     *
+     * @return The number of changed watches
+     */
+    public int poll() {
+        Watch[] changedWatches = null;
+        int changes = 0;
+        Watch[] failedWatches = null;
+        ReflectionException[] errors = null;
+        int failed = 0;
+
+        synchronized (this) {
+            int count = size;
+            int tasks = Math.min(parallelism, count / MIN_CHUNK_SIZE);
+            if (tasks <= 1) {
+                read(0, count);
+            } else {
+                ForkJoinPool.commonPool().invoke(new Reader(0, count, tasks));
+            }
+
+            for (int i = 0; i < count; i++) {
+                if (changed[i]) {
+                    changed[i] = false;
+                    previousBits[i] = bits[i];
+                    bits[i] = nextBits[i];
+                    previousValues[i] = values[i];
+                    values[i] = nextValues[i];
+                    if (changedWatches == null) {
+                        changedWatches = new Watch[count - i];
+                    }
+                    changedWatches[changes++] = watches[i];
+                } else if (failures[i] != null) {
+                    if (failedWatches == null) {
+                        failedWatches = new Watch[count - i];
+                        errors = new ReflectionException[count - i];
+                    }
+                    failedWatches[failed] = watches[i];
+                    errors[failed++] = failures[i];
+                    failures[i] = null;
+                }
+                nextValues[i] = null;
+            }
+        }
+
+        // Listeners run without the lock, so they may register, remove and poll watches on any thread
+        for (int i = 0; i < changes; i++) {
+            if (isWatched(changedWatches[i])) {
+                listener.changed(changedWatches[i]);
+            }
+        }
+        for (int i = 0; i < failed; i++) {
+            if (isWatched(failedWatches[i])) {
+                listener.failed(failedWatches[i], errors[i]);
+            }
+        }
+        return changes;
+    }
+
+    private synchronized boolean isWatched(Watch watch) {
+        return watch.index >= 0;
+    }
+
+    private synchronized Watch add(Object target, ReflectionPath path, Kind kind) {
+        if (target == null || path == null) {
+            throw new IllegalArgumentException("Target and path cannot be null");
+        }
+        ResolvedPath resolvedPath = path.bind(target.getClass());
+        if (size == watches.length) {
+            grow();
+        }
+
+        int index = size;
+        Watch watch = new Watch(target, path, index);
+        watches[index] = watch;
+        targets[index] = target;
+        paths[index] = resolvedPath;
+        kinds[index] = kind;
+        read(index, index + 1);
+        ReflectionException failure = failures[index];
+        if (failure != null) {
+            clear(index);
+            throw failure;
+        }
+        changed[index] = false;
+        bits[index] = nextBits[index];
+        previousBits[index] = nextBits[index];
+        values[index] = nextValues[index];
+        previousValues[index] = nextValues[index];
+        nextValues[index] = null;
+        size++;
+        return watch;
+    }
+
+    /**
+     * Reads the watches in a range into the next values and marks those that differ from their last value.
+     * Watches that fail to read are not marked, and their failure is kept instead.
+     */
+    private void read(int from, int to) {
+        for (int i = from; i < to; i++) {
+            Object target = targets[i];
+            ResolvedPath path = paths[i];
+            try {
+                switch (kinds[i]) {
+                    case INT -> compare(i, path.getInt(target));
+                    case LONG -> compare(i, path.getLong(target));
+                    case DOUBLE -> compare(i, Double.doubleToRawLongBits(path.getDouble(target)));
+                    case BOOLEAN -> compare(i, path.getBoolean(target) ? 1 : 0);
+                    case OBJECT -> {
+                        Object value = path.getValue(target);
+                        nextValues[i] = value;
+                        changed[i] = !Objects.equals(value, values[i]);
+                    }
+                }
+            } catch (Exception e) {
+                changed[i] = false;
+                nextValues[i] = null;
+                failures[i] = new ReflectionException("Failed to read '" + watches[i].path.getPath() + "' of "
+                        + target.getClass().getName(), e);
+            }
+        }
+    }
+
+    private void compare(int index, long value) {
+        nextBits[index] = value;
+        changed[index] = value != bits[index];
+    }
+
+    private void clear(int index) {
+        watches[index] = null;
+        targets[index] = null;
+        paths[index] = null;
+        kinds[index] = null;
+        values[index] = null;
+        previousValues[index] = null;
+        nextValues[index] = null;
+        changed[index] = false;
+        failures[index] = null;
+    }
+
+    private void grow() {
+        int capacity = watches.length * 2;
+        watches = Arrays.copyOf(watches, capacity);
+        targets = Arrays.copyOf(targets, capacity);
+        paths = Arrays.copyOf(paths, capacity);
+        kinds = Arrays.copyOf(kinds, capacity);
+        bits = Arrays.copyOf(bits, capacity);
+        previousBits = Arrays.copyOf(previousBits, capacity);
+        nextBits = Arrays.copyOf(nextBits, capacity);
+        values = Arrays.copyOf(values, capacity);
+        previousValues = Arrays.copyOf(previousValues, capacity);
+        nextValues = Arrays.copyOf(nextValues, capacity);
+        changed = Arrays.copyOf(changed, capacity);
+        failures = Arrays.copyOf(failures, capacity);
+    }
+
+    private static Object box(Kind kind, long bits, Object value) {
+        return switch (kind) {
+            case INT -> (int) bits;
+            case LONG -> bits;
+            case DOUBLE -> Double.longBitsToDouble(bits);
+            case BOOLEAN -> bits != 0;
+            case OBJECT -> value;
+        };
+    }
+
+    /**
+     * Listener notified of changed watches.
+     */
+    @FunctionalInterface
+    public interface Listener {
+        /**
+         * Called once per poll for every watch whose value changed, on the polling thread.
+         *
+         * @param watch The changed watch, holding its new and previous value
+         */
+        void changed(Watch watch);
+
+        /**
+         * Called once per poll for every watch that failed to read, on the polling thread. The watch keeps its last
+         * value and is read again by the next poll. Failures are ignored by default.
+         *
+         * @param watch The watch that failed to read
+         * @param exception The failure
+         */
+        default void failed(Watch watch, ReflectionException exception) {
+        }
+    }
+
+    /**
+     * A path watched on a single target. The values of a watch are those seen by the most recent poll that
+     * reported it as changed, or at registration.
+     */
+    public final class Watch {
+        private final Object target;
+        private final ReflectionPath path;
+        /** Position in the arrays of the watcher, or -1 once removed. Guarded by the watcher */
+        private int index;
+
+        private Watch(Object target, ReflectionPath path, int index) {
+            this.target = target;
+            this.path = path;
+            this.index = index;
+        }
+
+        /**
+         * Returns the object the path is read from.
+         *
+         * @return The target of this watch
+         */
+        public Object target() {
+            return target;
+        }
+
+        /**
+         * Returns the watched path.
+         *
+         * @return The path of this watch
+         */
+        public ReflectionPath path() {
+            return path;
+        }
+
+        /**
+         * Returns the current value, boxed if the watch holds a primitive value.
+         *
+         * @return The current value
+         * @throws IllegalStateException if the watch was removed
+         */
+        public Object value() {
+            synchronized (PathWatcher.this) {
+                int i = index(null);
+                return box(kinds[i], bits[i], values[i]);
+            }
+        }
+
+        /**
+         * Returns the value before the most recent change, boxed if the watch holds a primitive value.
+         *
+         * @return The previous value, or the current value if it did not change since registration
+         * @throws IllegalStateException if the watch was removed
+         */
+        public Object previousValue() {
+            synchronized (PathWatcher.this) {
+                int i = index(null);
+                return box(kinds[i], previousBits[i], previousValues[i]);
+            }
+        }
+
+        /**
+         * Returns the current value of a watch registered with {@link #watchInt(Object, ReflectionPath)}.
+         *
+         * @return The current int value
+         * @throws IllegalStateException if the watch was removed or does not hold an int
+         */
+        public int intValue() {
+            synchronized (PathWatcher.this) {
+                return (int) bits[index(Kind.INT)];
+            }
+        }
+
+        /**
+         * Returns the int value before the most recent change.
+         *
+         * @return The previous int value
+         * @throws IllegalStateException if the watch was removed or does not hold an int
+         */
+        public int previousIntValue() {
+            synchronized (PathWatcher.this) {
+                return (int) previousBits[index(Kind.INT)];
+            }
+        }
+
+        /**
+         * Returns the current value of a watch registered with {@link #watchLong(Object, ReflectionPath)}.
+         *
+         * @return The current long value
+         * @throws IllegalStateException if the watch was removed or does not hold a long
+         */
+        public long longValue() {
+            synchronized (PathWatcher.this) {
+                return bits[index(Kind.LONG)];
+            }
+        }
+
+        /**
+         * Returns the long value before the most recent change.
+         *
+         * @return The previous long value
+         * @throws IllegalStateException if the watch was removed or does not hold a long
+         */
+        public long previousLongValue() {
+            synchronized (PathWatcher.this) {
+                return previousBits[index(Kind.LONG)];
+            }
+        }
+
+        /**
+         * Returns the current value of a watch registered with {@link #watchDouble(Object, ReflectionPath)}.
+         *
+         * @return The current double value
+         * @throws IllegalStateException if the watch was removed or does not hold a double
+         */
+        public double doubleValue() {
+            synchronized (PathWatcher.this) {
+                return Double.longBitsToDouble(bits[index(Kind.DOUBLE)]);
+            }
+        }
+
+        /**
+         * Returns the double value before the most recent change.
+         *
+         * @return The previous double value
+         * @throws IllegalStateException if the watch was removed or does not hold a double
+         */
+        public double previousDoubleValue() {
+            synchronized (PathWatcher.this) {
+                return Double.longBitsToDouble(previousBits[index(Kind.DOUBLE)]);
+            }
+        }
+
+        /**
+         * Returns the current value of a watch registered with {@link #watchBoolean(Object, ReflectionPath)}.
+         *
+         * @return The current boolean value
+         * @throws IllegalStateException if the watch was removed or does not hold a boolean
+         */
+        public boolean booleanValue() {
+            synchronized (PathWatcher.this) {
+                return bits[index(Kind.BOOLEAN)] != 0;
+            }
+        }
+
+        private PathWatcher watcher() {
+            return PathWatcher.this;
+        }
+
+        private int index(Kind expected) {
+            if (index < 0) {
+                throw new IllegalStateException("Watch was removed");
+            }
+            if (expected != null && kinds[index] != expected) {
+                throw new IllegalStateException("Watch holds " + kinds[index].name().toLowerCase(Locale.ROOT) + " values");
+            }
+            return index;
+        }
+
+        @Override
+        public String toString() {
+            return "Watch[" + path.getPath() + " of " + target.getClass().getName() + "]";
+        }
+    }
+
+    private enum Kind {
+        OBJECT, INT, LONG, DOUBLE, BOOLEAN
+    }
+
+    /**
+     * Reads a range of watches, split into the given number of tasks.
+     */
+    private final class Reader extends RecursiveAction {
+        private final int from;
+        private final int to;
+        private final int tasks;
+
+        private Reader(int from, int to, int tasks) {
+            this.from = from;
+            this.to = to;
+            this.tasks = tasks;
+        }
+
+        @Override
+        protected void compute() {
+            if (tasks == 1) {
+                read(from, to);
+                return;
+            }
+            int leftTasks = tasks / 2;
+            int middle = from + (int) ((long) (to - from) * leftTasks / tasks);
+            invokeAll(new Reader(from, middle, leftTasks), new Reader(middle, to, tasks - leftTasks));
+        }
+    }
+}
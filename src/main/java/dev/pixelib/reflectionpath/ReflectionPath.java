@@ -1,24 +1,66 @@
 package dev.pixelib.reflectionpath;
 
+import dev.pixelib.reflectionpath.errors.PathSyntaxException;
 import dev.pixelib.reflectionpath.errors.ReflectionException;
+import dev.pixelib.reflectionpath.generation.AccessorGenerator;
 import dev.pixelib.reflectionpath.records.ChainedFieldPath;
 import dev.pixelib.reflectionpath.records.ChainedMethodPath;
 import dev.pixelib.reflectionpath.records.FieldPath;
+import dev.pixelib.reflectionpath.records.HandlePath;
+import dev.pixelib.reflectionpath.records.IndexedPath;
+import dev.pixelib.reflectionpath.records.KeyedPath;
 import dev.pixelib.reflectionpath.records.MethodPath;
-import dev.pixelib.reflectionpath.resolution.PathResolutionStrategy;
+import dev.pixelib.reflectionpath.records.NullSafePath;
+import dev.pixelib.reflectionpath.records.UnresolvedPath;
+import dev.pixelib.reflectionpath.resolution.AccessBackend;
+import dev.pixelib.reflectionpath.resolution.CompiledPath;
+import dev.pixelib.reflectionpath.resolution.IndexSegment;
+import dev.pixelib.reflectionpath.resolution.KeySegment;
+import dev.pixelib.reflectionpath.resolution.NameSegment;
+import dev.pixelib.reflectionpath.resolution.PathSegment;
 import dev.pixelib.reflectionpath.resolution.PathType;
+import dev.pixelib.reflectionpath.resolution.PathResolutionStrategy;
+import dev.pixelib.reflectionpath.resolution.ResolutionCache;
+import dev.pixelib.reflectionpath.resolution.ResolutionManifest;
 import dev.pixelib.reflectionpath.resolution.ResolvedPath;
 import dev.pixelib.reflectionpath.resolution.TypePathComponent;
 
+import java.lang.ref.WeakReference;
 import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Member;
 import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.regex.Pattern;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * ReflectionPath is a utility that provides type-safe reflection capabilities for accessing fields
@@ -35,6 +77,19 @@ import java.util.regex.Pattern;
  * "[Player].[Item[]]" // Looks for a field/method returning Item[]
  * }</pre>
  *
+ * <p>Both kinds of segments can be mixed within one path, for example {@code "[Connection].type"}.
+ * Path expressions are parsed once when the ReflectionPath is created, malformed expressions are reported
+ * with a {@link PathSyntaxException} pointing at the offending position. Paths that are created repeatedly,
+ * for example from dynamically built strings, can be obtained through {@link #compile(String)}, which returns
+ * one shared instance per expression and strategy. Type-based paths can also be built from class tokens with
+ * {@link #ofTypes(Class[])}, which match member types by identity instead of by name.
+ *
+ * <p>Steps preceded by {@code ?.} instead of a dot are null-safe: if the value they are read from is null,
+ * the path evaluates to null, as in {@code "connection?.type"}. {@link #setNullSafe(boolean)} makes every
+ * step null-safe. {@link #tryGet(Object, Class)} and {@link #getOrDefault(Object, Class, Object)} never fail
+ * because of a null value or a missing member. Classes a path cannot be resolved against are remembered, so
+ * they are not scanned again on every access.
+ *
  * <p>The class provides different strategies for resolving ambiguous matches when using type-based paths:
  * <ul>
  *   <li>FIRST_MATCH: Returns the first matching member found (default)</li>
@@ -43,6 +98,21 @@ import java.util.regex.Pattern;
  * </ul>
  *
  * <p>This class is thread-safe and caches resolved reflection paths for acceptable performance.
+ * Resolved paths are cached per target class through a {@link ClassValue}, so the cache does not keep
+ * classes or their class loaders from being unloaded. The most recently used class is additionally checked
+ * by identity before the class value, which makes paths that only ever see one class almost free to look up.
+ * A path resolved against one class is reused for the other subclasses of the class declaring its first member,
+ * unless a subclass declares a member the first segment could also match, so resolving many subclasses costs
+ * one scan per distinct declaration.
+ * Resolved paths are accessed through the configured {@link AccessBackend}; the default backend can be
+ * selected with the {@value AccessBackend#PROPERTY} system property.
+ * Cache hits, resolution times and failures of individual paths can be collected with {@link #enableMetrics()}.
+ * Resolutions and slow reads or invocations are also reported to Java Flight Recorder, as the
+ * {@code dev.pixelib.reflectionpath.PathResolution} and {@code dev.pixelib.reflectionpath.SlowAccess} events.
+ *
+ * <p>A {@code *} step fans out over every element of an array, {@link Iterable} or the values of a map, as in
+ * {@code "players.*.name"}. Such paths evaluate to many values and are read with {@link #stream(Object)} or
+ * {@link #iterator(Object)}, lazily and one element at a time.
  *
  * <p>Example usage:
  * <pre>{@code
@@ -61,17 +131,47 @@ import java.util.regex.Pattern;
  *
  * @see Field
  * @see Method
- * @see ConcurrentHashMap
+ * @see ClassValue
  */
 public class ReflectionPath {
-    /** Pattern for matching type-based path components */
-    private static final Pattern TYPE_PATH_PATTERN = Pattern.compile("\\[(.*?(?:\\[\\])?)]");
+    /** System property setting the maximum number of instances interned by {@link #compile(String)} */
+    public static final String COMPILE_CACHE_SIZE_PROPERTY = "reflectionpath.compileCacheSize";
+
+    private static final int DEFAULT_COMPILE_CACHE_SIZE = 4096;
+    private static final int COMPILE_CACHE_SIZE = compileCacheSize(System.getProperty(COMPILE_CACHE_SIZE_PROPERTY));
+    /** Interned instances returned by {@link #compile(String, PathResolutionStrategy)} */
+    private static final ConcurrentMap<CompileKey, Interned> COMPILED = new ConcurrentHashMap<>();
+    /** Insertion order of the interned instances, scanned for eviction once there are too many */
+    private static final ArrayDeque<CompileKey> COMPILED_ORDER = new ArrayDeque<>();
+
+    /** Publishes the path cache created on first resolution, so that racing first calls share one cache */
+    private static final AtomicReferenceFieldUpdater<ReflectionPath, PathCache> RESOLVED_PATHS =
+            AtomicReferenceFieldUpdater.newUpdater(ReflectionPath.class, PathCache.class, "resolvedPaths");
+    private static final AtomicIntegerFieldUpdater<ReflectionPath> GENERATION =
+            AtomicIntegerFieldUpdater.newUpdater(ReflectionPath.class, "generation");
+
+    private static volatile ResolutionCache sharedCache = ResolutionCache.fromSystemProperty().orElse(null);
+    private static volatile ResolutionManifest manifest = ResolutionManifest.fromSystemProperty().orElse(null);
 
     private final String path;
-    private final ConcurrentMap<Class<?>, ResolvedPath> resolvedPaths;
-    private final PathType pathType;
+    private final CompiledPath compiledPath;
+    /** Created on first resolution, so paths that are never used do not allocate a cache */
+    private volatile PathCache resolvedPaths;
+    /** Inline cache of the last resolved class. Racy reads are benign, a stale or cleared entry is a miss */
+    private WeakReference<CachedPath> lastResolved;
+    /**
+     * Incremented once resolved paths are discarded. Entries of the inline cache stamped with an older generation
+     * are misses, so a thread that looked up an entry before it was discarded cannot put it back into use.
+     */
+    private volatile int generation;
     private final PathResolutionStrategy resolutionStrategy;
     private boolean ignoreToString = true;
+    private boolean nullSafe;
+    private AccessBackend backend = AccessBackend.fromSystemProperty();
+    /** Null unless metrics are enabled, so paths without metrics only pay for a null check */
+    private PathMetrics metrics;
+    /** Stages of a wildcard path, created on first use of {@link #iterator(Object)} */
+    private volatile FanOut.Plan fanOutPlan;
 
     /**
      * Constructs a new ReflectionPath with the specified path expression using the default
@@ -79,6 +179,7 @@ public class ReflectionPath {
      *
      * @param path The path expression to resolve
      * @throws IllegalArgumentException if the path is null or empty
+     * @throws PathSyntaxException if the path is malformed
      */
     public ReflectionPath(String path) {
         this(path, PathResolutionStrategy.FIRST_MATCH);
@@ -91,287 +192,1734 @@ public class ReflectionPath {
      */
     public void setIgnoreToString(boolean ignoreToString) {
         this.ignoreToString = ignoreToString;
+        clear();
     }
 
     /**
-     * Constructs a new ReflectionPath with the specified path expression and resolution strategy.
+     * Determines if every step of the path is null-safe, as if all dots were written as {@code ?.}.
+     * Null-safe paths evaluate to null instead of failing when a step is applied to null.
      *
-     * @param path The path expression to resolve
-     * @param strategy The strategy to use when multiple matches are found
-     * @throws IllegalArgumentException if the path is null or empty
+     * @param nullSafe true to make every step null-safe, false to only honor {@code ?.} in the expression
      */
-    public ReflectionPath(String path, PathResolutionStrategy strategy) {
-        if (path == null || path.isEmpty()) {
-            throw new IllegalArgumentException("Path cannot be null or empty");
-        }
-        this.path = path;
-        this.resolvedPaths = new ConcurrentHashMap<>();
-        this.pathType = determinePathType(path);
-        this.resolutionStrategy = strategy;
+    public void setNullSafe(boolean nullSafe) {
+        this.nullSafe = nullSafe;
+        clear();
     }
 
     /**
-     * Retrieves the value at the specified path and casts it to the requested type.
+     * Selects the backend used to access members of paths resolved from now on.
+     * Paths that were already resolved are discarded so that they are resolved again with the new backend.
      *
-     * @param <T> The type to cast the result to
-     * @param target The target object to resolve the path from
-     * @param type The Class object representing the desired return type
-     * @return The value at the specified path cast to the requested type
-     * @throws ReflectionException if the path cannot be resolved or if the value cannot be cast
-     * @throws IllegalArgumentException if target or type is null
+     * @param backend The backend to use
+     * @throws IllegalArgumentException if the backend is null
      */
-    public <T> T getAs(Object target, Class<T> type) {
-        try {
-            ResolvedPath resolvedPath = resolve(target);
-            Object result = resolvedPath.getValue(target);
-            return type.cast(result);
-        } catch (Exception e) {
-            throw new ReflectionException("Failed to get value as " + type.getSimpleName(), e);
+    public void setBackend(AccessBackend backend) {
+        if (backend == null) {
+            throw new IllegalArgumentException("Backend cannot be null");
         }
+        this.backend = backend;
+        clear();
     }
 
-
     /**
-     * Invokes the method at the specified path with the provided arguments.
+     * Enables metrics for this path, or returns the existing metrics if they are already enabled.
+     * Paths that were already resolved are discarded, so that the metrics cover every resolved class.
+     * Use {@link PathMetrics#register()} to expose the metrics through JMX.
      *
-     * @param target The target object to resolve the path from
-     * @param args The arguments to pass to the method
-     * @return The result of the method invocation
-     * @throws ReflectionException if the path cannot be resolved or if the invocation fails
-     * @throws IllegalArgumentException if target is null
+     * @return The metrics of this path
      */
-    public Object invokeOn(Object target, Object... args) {
-        try {
-            return resolve(target).invoke(target, args);
-        } catch (Exception e) {
-            throw new ReflectionException("Failed to invoke method", e);
+    public synchronized PathMetrics enableMetrics() {
+        PathMetrics pathMetrics = metrics;
+        if (pathMetrics == null) {
+            pathMetrics = new PathMetrics(path);
+            metrics = pathMetrics;
+            clear();
         }
+        return pathMetrics;
     }
 
-    private PathType determinePathType(String path) {
-        return TYPE_PATH_PATTERN.matcher(path).find() ? PathType.TYPE_BASED : PathType.NAME_BASED;
-    }
-
-    private ResolvedPath resolve(Object target) {
-        if (target == null) {
-            throw new ReflectionException("Target object cannot be null");
+    /**
+     * Stops collecting metrics for this path and removes them from JMX if they were registered.
+     */
+    public synchronized void disableMetrics() {
+        PathMetrics pathMetrics = metrics;
+        if (pathMetrics != null) {
+            metrics = null;
+            pathMetrics.unregister();
         }
+    }
 
-        return resolvedPaths.computeIfAbsent(target.getClass(),
-                targetClass -> pathType == PathType.TYPE_BASED ?
-                        resolveTypePath(targetClass, parseTypePath(path)) :
-                        resolvePath(targetClass, path.split("\\.")));
+    /**
+     * Returns the metrics of this path.
+     *
+     * @return The metrics, or null if metrics are not enabled
+     */
+    public PathMetrics getMetrics() {
+        return metrics;
     }
 
-    private List<TypePathComponent> parseTypePath(String typePath) {
-        List<TypePathComponent> components = new ArrayList<>();
-        var matcher = TYPE_PATH_PATTERN.matcher(typePath);
-        while (matcher.find()) {
-            components.add(TypePathComponent.parse(matcher.group(1)));
-        }
-        return components;
+    /**
+     * Sets the resolution cache shared by all ReflectionPath instances. Instances consult the shared cache
+     * before resolving a target class they have not seen yet, so identical paths created in many places
+     * only scan each class once. Paths built from class tokens do not use the shared cache, as their expression
+     * does not identify their tokens. By default a shared cache is only used if the
+     * {@value ResolutionCache#SIZE_PROPERTY} system property is set.
+     *
+     * @param cache The shared cache, or null to disable sharing
+     */
+    public static void setSharedCache(ResolutionCache cache) {
+        sharedCache = cache;
     }
 
-    private ResolvedPath resolveTypePath(Class<?> targetClass, List<TypePathComponent> typeComponents) {
-        ResolvedPath currentPath = null;
-        Class<?> currentClass = targetClass;
+    /**
+     * Returns the resolution cache shared by all ReflectionPath instances.
+     *
+     * @return The shared cache, or null if sharing is disabled
+     */
+    public static ResolutionCache getSharedCache() {
+        return sharedCache;
+    }
 
-        for (TypePathComponent component : typeComponents) {
-            var resolvedMember = findByType(currentClass, component);
-            if (resolvedMember.isEmpty()) {
-                throw new ReflectionException(
-                        String.format("No member found of type '%s' in %s",
-                                component.typeName(),
-                                currentClass.getSimpleName()));
-            }
+    /**
+     * Sets the manifest used by all ReflectionPath instances to resolve type-based paths. Members recorded in the
+     * manifest are looked up by name instead of scanning the target class, as long as the classes involved still
+     * match the recorded fingerprint. Every full scan is recorded in the manifest, so it can be saved for the next
+     * run. Paths with index or key steps or built from class tokens are not recorded. By default a manifest is
+     * only used if the
+     * {@value ResolutionManifest#PROPERTY} system property is set.
+     *
+     * @param resolutionManifest The manifest, or null to always scan
+     */
+    public static void setManifest(ResolutionManifest resolutionManifest) {
+        manifest = resolutionManifest;
+    }
 
-            var member = resolvedMember.get();
-            member.setAccessible(true);
+    /**
+     * Returns the manifest used by all ReflectionPath instances to resolve type-based paths.
+     *
+     * @return The manifest, or null if none is used
+     */
+    public static ResolutionManifest getManifest() {
+        return manifest;
+    }
 
-            if (member instanceof Field field) {
-                currentPath = (currentPath == null)
-                        ? new FieldPath(field)
-                        : new ChainedFieldPath(currentPath, field);
-                currentClass = field.getType();
-            } else if (member instanceof Method method) {
-                currentPath = (currentPath == null)
-                        ? new MethodPath(method)
-                        : new ChainedMethodPath(currentPath, method);
-                currentClass = method.getReturnType();
-            }
-        }
+    /**
+     * Constructs a new ReflectionPath with the specified path expression and resolution strategy.
+     *
+     * @param path The path expression to resolve
+     * @param strategy The strategy to use when multiple matches are found
+     * @throws IllegalArgumentException if the path is null or empty
+     * @throws PathSyntaxException if the path is malformed
+     */
+    public ReflectionPath(String path, PathResolutionStrategy strategy) {
+        this(CompiledPath.parse(path), strategy);
+    }
 
-        if (currentPath == null) {
-            throw new ReflectionException("Failed to resolve type path: " + path);
+    /**
+     * Constructs a new ReflectionPath from an already compiled path, for example one built from class tokens with
+     * {@link CompiledPath#of(List)}.
+     *
+     * @param compiledPath The compiled path to resolve
+     * @param strategy The strategy to use when multiple matches are found
+     * @throws IllegalArgumentException if the compiled path is null or has no segments
+     */
+    public ReflectionPath(CompiledPath compiledPath, PathResolutionStrategy strategy) {
+        if (compiledPath == null) {
+            throw new IllegalArgumentException("Path cannot be null or empty");
         }
-
-        return currentPath;
+        this.path = compiledPath.expression();
+        this.compiledPath = compiledPath;
+        this.resolutionStrategy = strategy;
     }
 
-    private ResolvedPath resolvePath(Class<?> targetClass, String[] pathParts) {
-        ResolvedPath currentPath = null;
-        Class<?> currentClass = targetClass;
+    /**
+     * Returns the shared ReflectionPath for the specified path expression using the default
+     * FIRST_MATCH resolution strategy.
+     *
+     * @param path The path expression to resolve
+     * @return The shared ReflectionPath for the expression
+     * @throws IllegalArgumentException if the path is null or empty
+     * @throws PathSyntaxException if the path is malformed
+     * @see #compile(String, PathResolutionStrategy)
+     */
+    public static ReflectionPath compile(String path) {
+        return compile(path, PathResolutionStrategy.FIRST_MATCH);
+    }
 
-        for (String part : pathParts) {
-            try {
-                Field field = findField(currentClass, part);
-                field.setAccessible(true);
-                currentPath = (currentPath == null)
-                        ? new FieldPath(field)
-                        : new ChainedFieldPath(currentPath, field);
-                currentClass = field.getType();
-                continue;
-            } catch (NoSuchFieldException ignored) {
-                // Try methods next
+    /**
+     * Returns the shared ReflectionPath for the specified path expression and resolution strategy.
+     * Every call with an equal expression and strategy returns the same instance, so the expression is
+     * parsed and each target class is resolved only once, no matter how often the path is compiled.
+     *
+     * <p>At most 4096 instances are interned, or as many as the {@value #COMPILE_CACHE_SIZE_PROPERTY} system
+     * property sets. Beyond that, instances not compiled again since the last eviction scan are released in the
+     * order they were interned, so expressions built dynamically do not accumulate.
+     *
+     * <p>Because the instance is shared, settings such as {@link #setIgnoreToString(boolean)} and
+     * {@link #setBackend(AccessBackend)} affect every user of the compiled path. Use the constructors
+     * to obtain a private instance with its own settings.
+     *
+     * @param path The path expression to resolve
+     * @param strategy The strategy to use when multiple matches are found
+     * @return The shared ReflectionPath for the expression
+     * @throws IllegalArgumentException if the path is null or empty
+     * @throws PathSyntaxException if the path is malformed
+     */
+    public static ReflectionPath compile(String path, PathResolutionStrategy strategy) {
+        CompileKey key = new CompileKey(path, strategy);
+        Interned interned = COMPILED.get(key);
+        if (interned != null) {
+            if (!interned.referenced) {
+                interned.referenced = true;
             }
+            return interned.path;
+        }
 
-            try {
-                Method method = findMethod(currentClass, part);
-                method.setAccessible(true);
-                currentPath = (currentPath == null)
-                        ? new MethodPath(method)
-                        : new ChainedMethodPath(currentPath, method);
-                currentClass = method.getReturnType();
-            } catch (NoSuchMethodException e) {
-                throw new ReflectionException(
-                        "No field or method found for '" + part + "' in " + currentClass.getSimpleName());
+        ReflectionPath created = new ReflectionPath(path, strategy);
+        synchronized (COMPILED_ORDER) {
+            interned = COMPILED.putIfAbsent(key, new Interned(created));
+            if (interned != null) {
+                return interned.path;
+            }
+            COMPILED_ORDER.add(key);
+            // Second chance eviction: instances compiled again since the last scan are moved to the back once
+            while (COMPILED_ORDER.size() > COMPILE_CACHE_SIZE) {
+                CompileKey eldest = COMPILED_ORDER.poll();
+                Interned candidate = COMPILED.get(eldest);
+                if (candidate.referenced) {
+                    candidate.referenced = false;
+                    COMPILED_ORDER.add(eldest);
+                } else {
+                    COMPILED.remove(eldest);
+                }
             }
         }
+        return created;
+    }
 
-        if (currentPath == null) {
-            throw new ReflectionException("Failed to resolve path: " + path);
-        }
+    /**
+     * Returns the number of instances currently interned by {@link #compile(String, PathResolutionStrategy)}.
+     */
+    static int compiledCount() {
+        return COMPILED.size();
+    }
 
-        return currentPath;
+    /**
+     * Parses the value of the {@value #COMPILE_CACHE_SIZE_PROPERTY} system property. Invalid values fall back to the
+     * default size with a warning, as failing here would fail the initialization of this class.
+     *
+     * @param size The value of the property, may be null
+     * @return The maximum number of interned instances
+     */
+    static int compileCacheSize(String size) {
+        if (size == null || size.isBlank()) {
+            return DEFAULT_COMPILE_CACHE_SIZE;
+        }
+        try {
+            int parsed = Integer.parseInt(size.trim());
+            if (parsed > 0) {
+                return parsed;
+            }
+        } catch (NumberFormatException ignored) {
+            // Reported below
+        }
+        System.getLogger(ReflectionPath.class.getName()).log(System.Logger.Level.WARNING,
+                "Ignoring invalid value ''{0}'' of {1}, keeping at most {2,number,#} compiled paths",
+                size, COMPILE_CACHE_SIZE_PROPERTY, DEFAULT_COMPILE_CACHE_SIZE);
+        return DEFAULT_COMPILE_CACHE_SIZE;
     }
 
-    private Optional<AccessibleObject> findByType(Class<?> clazz, TypePathComponent component) {
-        List<Field> fields = findFieldsByType(clazz, component);
-        List<Method> methods = findMethodsByReturnType(clazz, component);
+    /**
+     * Creates a type-based path from class tokens using the default FIRST_MATCH resolution strategy, as in
+     * {@code ReflectionPath.ofTypes(Connection.class, ConnectionType.class)}. Every step matches the members
+     * whose type is exactly the given class, so classes that share a simple name are told apart and resolution
+     * compares classes instead of names.
+     *
+     * @param types The types of the members to traverse, in order
+     * @return A new ReflectionPath
+     * @throws IllegalArgumentException if no types are given or one of them is null
+     * @see TypePathComponent#of(Class)
+     */
+    public static ReflectionPath ofTypes(Class<?>... types) {
+        return ofTokens(types, false);
+    }
 
-        List<AccessibleObject> allMembers = new ArrayList<>();
-        allMembers.addAll(fields);
-        allMembers.addAll(methods);
+    /**
+     * Creates a type-based path from class tokens using the default FIRST_MATCH resolution strategy, where every
+     * step matches the members whose type is the given class or one of its subtypes, for example every member
+     * implementing an interface.
+     *
+     * @param types The supertypes of the members to traverse, in order
+     * @return A new ReflectionPath
+     * @throws IllegalArgumentException if no types are given or one of them is null
+     * @see TypePathComponent#assignableTo(Class)
+     */
+    public static ReflectionPath ofAssignableTypes(Class<?>... types) {
+        return ofTokens(types, true);
+    }
 
-        if (allMembers.isEmpty()) {
-            return Optional.empty();
+    private static ReflectionPath ofTokens(Class<?>[] types, boolean assignable) {
+        List<PathSegment> segments = new ArrayList<>(types.length);
+        for (Class<?> type : types) {
+            segments.add(assignable ? TypePathComponent.assignableTo(type) : TypePathComponent.of(type));
         }
-
-        return switch (resolutionStrategy) {
-            case FIRST_MATCH -> Optional.of(allMembers.get(0));
-            case LAST_MATCH -> Optional.of(allMembers.get(allMembers.size() - 1)); // Ensure last field is returned
-            case EXACT_MATCH -> allMembers.size() == 1 ? Optional.of(allMembers.get(0)) : Optional.empty();
-        };
+        return new ReflectionPath(CompiledPath.of(segments), PathResolutionStrategy.FIRST_MATCH);
     }
 
+    /**
+     * Returns the path expression of this ReflectionPath.
+     *
+     * @return The path expression
+     */
+    public String getPath() {
+        return path;
+    }
 
-    private List<Field> findFieldsByType(Class<?> clazz, TypePathComponent component) {
-        List<Field> matching = new ArrayList<>();
-        Class<?> current = clazz;
+    /**
+     * Returns the parsed form of the path expression.
+     *
+     * @return The compiled path
+     */
+    public CompiledPath getCompiledPath() {
+        return compiledPath;
+    }
 
-        while (current != null) {
-            for (Field field : current.getDeclaredFields()) {
-                if (matchesType(field.getType(), component)) {
-                    matching.add(field);
+    /**
+     * Discards the resolved path of a single target class, for example after the class was redefined.
+     * The path is resolved again the next time it is used with that class. If the path of the class was shared
+     * through a superclass, or the class shared its path with subclasses, the paths of all classes sharing it are
+     * discarded too. The member indexes of these classes and, if a shared cache is configured, their entries for
+     * this path are discarded as well.
+     *
+     * @param targetClass The class to discard the resolved path of
+     */
+    public void invalidate(Class<?> targetClass) {
+        Set<Class<?>> classes = new HashSet<>();
+        classes.add(targetClass);
+        PathCache cachedPaths = resolvedPaths;
+        if (cachedPaths != null) {
+            classes.addAll(cachedPaths.unshare(targetClass));
+        }
+        lastResolved = null;
+        ResolutionCache cache = sharedCache();
+        for (Class<?> cls : classes) {
+            if (cachedPaths != null) {
+                cachedPaths.resolutions.remove(cls);
+                cachedPaths.remove(cls);
+            }
+            if (cache != null) {
+                cache.invalidate(cacheKey(), cls);
+            }
+            MemberIndex.invalidate(cls);
+        }
+        GENERATION.incrementAndGet(this);
+        FanOut.Plan plan = fanOutPlan;
+        if (plan != null) {
+            for (ReflectionPath stage : plan.stages()) {
+                if (stage != null && stage != this) {
+                    stage.invalidate(targetClass);
                 }
             }
-            current = current.getSuperclass();
         }
+        PathMetrics pathMetrics = metrics;
+        if (pathMetrics != null) {
+            pathMetrics.invalidated(targetClass);
+        }
+    }
 
-        return matching;
+    /**
+     * Discards the resolved paths of all target classes.
+     * Entries of the shared cache are kept, use {@link ResolutionCache#clear()} to discard those.
+     */
+    public void clear() {
+        resolvedPaths = null;
+        lastResolved = null;
+        fanOutPlan = null;
+        GENERATION.incrementAndGet(this);
+        PathMetrics pathMetrics = metrics;
+        if (pathMetrics != null) {
+            pathMetrics.cleared();
+        }
     }
 
     /**
-     * Finds all methods in a class hierarchy that match the specified return type.
+     * Retrieves the value at the specified path and casts it to the requested type.
      *
-     * @param clazz The class to search in
-     * @param component The type component to match against
-     * @return List of matching methods
+     * @param <T> The type to cast the result to
+     * @param target The target object to resolve the path from
+     * @param type The Class object representing the desired return type
+     * @return The value at the specified path cast to the requested type
+     * @throws ReflectionException if the path cannot be resolved or if the value cannot be cast
+     * @throws IllegalArgumentException if target or type is null
      */
-    private List<Method> findMethodsByReturnType(Class<?> clazz, TypePathComponent component) {
-        List<Method> matching = new ArrayList<>();
-        Class<?> current = clazz;
+    public <T> T getAs(Object target, Class<T> type) {
+        PathMetrics pathMetrics = metrics;
+        long start = pathMetrics == null ? 0 : System.nanoTime();
+        SlowAccessEvent event = SlowAccessEvent.start();
+        try {
+            ResolvedPath resolvedPath = resolve(target);
+            Object result = resolvedPath.getValue(target);
+            return type.cast(result);
+        } catch (Exception e) {
+            throw failure("Failed to get value as " + type.getSimpleName(), e);
+        } finally {
+            read(pathMetrics, start, event, target, "getAs");
+        }
+    }
 
-        while (current != null) {
-            for (Method method : current.getDeclaredMethods()) {
-                if (method.getParameterCount() == 0
-                        && matchesType(method.getReturnType(), component)) {
+    /**
+     * Retrieves the value at the specified path if it exists and is of the requested type.
+     * Every step is treated as null-safe, a null target, a null intermediate value or a member that does not
+     * exist result in an empty Optional without creating an exception.
+     *
+     * @param <T> The type to cast the result to
+     * @param target The target object to resolve the path from, may be null
+     * @param type The Class object representing the desired type, primitive values require the wrapper type
+     * @return The value at the specified path, or an empty Optional if there is none or it is of another type
+     * @throws ReflectionException if reading a member fails for another reason, such as a throwing getter
+     */
+    public <T> Optional<T> tryGet(Object target, Class<T> type) {
+        Object value = getOrNull(target, "tryGet");
+        return type.isInstance(value) ? Optional.of(type.cast(value)) : Optional.empty();
+    }
 
-                    // Ignore toString() unless explicitly allowed
-                    if (ignoreToString && method.getName().equals("toString")
-                            && method.getParameterCount() == 0) {
-                        continue;
-                    }
+    /**
+     * Retrieves the value at the specified path, or the default value if there is none.
+     * Behaves like {@link #tryGet(Object, Class)} but does not allocate an Optional.
+     *
+     * @param <T> The type to cast the result to
+     * @param target The target object to resolve the path from, may be null
+     * @param type The Class object representing the desired type, primitive values require the wrapper type
+     * @param defaultValue The value to return if the path has no value of the requested type
+     * @return The value at the specified path, or the default value
+     * @throws ReflectionException if reading a member fails for another reason, such as a throwing getter
+     */
+    public <T> T getOrDefault(Object target, Class<T> type, T defaultValue) {
+        Object value = getOrNull(target, "getOrDefault");
+        return type.isInstance(value) ? type.cast(value) : defaultValue;
+    }
 
-                    matching.add(method);
-                }
-            }
-            current = current.getSuperclass();
+    private Object getOrNull(Object target, String operation) {
+        if (target == null) {
+            return null;
+        }
+        PathMetrics pathMetrics = metrics;
+        long start = pathMetrics == null ? 0 : System.nanoTime();
+        SlowAccessEvent event = SlowAccessEvent.start();
+        try {
+            return resolve(target).getValueOrNull(target);
+        } catch (Exception e) {
+            throw failure("Failed to get value", e);
+        } finally {
+            read(pathMetrics, start, event, target, operation);
+        }
+    }
+
+    /**
+     * Retrieves the int value at the specified path without boxing it.
+     * Values of type byte, short and char are widened to int.
+     *
+     * @param target The target object to resolve the path from
+     * @return The int value at the specified path
+     * @throws ReflectionException if the path cannot be resolved or does not hold an int compatible value
+     */
+    public int getInt(Object target) {
+        PathMetrics pathMetrics = metrics;
+        long start = pathMetrics == null ? 0 : System.nanoTime();
+        SlowAccessEvent event = SlowAccessEvent.start();
+        try {
+            return resolve(target).getInt(target);
+        } catch (Exception e) {
+            throw failure("Failed to get value as int", e);
+        } finally {
+            read(pathMetrics, start, event, target, "getInt");
         }
+    }
 
-        return matching;
+    /**
+     * Retrieves the long value at the specified path without boxing it.
+     * Values of type byte, short, char and int are widened to long.
+     *
+     * @param target The target object to resolve the path from
+     * @return The long value at the specified path
+     * @throws ReflectionException if the path cannot be resolved or does not hold a long compatible value
+     */
+    public long getLong(Object target) {
+        PathMetrics pathMetrics = metrics;
+        long start = pathMetrics == null ? 0 : System.nanoTime();
+        SlowAccessEvent event = SlowAccessEvent.start();
+        try {
+            return resolve(target).getLong(target);
+        } catch (Exception e) {
+            throw failure("Failed to get value as long", e);
+        } finally {
+            read(pathMetrics, start, event, target, "getLong");
+        }
     }
 
+    /**
+     * Retrieves the double value at the specified path without boxing it.
+     * Values of all other numeric primitive types are widened to double.
+     *
+     * @param target The target object to resolve the path from
+     * @return The double value at the specified path
+     * @throws ReflectionException if the path cannot be resolved or does not hold a double compatible value
+     */
+    public double getDouble(Object target) {
+        PathMetrics pathMetrics = metrics;
+        long start = pathMetrics == null ? 0 : System.nanoTime();
+        SlowAccessEvent event = SlowAccessEvent.start();
+        try {
+            return resolve(target).getDouble(target);
+        } catch (Exception e) {
+            throw failure("Failed to get value as double", e);
+        } finally {
+            read(pathMetrics, start, event, target, "getDouble");
+        }
+    }
 
     /**
-     * Checks if a type matches the specified component type.
+     * Retrieves the boolean value at the specified path without boxing it.
      *
-     * @param type The type to check
-     * @param component The type component to match against
-     * @return true if the type matches
+     * @param target The target object to resolve the path from
+     * @return The boolean value at the specified path
+     * @throws ReflectionException if the path cannot be resolved or does not hold a boolean
      */
-    private boolean matchesType(Class<?> type, TypePathComponent component) {
-        if (component.isArray() != type.isArray()) {
-            return false;
+    public boolean getBoolean(Object target) {
+        PathMetrics pathMetrics = metrics;
+        long start = pathMetrics == null ? 0 : System.nanoTime();
+        SlowAccessEvent event = SlowAccessEvent.start();
+        try {
+            return resolve(target).getBoolean(target);
+        } catch (Exception e) {
+            throw failure("Failed to get value as boolean", e);
+        } finally {
+            read(pathMetrics, start, event, target, "getBoolean");
         }
+    }
 
-        Class<?> typeToCheck = component.isArray() ? type.getComponentType() : type;
-        String typeNameToMatch = component.typeName();
+    /**
+     * Sets the value at the specified path. All but the last member of the path are read to reach the
+     * object holding the field, the last member must be a non-final field.
+     *
+     * @param target The target object to resolve the path from
+     * @param value The value to set
+     * @throws ReflectionException if the path cannot be resolved, does not end in a writable field
+     *                             or the value is not assignable to the field
+     */
+    public void set(Object target, Object value) {
+        try {
+            resolve(target).setValue(target, value);
+        } catch (Exception e) {
+            throw failure("Failed to set value", e);
+        }
+    }
 
-        return typeToCheck.getSimpleName().equals(typeNameToMatch) ||
-                typeToCheck.getName().equals(typeNameToMatch) ||
-                typeToCheck.getCanonicalName().equals(typeNameToMatch);
+    /**
+     * Sets the int value at the specified path without boxing it.
+     *
+     * @param target The target object to resolve the path from
+     * @param value The value to set
+     * @throws ReflectionException if the path cannot be resolved or does not end in a writable int compatible field
+     */
+    public void setInt(Object target, int value) {
+        try {
+            resolve(target).setInt(target, value);
+        } catch (Exception e) {
+            throw failure("Failed to set value as int", e);
+        }
     }
 
     /**
-     * Searches for a field with the given name in the class hierarchy.
+     * Sets the long value at the specified path without boxing it.
      *
-     * @param clazz The class to search in
-     * @param fieldName The name of the field to find
-     * @return The found Field object
-     * @throws NoSuchFieldException if no matching field is found
+     * @param target The target object to resolve the path from
+     * @param value The value to set
+     * @throws ReflectionException if the path cannot be resolved or does not end in a writable long compatible field
      */
-    private Field findField(Class<?> clazz, String fieldName) throws NoSuchFieldException {
-        Class<?> current = clazz;
-        while (current != null) {
-            try {
-                return current.getDeclaredField(fieldName);
-            } catch (NoSuchFieldException e) {
-                current = current.getSuperclass();
-            }
+    public void setLong(Object target, long value) {
+        try {
+            resolve(target).setLong(target, value);
+        } catch (Exception e) {
+            throw failure("Failed to set value as long", e);
         }
-        throw new NoSuchFieldException(fieldName);
     }
 
     /**
-     * Searches for a method with the given name in the class hierarchy.
+     * Sets the double value at the specified path without boxing it.
      *
-     * @param clazz The class to search in
-     * @param methodName The name of the method to find
-     * @return The found Method object
-     * @throws NoSuchMethodException if no matching method is found
+     * @param target The target object to resolve the path from
+     * @param value The value to set
+     * @throws ReflectionException if the path cannot be resolved or does not end in a writable double field
      */
-    private Method findMethod(Class<?> clazz, String methodName) throws NoSuchMethodException {
-        Class<?> current = clazz;
-        while (current != null) {
-            for (Method method : current.getDeclaredMethods()) {
-                if (method.getName().equals(methodName)) {
-                    return method;
-                }
-            }
-            current = current.getSuperclass();
+    public void setDouble(Object target, double value) {
+        try {
+            resolve(target).setDouble(target, value);
+        } catch (Exception e) {
+            throw failure("Failed to set value as double", e);
         }
-        throw new NoSuchMethodException(methodName);
     }
-}
 
+    /**
+     * Sets the boolean value at the specified path without boxing it.
+     *
+     * @param target The target object to resolve the path from
+     * @param value The value to set
+     * @throws ReflectionException if the path cannot be resolved or does not end in a writable boolean field
+     */
+    public void setBoolean(Object target, boolean value) {
+        try {
+            resolve(target).setBoolean(target, value);
+        } catch (Exception e) {
+            throw failure("Failed to set value as boolean", e);
+        }
+    }
+
+    /**
+     * Invokes the method at the specified path with the provided arguments.
+     *
+     * <p>If the path ends in a method name, the overload is chosen by the runtime classes of the arguments,
+     * preferring the most specific one. Wrapper arguments match primitive parameters before reference parameters,
+     * and varargs methods must be passed their variable arguments as an array. The chosen overload is cached per
+     * target class and argument classes. Use the {@code invoke0} to {@code invoke4} methods to avoid allocating
+     * the argument array.
+     *
+     * @param target The target object to resolve the path from
+     * @param args The arguments to pass to the method
+     * @return The result of the method invocation, or null for void methods
+     * @throws ReflectionException if the path cannot be resolved, no overload or several equally specific
+     *                             overloads are applicable, or if the invocation fails
+     * @throws IllegalArgumentException if target is null
+     */
+    public Object invokeOn(Object target, Object... args) {
+        SlowAccessEvent event = SlowAccessEvent.start();
+        PathMetrics pathMetrics = metrics;
+        long start = pathMetrics == null ? 0 : System.nanoTime();
+        boolean failed = true;
+        try {
+            Object result = invoker(target).invoke(target, args);
+            failed = false;
+            return result;
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new ReflectionException("Failed to invoke method", e);
+        } finally {
+            invoked(pathMetrics, start, failed, event, target, "invokeOn");
+        }
+    }
+
+    /**
+     * Invokes the method at the specified path without arguments.
+     *
+     * @param target The target object to resolve the path from
+     * @return The result of the method invocation, or null for void methods
+     * @throws ReflectionException if the path cannot be resolved, has no overload without parameters
+     *                             or if the invocation fails
+     * @see #invokeOn(Object, Object...)
+     */
+    public Object invoke0(Object target) {
+        SlowAccessEvent event = SlowAccessEvent.start();
+        PathMetrics pathMetrics = metrics;
+        long start = pathMetrics == null ? 0 : System.nanoTime();
+        boolean failed = true;
+        try {
+            Object result = invoker(target).invoke0(target);
+            failed = false;
+            return result;
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new ReflectionException("Failed to invoke method", e);
+        } finally {
+            invoked(pathMetrics, start, failed, event, target, "invoke0");
+        }
+    }
+
+    /**
+     * Invokes the method at the specified path with one argument, without allocating an argument array.
+     *
+     * @param target The target object to resolve the path from
+     * @param first The argument
+     * @return The result of the method invocation, or null for void methods
+     * @throws ReflectionException if the path cannot be resolved, no overload or several equally specific
+     *                             overloads are applicable, or if the invocation fails
+     * @see #invokeOn(Object, Object...)
+     */
+    public Object invoke1(Object target, Object first) {
+        SlowAccessEvent event = SlowAccessEvent.start();
+        PathMetrics pathMetrics = metrics;
+        long start = pathMetrics == null ? 0 : System.nanoTime();
+        boolean failed = true;
+        try {
+            Object result = invoker(target).invoke1(target, first);
+            failed = false;
+            return result;
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new ReflectionException("Failed to invoke method", e);
+        } finally {
+            invoked(pathMetrics, start, failed, event, target, "invoke1");
+        }
+    }
+
+    /**
+     * Invokes the method at the specified path with two arguments, without allocating an argument array.
+     *
+     * @param target The target object to resolve the path from
+     * @param first The first argument
+     * @param second The second argument
+     * @return The result of the method invocation, or null for void methods
+     * @throws ReflectionException if the path cannot be resolved, no overload or several equally specific
+     *                             overloads are applicable, or if the invocation fails
+     * @see #invokeOn(Object, Object...)
+     */
+    public Object invoke2(Object target, Object first, Object second) {
+        SlowAccessEvent event = SlowAccessEvent.start();
+        PathMetrics pathMetrics = metrics;
+        long start = pathMetrics == null ? 0 : System.nanoTime();
+        boolean failed = true;
+        try {
+            Object result = invoker(target).invoke2(target, first, second);
+            failed = false;
+            return result;
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new ReflectionException("Failed to invoke method", e);
+        } finally {
+            invoked(pathMetrics, start, failed, event, target, "invoke2");
+        }
+    }
+
+    /**
+     * Invokes the method at the specified path with three arguments, without allocating an argument array.
+     *
+     * @param target The target object to resolve the path from
+     * @param first The first argument
+     * @param second The second argument
+     * @param third The third argument
+     * @return The result of the method invocation, or null for void methods
+     * @throws ReflectionException if the path cannot be resolved, no overload or several equally specific
+     *                             overloads are applicable, or if the invocation fails
+     * @see #invokeOn(Object, Object...)
+     */
+    public Object invoke3(Object target, Object first, Object second, Object third) {
+        SlowAccessEvent event = SlowAccessEvent.start();
+        PathMetrics pathMetrics = metrics;
+        long start = pathMetrics == null ? 0 : System.nanoTime();
+        boolean failed = true;
+        try {
+            Object result = invoker(target).invoke3(target, first, second, third);
+            failed = false;
+            return result;
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new ReflectionException("Failed to invoke method", e);
+        } finally {
+            invoked(pathMetrics, start, failed, event, target, "invoke3");
+        }
+    }
+
+    /**
+     * Invokes the method at the specified path with four arguments, without allocating an argument array.
+     *
+     * @param target The target object to resolve the path from
+     * @param first The first argument
+     * @param second The second argument
+     * @param third The third argument
+     * @param fourth The fourth argument
+     * @return The result of the method invocation, or null for void methods
+     * @throws ReflectionException if the path cannot be resolved, no overload or several equally specific
+     *                             overloads are applicable, or if the invocation fails
+     * @see #invokeOn(Object, Object...)
+     */
+    public Object invoke4(Object target, Object first, Object second, Object third, Object fourth) {
+        SlowAccessEvent event = SlowAccessEvent.start();
+        PathMetrics pathMetrics = metrics;
+        long start = pathMetrics == null ? 0 : System.nanoTime();
+        boolean failed = true;
+        try {
+            Object result = invoker(target).invoke4(target, first, second, third, fourth);
+            failed = false;
+            return result;
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new ReflectionException("Failed to invoke method", e);
+        } finally {
+            invoked(pathMetrics, start, failed, event, target, "invoke4");
+        }
+    }
+
+    private void read(PathMetrics pathMetrics, long start, SlowAccessEvent event, Object target, String operation) {
+        if (pathMetrics != null) {
+            pathMetrics.read(System.nanoTime() - start);
+        }
+        if (event != null) {
+            event.finish(path, target, operation);
+        }
+    }
+
+    private void invoked(PathMetrics pathMetrics, long start, boolean failed, SlowAccessEvent event,
+                         Object target, String operation) {
+        if (pathMetrics != null) {
+            pathMetrics.invoked(System.nanoTime() - start, failed);
+        }
+        if (event != null) {
+            event.finish(path, target, operation);
+        }
+    }
+
+    /**
+     * Retrieves the values at the specified path of all targets.
+     * Batches larger than a few thousand targets are read in parallel on the common fork-join pool.
+     *
+     * @param targets The target objects to resolve the path from
+     * @return The values at the specified path, in the order of the targets
+     * @throws ReflectionException if the path cannot be resolved or read for one of the targets
+     */
+    public Object[] extractAll(List<?> targets) {
+        Object[] results = new Object[targets.size()];
+        BulkExtractor.run(this, targets, (resolved, target, index) -> results[index] = resolved.getValue(target));
+        return results;
+    }
+
+    /**
+     * Retrieves the int values at the specified path of all targets without boxing them.
+     * Batches larger than a few thousand targets are read in parallel on the common fork-join pool.
+     *
+     * @param targets The target objects to resolve the path from
+     * @param results The array to store the values in, in the order of the targets
+     * @throws ReflectionException if the path cannot be resolved or does not hold an int compatible value
+     *                             for one of the targets
+     * @throws IllegalArgumentException if the array does not have exactly one element per target
+     */
+    public void extractInts(List<?> targets, int[] results) {
+        checkLength(targets, results.length);
+        BulkExtractor.run(this, targets, (resolved, target, index) -> results[index] = resolved.getInt(target));
+    }
+
+    /**
+     * Retrieves the long values at the specified path of all targets without boxing them.
+     * Batches larger than a few thousand targets are read in parallel on the common fork-join pool.
+     *
+     * @param targets The target objects to resolve the path from
+     * @param results The array to store the values in, in the order of the targets
+     * @throws ReflectionException if the path cannot be resolved or does not hold a long compatible value
+     *                             for one of the targets
+     * @throws IllegalArgumentException if the array does not have exactly one element per target
+     */
+    public void extractLongs(List<?> targets, long[] results) {
+        checkLength(targets, results.length);
+        BulkExtractor.run(this, targets, (resolved, target, index) -> results[index] = resolved.getLong(target));
+    }
+
+    /**
+     * Retrieves the double values at the specified path of all targets without boxing them.
+     * Batches larger than a few thousand targets are read in parallel on the common fork-join pool.
+     *
+     * @param targets The target objects to resolve the path from
+     * @param results The array to store the values in, in the order of the targets
+     * @throws ReflectionException if the path cannot be resolved or does not hold a double compatible value
+     *                             for one of the targets
+     * @throws IllegalArgumentException if the array does not have exactly one element per target
+     */
+    public void extractDoubles(List<?> targets, double[] results) {
+        checkLength(targets, results.length);
+        BulkExtractor.run(this, targets, (resolved, target, index) -> results[index] = resolved.getDouble(target));
+    }
+
+    /**
+     * Returns a function reading the value at this path, for use in stream pipelines, sorting and grouping.
+     * The path is resolved against the root class once, when the function is created, so each call reads the
+     * resolved members directly, without a cache lookup. Subclasses of the root class are read through the
+     * members resolved for the root class, and the function keeps its members after the path is cleared or
+     * invalidated. The function reads through the backend of this path, with {@link AccessBackend#GENERATED} it
+     * is about as fast as calling the getters directly.
+     *
+     * @param <T> The type of the objects the function is applied to
+     * @param <R> The type to cast the result to
+     * @param rootClass The class the path is resolved against
+     * @param type The Class object representing the desired return type, primitive values require the wrapper type
+     * @return A function reading the value at this path
+     * @throws ReflectionException if the path cannot be resolved against the root class, or when applied, if the
+     *                             value cannot be read or cast
+     * @throws IllegalArgumentException if the root class is null
+     */
+    public <T, R> Function<T, R> asFunction(Class<T> rootClass, Class<R> type) {
+        ResolvedPath resolvedPath = bind(rootClass);
+        return target -> {
+            try {
+                return type.cast(resolvedPath.getValue(target));
+            } catch (Exception e) {
+                throw failure("Failed to get value as " + type.getSimpleName(), e);
+            }
+        };
+    }
+
+    /**
+     * Returns a function reading the int value at this path without boxing it, for example for
+     * {@code Comparator.comparingInt(path.asToIntFunction(Entity.class))}.
+     *
+     * @param <T> The type of the objects the function is applied to
+     * @param rootClass The class the path is resolved against
+     * @return A function reading the int value at this path
+     * @throws ReflectionException if the path cannot be resolved against the root class, or when applied, if the
+     *                             value cannot be read or is not int compatible
+     * @throws IllegalArgumentException if the root class is null
+     * @see #asFunction(Class, Class)
+     */
+    public <T> ToIntFunction<T> asToIntFunction(Class<T> rootClass) {
+        ResolvedPath resolvedPath = bind(rootClass);
+        return target -> {
+            try {
+                return resolvedPath.getInt(target);
+            } catch (Exception e) {
+                throw failure("Failed to get value as int", e);
+            }
+        };
+    }
+
+    /**
+     * Returns a function reading the long value at this path without boxing it.
+     *
+     * @param <T> The type of the objects the function is applied to
+     * @param rootClass The class the path is resolved against
+     * @return A function reading the long value at this path
+     * @throws ReflectionException if the path cannot be resolved against the root class, or when applied, if the
+     *                             value cannot be read or is not long compatible
+     * @throws IllegalArgumentException if the root class is null
+     * @see #asFunction(Class, Class)
+     */
+    public <T> ToLongFunction<T> asToLongFunction(Class<T> rootClass) {
+        ResolvedPath resolvedPath = bind(rootClass);
+        return target -> {
+            try {
+                return resolvedPath.getLong(target);
+            } catch (Exception e) {
+                throw failure("Failed to get value as long", e);
+            }
+        };
+    }
+
+    /**
+     * Returns a function reading the double value at this path without boxing it.
+     *
+     * @param <T> The type of the objects the function is applied to
+     * @param rootClass The class the path is resolved against
+     * @return A function reading the double value at this path
+     * @throws ReflectionException if the path cannot be resolved against the root class, or when applied, if the
+     *                             value cannot be read or is not double compatible
+     * @throws IllegalArgumentException if the root class is null
+     * @see #asFunction(Class, Class)
+     */
+    public <T> ToDoubleFunction<T> asToDoubleFunction(Class<T> rootClass) {
+        ResolvedPath resolvedPath = bind(rootClass);
+        return target -> {
+            try {
+                return resolvedPath.getDouble(target);
+            } catch (Exception e) {
+                throw failure("Failed to get value as double", e);
+            }
+        };
+    }
+
+    /**
+     * Returns a predicate testing the boolean value at this path without boxing it.
+     *
+     * @param <T> The type of the objects the predicate is applied to
+     * @param rootClass The class the path is resolved against
+     * @return A predicate reading the boolean value at this path
+     * @throws ReflectionException if the path cannot be resolved against the root class, or when applied, if the
+     *                             value cannot be read or is not a boolean
+     * @throws IllegalArgumentException if the root class is null
+     * @see #asFunction(Class, Class)
+     */
+    public <T> Predicate<T> asPredicate(Class<T> rootClass) {
+        ResolvedPath resolvedPath = bind(rootClass);
+        return target -> {
+            try {
+                return resolvedPath.getBoolean(target);
+            } catch (Exception e) {
+                throw failure("Failed to get value as boolean", e);
+            }
+        };
+    }
+
+    /**
+     * Resolves this path against a root class, as used by functions and watchers reading it without the path cache.
+     */
+    ResolvedPath bind(Class<?> rootClass) {
+        if (rootClass == null) {
+            throw new IllegalArgumentException("Root class cannot be null");
+        }
+        ResolvedPath resolvedPath = resolveCached(rootClass);
+        if (resolvedPath instanceof UnresolvedPath unresolved) {
+            throw new ReflectionException("Failed to resolve path '" + path + "' for " + rootClass.getName(),
+                    unresolved.failure());
+        }
+        return resolvedPath;
+    }
+
+    /**
+     * Lazily retrieves the values at the specified path, stepping into every element at each {@code *} wildcard.
+     * The parts of the path between wildcards are resolved once per element class. A path without wildcards
+     * yields its single value.
+     *
+     * @param target The target object to resolve the path from
+     * @return A sequential stream of the values, evaluated as it is consumed
+     * @throws ReflectionException when consumed, if a part of the path cannot be resolved or read, or a
+     *                             wildcard is applied to a value that is not an array, Iterable or Map
+     * @see #iterator(Object)
+     */
+    public Stream<Object> stream(Object target) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator(target), Spliterator.ORDERED),
+                false);
+    }
+
+    /**
+     * Lazily retrieves the values at the specified path and casts them to the requested type.
+     *
+     * @param <T> The type to cast the values to
+     * @param target The target object to resolve the path from
+     * @param type The Class object representing the desired type of the values
+     * @return A sequential stream of the values, evaluated as it is consumed
+     * @throws ReflectionException when consumed, if a value cannot be read or is not of the requested type
+     * @see #stream(Object)
+     */
+    public <T> Stream<T> stream(Object target, Class<T> type) {
+        return stream(target).map(value -> {
+            if (value != null && !type.isInstance(value)) {
+                throw new ReflectionException("Value of type " + value.getClass().getName()
+                        + " is not a " + type.getSimpleName());
+            }
+            return type.cast(value);
+        });
+    }
+
+    /**
+     * Lazily retrieves the values at the specified path, stepping into every element at each {@code *} wildcard.
+     * Arrays and {@link Iterable}s are walked in their iteration order, {@link java.util.Map}s by their values.
+     * A wildcard applied to null yields no elements if it is null-safe, as in {@code "items?.*"}, and a null
+     * element yields null if the step after the wildcard is null-safe, as in {@code "items.*?.name"}.
+     *
+     * @param target The target object to resolve the path from
+     * @return An iterator over the values, evaluated as it is advanced
+     * @throws IllegalArgumentException if the target is null
+     */
+    public Iterator<Object> iterator(Object target) {
+        if (target == null) {
+            throw new IllegalArgumentException("Target object cannot be null");
+        }
+        FanOut.Plan plan = fanOutPlan;
+        if (plan == null) {
+            plan = compiledPath.hasWildcard()
+                    ? FanOut.Plan.of(compiledPath, nullSafe, this::stage)
+                    : new FanOut.Plan(new ReflectionPath[]{this}, new boolean[0], new boolean[1]);
+            fanOutPlan = plan;
+        }
+        return new FanOut(plan, target);
+    }
+
+    private ReflectionPath stage(CompiledPath part) {
+        ReflectionPath stage = new ReflectionPath(part, resolutionStrategy);
+        stage.ignoreToString = ignoreToString;
+        stage.nullSafe = nullSafe;
+        stage.backend = backend;
+        return stage;
+    }
+
+    /**
+     * Reads the value at this path, as used by the stages of a wildcard path.
+     */
+    Object read(Object target) throws Exception {
+        return resolve(target).getValue(target);
+    }
+
+    private ReflectionException failure(String message, Exception cause) {
+        PathMetrics pathMetrics = metrics;
+        if (pathMetrics != null) {
+            pathMetrics.accessFailed();
+        }
+        return new ReflectionException(message, cause);
+    }
+
+    private static void checkLength(List<?> targets, int length) {
+        if (targets.size() != length) {
+            throw new IllegalArgumentException(
+                    "Expected an array of length " + targets.size() + " but got " + length);
+        }
+    }
+
+    private ResolvedPath resolve(Object target) {
+        return resolveEntry(target).path;
+    }
+
+    private Invoker invoker(Object target) {
+        CachedPath cached = resolveEntry(target);
+        Invoker invoker = cached.invoker;
+        if (invoker == null) {
+            // Racing creations only cost a duplicate resolution
+            invoker = newInvoker(cached);
+            cached.invoker = invoker;
+        }
+        return invoker;
+    }
+
+    /**
+     * Creates the invoker of a target class. Paths ending in a method name select among its overloads,
+     * the method is invoked on the value of the preceding segments.
+     */
+    private Invoker newInvoker(CachedPath cached) {
+        Class<?> targetClass = cached.targetClass;
+        ResolvedPath resolvedPath = cached.path;
+        int last = compiledPath.segments().size() - 1;
+        if (resolvedPath instanceof UnresolvedPath || compiledPath.hasElementSteps()
+                || !(compiledPath.segments().get(last) instanceof NameSegment segment)) {
+            return Invoker.fallback(resolvedPath);
+        }
+        // Paths taken from the shared cache were resolved by another instance, so their chain is not known
+        List<AccessibleObject> chain = cached.chain != null ? cached.chain : resolveChain(targetClass);
+        if (!(chain.get(last) instanceof Method)) {
+            return Invoker.fallback(resolvedPath);
+        }
+
+        List<AccessibleObject> receiverChain = chain.subList(0, last);
+        ResolvedPath receiver = null;
+        Class<?> receiverClass = targetClass;
+        if (!receiverChain.isEmpty()) {
+            receiver = !nullSafe && compiledPath.nullSafeSegments().isEmpty()
+                    ? link(targetClass, receiverChain)
+                    : linkNullSafe(targetClass, receiverChain);
+            AccessibleObject member = receiverChain.get(last - 1);
+            receiverClass = member instanceof Field field ? field.getType() : ((Method) member).getReturnType();
+        }
+        return Invoker.of(receiver, segment.name(), MemberIndex.of(receiverClass).findMethods(segment.name()),
+                nullSafe || compiledPath.isNullSafe(last));
+    }
+
+    private CachedPath resolveEntry(Object target) {
+        if (target == null) {
+            throw new ReflectionException("Target object cannot be null");
+        }
+
+        Class<?> targetClass = target.getClass();
+        WeakReference<CachedPath> last = lastResolved;
+        if (last != null) {
+            CachedPath cached = last.get();
+            if (cached != null && cached.targetClass == targetClass && cached.generation == generation) {
+                PathMetrics pathMetrics = metrics;
+                if (pathMetrics != null) {
+                    pathMetrics.inlineHit();
+                }
+                return cached;
+            }
+        }
+        return cachedPath(targetClass);
+    }
+
+    ResolvedPath resolveCached(Class<?> targetClass) {
+        return cachedPath(targetClass).path;
+    }
+
+    private CachedPath cachedPath(Class<?> targetClass) {
+        // Read before the cache, so that entries looked up before paths are discarded get a stamp that misses
+        int currentGeneration = generation;
+        PathCache cache = resolvedPaths;
+        while (cache == null) {
+            // Threads losing the race use the winning cache, so they wait for its resolutions instead of repeating them
+            RESOLVED_PATHS.compareAndSet(this, null, new PathCache());
+            cache = resolvedPaths;
+        }
+        PathMetrics pathMetrics = metrics;
+        if (pathMetrics != null) {
+            pathMetrics.lookup();
+        }
+        CachedPath cached = cache.get(targetClass);
+        cached.generation = currentGeneration;
+        lastResolved = cached.reference;
+        return cached;
+    }
+
+    /**
+     * Returns whether a class itself declares a member that the first segment of this path could match.
+     * Paths resolved against a superclass are only reused for classes that declare no such member.
+     */
+    private boolean declaresCandidate(Class<?> cls) {
+        PathSegment first = compiledPath.segments().get(0);
+        MemberIndex index = MemberIndex.of(cls);
+        if (first instanceof TypePathComponent component) {
+            return index.declaresType(component, ignoreToString);
+        }
+        if (first instanceof NameSegment name) {
+            return index.declares(name.name());
+        }
+        return true;
+    }
+
+    /**
+     * Returns the shared cache this path uses, which is none for paths built from class tokens: the key of the
+     * cache is the expression, so tokens of equally named classes from different class loaders would share entries.
+     */
+    private ResolutionCache sharedCache() {
+        return compiledPath.hasClassTokens() ? null : sharedCache;
+    }
+
+    private ResolutionCache.Key cacheKey() {
+        return new ResolutionCache.Key(path, resolutionStrategy, ignoreToString, backend, nullSafe);
+    }
+
+    /**
+     * Resolves and links this path against a class, adding the members it traverses to the given list.
+     */
+    private ResolvedPath resolveUncached(Class<?> targetClass, PathResolutionEvent event,
+                                         List<AccessibleObject> resolvedChain) {
+        try {
+            List<AccessibleObject> chain = resolveChain(targetClass, event);
+            resolvedChain.addAll(chain);
+            if (compiledPath.hasElementSteps()) {
+                return linkElements(targetClass, chain);
+            }
+            if (!nullSafe && compiledPath.nullSafeSegments().isEmpty()) {
+                return link(targetClass, chain);
+            }
+            return linkNullSafe(targetClass, chain);
+        } catch (ReflectionException e) {
+            return new UnresolvedPath(e);
+        }
+    }
+
+    /**
+     * Links a chain into separate steps at each null-safe segment, joined by a NullSafePath.
+     * Each step is linked against the declared type of the member preceding it.
+     */
+    private ResolvedPath linkNullSafe(Class<?> targetClass, List<AccessibleObject> chain) {
+        List<ResolvedPath> steps = new ArrayList<>();
+        Class<?> receiverClass = targetClass;
+        int start = 0;
+        for (int i = 1; i <= chain.size(); i++) {
+            if (i == chain.size() || nullSafe || compiledPath.isNullSafe(i)) {
+                steps.add(link(receiverClass, chain.subList(start, i)));
+                AccessibleObject member = chain.get(i - 1);
+                receiverClass = member instanceof Field field ? field.getType() : ((Method) member).getReturnType();
+                start = i;
+            }
+        }
+        return steps.size() == 1 ? steps.get(0) : new NullSafePath(steps);
+    }
+
+    /**
+     * Links a chain of a path with index or key steps. Runs of members between element steps are linked with
+     * the configured backend and extended from the element they are read from; constant indexes into arrays are
+     * folded into the handles of the method handle backend. Null-safe segments split the path into steps
+     * joined by a NullSafePath, as in {@link #linkNullSafe(Class, List)}.
+     */
+    private ResolvedPath linkElements(Class<?> targetClass, List<AccessibleObject> chain) {
+        List<PathSegment> segments = compiledPath.segments();
+        List<ResolvedPath> steps = new ArrayList<>();
+        ResolvedPath current = null;
+        List<AccessibleObject> run = new ArrayList<>();
+        Class<?> runClass = targetClass;
+        Type currentType = targetClass;
+        int member = 0;
+
+        for (int i = 0; i < segments.size(); i++) {
+            PathSegment segment = segments.get(i);
+            if (segment instanceof IndexSegment || segment instanceof KeySegment) {
+                current = element(extend(current, runClass, run), segment);
+                run = new ArrayList<>();
+                currentType = elementType(currentType, segment);
+                continue;
+            }
+            if (i > 0 && (nullSafe || compiledPath.isNullSafe(i))) {
+                steps.add(extend(current, runClass, run));
+                current = null;
+                run = new ArrayList<>();
+                runClass = rawType(currentType);
+            }
+            AccessibleObject next = chain.get(member++);
+            run.add(next);
+            currentType = memberType(next);
+        }
+        steps.add(extend(current, runClass, run));
+        return steps.size() == 1 ? steps.get(0) : new NullSafePath(steps);
+    }
+
+    /**
+     * Extends a linked path with a run of members. Without a path, the run is linked against the given class.
+     */
+    private ResolvedPath extend(ResolvedPath current, Class<?> runClass, List<AccessibleObject> run) {
+        if (run.isEmpty()) {
+            return current;
+        }
+        if (current == null) {
+            return link(runClass, run);
+        }
+        if (current instanceof HandlePath handlePath && handlePath.typedGetter() != null) {
+            try {
+                return handlePath.then(run);
+            } catch (IllegalAccessException | IllegalArgumentException e) {
+                throw new ReflectionException("Failed to link path: " + path, e);
+            }
+        }
+        return linkReflective(current, run);
+    }
+
+    private static ResolvedPath element(ResolvedPath container, PathSegment segment) {
+        if (segment instanceof KeySegment key) {
+            return new KeyedPath(container, key.key());
+        }
+        int index = ((IndexSegment) segment).index();
+        if (container instanceof HandlePath handlePath && handlePath.typedGetter() != null
+                && handlePath.typedGetter().type().returnType().isArray()) {
+            return handlePath.element(index);
+        }
+        return new IndexedPath(container, index);
+    }
+
+    /**
+     * Resolves the members this path traverses when applied to the given class, without linking them.
+     *
+     * @param targetClass The class to resolve the path against
+     * @return The accessible fields and methods to traverse, in order
+     * @throws ReflectionException if a segment cannot be resolved, or the path has index or key steps, which
+     *                             are not members
+     */
+    List<AccessibleObject> resolveChain(Class<?> targetClass) {
+        if (compiledPath.hasElementSteps()) {
+            throw new ReflectionException("Path '" + path + "' contains index or key steps");
+        }
+        return resolveChain(targetClass, null);
+    }
+
+    /**
+     * Links a single member of this path with the configured backend, as read by the nodes of a PathSet.
+     *
+     * @param receiverClass The class the member is read from
+     * @param member The accessible field or method
+     * @return The linked path
+     */
+    ResolvedPath linkMember(Class<?> receiverClass, AccessibleObject member) {
+        return link(receiverClass, List.of(member));
+    }
+
+    /**
+     * Returns whether the segment at the given index evaluates to null when it is applied to null, either because
+     * it is written as {@code ?.} or because every step is null-safe. The first segment is never null-safe.
+     *
+     * @param segment The index of the segment
+     * @return true if the segment is null-safe
+     */
+    boolean isNullSafe(int segment) {
+        return segment > 0 && (nullSafe || compiledPath.isNullSafe(segment));
+    }
+
+    private List<AccessibleObject> resolveChain(Class<?> targetClass, PathResolutionEvent event) {
+        // The manifest walks raw member types, so it cannot follow the element types of index or key steps,
+        // and it identifies paths by their expression, which does not identify class tokens
+        ResolutionManifest resolutionManifest = compiledPath.type() == PathType.TYPE_BASED
+                && !compiledPath.hasElementSteps() && !compiledPath.hasClassTokens() ? manifest : null;
+        if (resolutionManifest != null) {
+            List<AccessibleObject> chain = resolutionManifest.lookup(path, resolutionStrategy, ignoreToString,
+                    targetClass);
+            if (chain != null) {
+                chain.forEach(member -> member.setAccessible(true));
+                if (event != null) {
+                    event.source = PathResolutionEvent.MANIFEST;
+                }
+                return chain;
+            }
+        }
+
+        if (event != null) {
+            event.source = PathResolutionEvent.SCAN;
+        }
+        List<AccessibleObject> chain = scanChain(targetClass, event);
+        if (resolutionManifest != null) {
+            resolutionManifest.record(path, resolutionStrategy, ignoreToString, targetClass, chain);
+        }
+        return chain;
+    }
+
+    private List<AccessibleObject> scanChain(Class<?> targetClass, PathResolutionEvent event) {
+        List<PathSegment> segments = compiledPath.segments();
+        List<AccessibleObject> chain = new ArrayList<>(segments.size());
+        Type currentType = targetClass;
+
+        for (PathSegment segment : segments) {
+            if (segment instanceof IndexSegment || segment instanceof KeySegment) {
+                currentType = elementType(currentType, segment);
+                continue;
+            }
+            Class<?> currentClass = rawType(currentType);
+            AccessibleObject member;
+            if (segment instanceof TypePathComponent component) {
+                member = findByType(currentClass, component, event);
+            } else if (segment instanceof NameSegment name) {
+                member = findByName(currentClass, name, event);
+            } else {
+                throw new ReflectionException("Path '" + path + "' contains a wildcard, use stream or iterator");
+            }
+            member.setAccessible(true);
+            chain.add(member);
+            currentType = memberType(member);
+        }
+
+        return chain;
+    }
+
+    /**
+     * Returns the declared type of the elements an index or key step reads from a container of the given type.
+     * Element types are taken from the component type of arrays and from the type arguments of Lists and Maps,
+     * and are Object if the container type does not declare them.
+     *
+     * @throws ReflectionException if values of the container type cannot be indexed or looked up by key
+     */
+    private static Type elementType(Type containerType, PathSegment segment) {
+        Class<?> containerClass = rawType(containerType);
+        if (segment instanceof IndexSegment) {
+            if (containerType instanceof GenericArrayType arrayType) {
+                return arrayType.getGenericComponentType();
+            }
+            if (containerClass.isArray()) {
+                return containerClass.getComponentType();
+            }
+            if (List.class.isAssignableFrom(containerClass)) {
+                return typeArgument(containerType, 0, 1);
+            }
+            if (containerClass.isAssignableFrom(List.class)) {
+                return Object.class;
+            }
+            throw new ReflectionException("Cannot index values of type " + containerClass.getName());
+        }
+        if (Map.class.isAssignableFrom(containerClass)) {
+            return typeArgument(containerType, 1, 2);
+        }
+        if (containerClass.isAssignableFrom(Map.class)) {
+            return Object.class;
+        }
+        throw new ReflectionException("Cannot look up keys in values of type " + containerClass.getName());
+    }
+
+    private static Type typeArgument(Type type, int index, int count) {
+        if (type instanceof ParameterizedType parameterized
+                && parameterized.getActualTypeArguments().length == count) {
+            return parameterized.getActualTypeArguments()[index];
+        }
+        return Object.class;
+    }
+
+    private static Type memberType(AccessibleObject member) {
+        return member instanceof Field field ? field.getGenericType() : ((Method) member).getGenericReturnType();
+    }
+
+    private static Class<?> rawType(Type type) {
+        if (type instanceof Class<?> cls) {
+            return cls;
+        }
+        if (type instanceof ParameterizedType parameterized) {
+            return (Class<?>) parameterized.getRawType();
+        }
+        if (type instanceof GenericArrayType arrayType) {
+            return rawType(arrayType.getGenericComponentType()).arrayType();
+        }
+        if (type instanceof WildcardType wildcard) {
+            return rawType(wildcard.getUpperBounds()[0]);
+        }
+        if (type instanceof TypeVariable<?> variable) {
+            return rawType(variable.getBounds()[0]);
+        }
+        return Object.class;
+    }
+
+    private AccessibleObject findByName(Class<?> clazz, NameSegment segment, PathResolutionEvent event) {
+        if (event != null) {
+            event.membersScanned++;
+        }
+        MemberIndex index = MemberIndex.of(clazz);
+        Field field = index.findField(segment.name());
+        if (field != null) {
+            return field;
+        }
+        Method method = index.findMethod(segment.name());
+        if (method == null) {
+            throw new ReflectionException(
+                    "No field or method found for '" + segment.name() + "' in " + clazz.getSimpleName());
+        }
+        return method;
+    }
+
+    /**
+     * Links a chain of resolved members into a ResolvedPath using the configured backend.
+     *
+     * @param targetClass The class the chain was resolved against
+     * @param chain The accessible fields and methods to traverse, in order
+     * @return The linked path
+     */
+    private ResolvedPath link(Class<?> targetClass, List<AccessibleObject> chain) {
+        return switch (backend) {
+            case REFLECTION -> linkReflective(null, chain);
+            case METHOD_HANDLE -> {
+                try {
+                    yield HandlePath.of(chain);
+                } catch (IllegalAccessException | IllegalArgumentException e) {
+                    throw new ReflectionException("Failed to link path: " + path, e);
+                }
+            }
+            case GENERATED -> {
+                ResolvedPath reflective = linkReflective(null, chain);
+                yield AccessorGenerator.generate(targetClass, chain, reflective).orElse(reflective);
+            }
+        };
+    }
+
+    private ResolvedPath linkReflective(ResolvedPath parent, List<AccessibleObject> chain) {
+        ResolvedPath currentPath = parent;
+        for (AccessibleObject member : chain) {
+            if (member instanceof Field field) {
+                currentPath = (currentPath == null)
+                        ? new FieldPath(field)
+                        : new ChainedFieldPath(currentPath, field);
+            } else if (member instanceof Method method) {
+                currentPath = (currentPath == null)
+                        ? new MethodPath(method)
+                        : new ChainedMethodPath(currentPath, method);
+            }
+        }
+        return currentPath;
+    }
+
+    private AccessibleObject findByType(Class<?> clazz, TypePathComponent component, PathResolutionEvent event) {
+        List<AccessibleObject> allMembers = MemberIndex.of(clazz).findByType(component, ignoreToString);
+        if (event != null) {
+            event.membersScanned += allMembers.size();
+        }
+
+        AccessibleObject member = allMembers.isEmpty() ? null : switch (resolutionStrategy) {
+            case FIRST_MATCH -> allMembers.get(0);
+            case LAST_MATCH -> allMembers.get(allMembers.size() - 1); // Ensure last field is returned
+            case EXACT_MATCH -> allMembers.size() == 1 ? allMembers.get(0) : null;
+        };
+        if (member == null) {
+            throw new ReflectionException(
+                    String.format("No member found of type '%s' in %s",
+                            component.typeName(),
+                            clazz.getSimpleName()));
+        }
+        return member;
+    }
+
+    private record CompileKey(String path, PathResolutionStrategy strategy) {
+    }
+
+    /**
+     * Interned instance, marked as referenced whenever it is compiled again.
+     */
+    private static final class Interned {
+        private final ReflectionPath path;
+        private volatile boolean referenced;
+
+        private Interned(ReflectionPath path) {
+            this.path = path;
+        }
+    }
+
+    /**
+     * Resolved paths per target class. Every segment after the first is resolved against the declared type of the
+     * member before it, so a resolved path only depends on the target class through its first member. Once a
+     * path was resolved against a class, it is therefore shared with all other subclasses of the class declaring
+     * its first member, as long as neither the resolved class nor the subclass, up to the declaring class, declare
+     * another member the first segment could match. Such classes see the same candidates in the same order, so
+     * every resolution strategy selects the same member, and cold resolution of many subclasses costs a walk over
+     * their superclasses instead of a scan.
+     */
+    private final class PathCache extends ClassValue<CachedPath> {
+        /** Paths by the class declaring their first member, filled in once resolved against any subclass */
+        private final ClassValue<SharedPath> byDeclaringClass = new ClassValue<>() {
+            @Override
+            protected SharedPath computeValue(Class<?> declaringClass) {
+                return new SharedPath();
+            }
+        };
+        /** Resolution of each class, claimed by the first thread so that racing first calls resolve it once */
+        private final ClassValue<Resolution> resolutions = new ClassValue<>() {
+            @Override
+            protected Resolution computeValue(Class<?> targetClass) {
+                return new Resolution();
+            }
+        };
+
+        /**
+         * Resolves the class in the first thread to get here and lets racing threads wait for its result, instead
+         * of resolving it once per thread. No lock is held while resolving or waiting, so threads resolving other
+         * classes proceed, and waiting threads park rather than block a carrier thread.
+         */
+        @Override
+        protected CachedPath computeValue(Class<?> targetClass) {
+            Resolution resolution = resolutions.get(targetClass);
+            if (resolution.claimed.compareAndSet(false, true)) {
+                try {
+                    resolution.result.complete(resolve(targetClass));
+                } catch (RuntimeException | Error e) {
+                    resolutions.remove(targetClass);
+                    resolution.result.completeExceptionally(e);
+                    throw e;
+                }
+            }
+            try {
+                return resolution.result.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw e;
+            }
+        }
+
+        private CachedPath resolve(Class<?> targetClass) {
+            PathMetrics pathMetrics = metrics;
+            long start = pathMetrics == null ? 0 : System.nanoTime();
+            PathResolutionEvent event = new PathResolutionEvent();
+            event.begin();
+            ResolvedPath resolvedPath;
+            List<AccessibleObject> chain;
+            SharedPath inherited = inherited(targetClass);
+            if (inherited != null) {
+                inherited.classes.add(targetClass);
+                resolvedPath = inherited.path;
+                chain = inherited.chain;
+                event.source = PathResolutionEvent.SUPERCLASS;
+            } else {
+                ResolutionCache cache = sharedCache();
+                List<AccessibleObject> resolvedChain = new ArrayList<>();
+                resolvedPath = cache == null
+                        ? resolveUncached(targetClass, event, resolvedChain)
+                        : cache.get(cacheKey(), targetClass,
+                                uncachedClass -> resolveUncached(uncachedClass, event, resolvedChain));
+                chain = resolvedChain.isEmpty() ? null : List.copyOf(resolvedChain);
+                if (!(resolvedPath instanceof UnresolvedPath)) {
+                    share(targetClass, resolvedPath, chain);
+                }
+            }
+            boolean failed = resolvedPath instanceof UnresolvedPath;
+            if (pathMetrics != null) {
+                pathMetrics.resolved(targetClass, System.nanoTime() - start, failed);
+            }
+            event.finish(path, targetClass, resolutionStrategy.name(), failed);
+            return new CachedPath(targetClass, resolvedPath, chain);
+        }
+
+        /**
+         * Returns the path shared by the class itself or its closest superclass declaring the first member, or null
+         * if there is none or a class in between declares a member the first segment could match.
+         */
+        private SharedPath inherited(Class<?> targetClass) {
+            for (Class<?> current = targetClass; current != null; current = current.getSuperclass()) {
+                SharedPath shared = byDeclaringClass.get(current);
+                if (shared.path != null) {
+                    return shared;
+                }
+                if (declaresCandidate(current)) {
+                    return null;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Shares a path resolved against a class with the other subclasses of the class declaring its first member.
+         * Paths are only shared within one class loader, so that a path linked for a class, such as a generated
+         * accessor, does not keep that class loaded through a superclass.
+         */
+        private void share(Class<?> targetClass, ResolvedPath resolvedPath, List<AccessibleObject> chain) {
+            PathSegment first = compiledPath.segments().get(0);
+            AccessibleObject member;
+            try {
+                member = first instanceof TypePathComponent component
+                        ? findByType(targetClass, component, null)
+                        : findByName(targetClass, (NameSegment) first, null);
+            } catch (ReflectionException e) {
+                return;
+            }
+
+            Class<?> declaringClass = ((Member) member).getDeclaringClass();
+            if (declaringClass.getClassLoader() != targetClass.getClassLoader()) {
+                return;
+            }
+            for (Class<?> current = targetClass; current != declaringClass; current = current.getSuperclass()) {
+                if (declaresCandidate(current)) {
+                    return;
+                }
+            }
+            SharedPath shared = byDeclaringClass.get(declaringClass);
+            shared.classes.add(targetClass);
+            // Written before the path, so that threads seeing the path see its chain
+            shared.chain = chain;
+            shared.path = resolvedPath;
+        }
+
+        /**
+         * Stops sharing the paths declared by a class and its superclasses that the class resolved to or shared
+         * with its subclasses, so that none of the classes sharing them picks them up again.
+         *
+         * @return The classes that used the discarded paths
+         */
+        private Set<Class<?>> unshare(Class<?> targetClass) {
+            Set<Class<?>> classes = new HashSet<>();
+            for (Class<?> current = targetClass; current != null; current = current.getSuperclass()) {
+                SharedPath shared = byDeclaringClass.get(current);
+                if (current == targetClass || shared.classes.contains(targetClass)) {
+                    byDeclaringClass.remove(current);
+                    synchronized (shared.classes) {
+                        classes.addAll(shared.classes);
+                    }
+                }
+            }
+            return classes;
+        }
+    }
+
+    /**
+     * Path shared with the subclasses of a declaring class, null until it was resolved against one of them.
+     * The classes using it are held weakly, so that they can be found again by {@link #invalidate(Class)}.
+     */
+    private static final class SharedPath {
+        private final Set<Class<?>> classes =
+                Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+        private volatile List<AccessibleObject> chain;
+        private volatile ResolvedPath path;
+    }
+
+    /**
+     * Resolution of a class by the thread that claimed it, awaited by the threads that lost the race.
+     */
+    private static final class Resolution {
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        private final CompletableFuture<CachedPath> result = new CompletableFuture<>();
+    }
+
+    private static final class CachedPath {
+        private final Class<?> targetClass;
+        private final ResolvedPath path;
+        /** Members the path traverses, or null if it was taken from the shared cache */
+        private final List<AccessibleObject> chain;
+        /** Reused by the inline cache so that switching between classes does not allocate */
+        private final WeakReference<CachedPath> reference = new WeakReference<>(this);
+        /** Created on first invocation. Racy reads are benign, a missing invoker is created again */
+        private Invoker invoker;
+        /** Generation of the path when the entry was last looked up. Racy writes are benign, a mismatch is a miss */
+        private int generation;
+
+        private CachedPath(Class<?> targetClass, ResolvedPath path, List<AccessibleObject> chain) {
+            this.targetClass = targetClass;
+            this.path = path;
+            this.chain = chain;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package dev.pixelib.reflectionpath;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight recorder event emitted when reading a value, such as through {@link ReflectionPath#getAs(Object, Class)}
+ * or {@link ReflectionPath#getInt(Object)}, or invoking a method through a path takes longer than the configured
+ * threshold.
+ */
+@Name("dev.pixelib.reflectionpath.SlowAccess")
+@Label("Slow Path Access")
+@Category("ReflectionPath")
+@Description("Read or invocation through a path that exceeded the threshold")
+@Threshold("1 ms")
+final class SlowAccessEvent extends Event {
+    private static final SlowAccessEvent TYPE = new SlowAccessEvent();
+
+    @Label("Path")
+    String path;
+
+    @Label("Target Class")
+    Class<?> targetClass;
+
+    @Label("Operation")
+    String operation;
+
+    /**
+     * Begins an event for an access, or returns null without allocating one while the event is disabled.
+     */
+    static SlowAccessEvent start() {
+        if (!TYPE.isEnabled()) {
+            return null;
+        }
+        SlowAccessEvent event = new SlowAccessEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the event and commits it if it exceeded the threshold. The fields are only filled in when the event is
+     * committed, so disabled events and fast accesses do not pay for them.
+     */
+    void finish(String accessedPath, Object target, String accessOperation) {
+        end();
+        if (shouldCommit()) {
+            path = accessedPath;
+            targetClass = target == null ? null : target.getClass();
+            operation = accessOperation;
+            commit();
+        }
+    }
+}
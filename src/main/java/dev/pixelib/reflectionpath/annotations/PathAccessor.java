@@ -0,0 +1,57 @@
+package dev.pixelib.reflectionpath.annotations;
+
+import dev.pixelib.reflectionpath.resolution.PathResolutionStrategy;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares an interface method as an accessor for a constant path expression. The method takes the root object
+ * as its only parameter and returns the value at the path.
+ *
+ * <p>The {@code reflection-path-processor} annotation processor resolves the path against the declared parameter
+ * type at compile time and generates an implementation named {@code PathAccessor_<Interface>}, which reads
+ * accessible members directly and only falls back to a {@link dev.pixelib.reflectionpath.ReflectionPath} for
+ * members that are not visible to it. Instances are obtained through {@link PathAccessors#create(Class)}.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * public interface PlayerAccessors {
+ *     @PathAccessor("connection.type")
+ *     ConnectionType connectionType(Player player);
+ *
+ *     @PathAccessor("[Connection].[String]")
+ *     String address(Player player);
+ * }
+ *
+ * PlayerAccessors accessors = PathAccessors.create(PlayerAccessors.class);
+ * }</pre>
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.METHOD)
+public @interface PathAccessor {
+    /**
+     * The path expression to read, using the same syntax as {@link dev.pixelib.reflectionpath.ReflectionPath}.
+     *
+     * @return The path expression
+     */
+    String value();
+
+    /**
+     * The strategy to use when multiple members match a type segment.
+     *
+     * @return The resolution strategy
+     */
+    PathResolutionStrategy strategy() default PathResolutionStrategy.FIRST_MATCH;
+
+    /**
+     * Whether toString methods are ignored when resolving methods by type.
+     *
+     * @return true to ignore toString methods
+     */
+    boolean ignoreToString() default true;
+}
@@ -0,0 +1,51 @@
+package dev.pixelib.reflectionpath.annotations;
+
+import dev.pixelib.reflectionpath.errors.ReflectionException;
+
+import java.lang.reflect.Constructor;
+
+/**
+ * Creates the implementations generated for interfaces with {@link PathAccessor} methods.
+ */
+public final class PathAccessors {
+    /** Prefix of the generated implementation classes */
+    public static final String PREFIX = "PathAccessor_";
+
+    private PathAccessors() {
+    }
+
+    /**
+     * Returns the name of the class generated for an accessor interface. Nested interfaces are flattened,
+     * so {@code com.example.Outer.Accessors} becomes {@code com.example.PathAccessor_Outer_Accessors}.
+     *
+     * @param type The accessor interface
+     * @return The binary name of the generated class
+     */
+    public static String implementationName(Class<?> type) {
+        String packageName = type.getPackageName();
+        String simpleName = type.getName().substring(packageName.isEmpty() ? 0 : packageName.length() + 1);
+        String prefix = packageName.isEmpty() ? "" : packageName + ".";
+        return prefix + PREFIX + simpleName.replace('$', '_');
+    }
+
+    /**
+     * Creates an instance of the class generated for an accessor interface.
+     *
+     * @param <T> The accessor interface type
+     * @param type The accessor interface
+     * @return A new instance of the generated implementation
+     * @throws ReflectionException if the generated class cannot be found or instantiated, for example because
+     *                             the annotation processor did not run
+     */
+    public static <T> T create(Class<T> type) {
+        try {
+            Class<?> implementation = Class.forName(implementationName(type), true, type.getClassLoader());
+            Constructor<?> constructor = implementation.getDeclaredConstructor();
+            // Generated classes of package-private interfaces are package-private as well
+            constructor.setAccessible(true);
+            return type.cast(constructor.newInstance());
+        } catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+            throw new ReflectionException("No generated accessor found for " + type.getName(), e);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package dev.pixelib.reflectionpath.errors;
+
+/**
+ * Exception thrown when a path expression is malformed.
+ */
+public class PathSyntaxException extends IllegalArgumentException {
+    private final String description;
+    private final String expression;
+    private final int index;
+
+    /**
+     * Constructs a new PathSyntaxException.
+     *
+     * @param description A description of the error
+     * @param expression The malformed path expression
+     * @param index The index in the expression at which the error was found
+     */
+    public PathSyntaxException(String description, String expression, int index) {
+        super(description + " at index " + index + System.lineSeparator()
+                + expression + System.lineSeparator()
+                + " ".repeat(Math.max(index, 0)) + "^");
+        this.description = description;
+        this.expression = expression;
+        this.index = index;
+    }
+
+    /**
+     * Returns a description of the error.
+     *
+     * @return The description
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Returns the malformed path expression.
+     *
+     * @return The expression
+     */
+    public String getExpression() {
+        return expression;
+    }
+
+    /**
+     * Returns the index in the expression at which the error was found.
+     *
+     * @return The error index
+     */
+    public int getIndex() {
+        return index;
+    }
+}
@@ -0,0 +1,305 @@
+package dev.pixelib.reflectionpath.generation;
+
+import dev.pixelib.reflectionpath.resolution.ResolvedPath;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static dev.pixelib.reflectionpath.generation.ClassFileWriter.Code.*;
+
+/**
+ * Generates a hidden class per resolved chain that reads the whole chain with straight-line bytecode.
+ *
+ * <p>The accessor is defined as a nestmate of the target class, so members that are accessible from the
+ * target class are read with plain {@code getfield}/{@code invokevirtual} instructions. Members that are not,
+ * such as private fields of other classes, are read through a method handle stored in a static final field
+ * of the accessor, which the JIT treats as a constant.
+ *
+ * <p>Generation is skipped when the target class cannot host an accessor, for example because it lives in a
+ * module that is not open to this library or because it was loaded by a class loader that cannot see
+ * {@link GeneratedPath}. Callers are expected to use their reflective path in that case.
+ */
+public final class AccessorGenerator {
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final String BASE = internalName(GeneratedPath.class);
+    private static final String RESOLVED_PATH = ResolvedPath.class.descriptorString();
+    private static final String HANDLE = internalName(MethodHandle.class);
+    private static final String HANDLE_DESCRIPTOR = MethodHandle.class.descriptorString();
+    private static final String OBJECT = internalName(Object.class);
+
+    private AccessorGenerator() {
+    }
+
+    /**
+     * Generates an accessor for the given chain, resolved against the given target class.
+     *
+     * @param targetClass The class the chain was resolved against
+     * @param chain The accessible fields and zero-argument methods to traverse, in order
+     * @param fallback The reflective path used for operations the accessor does not implement itself
+     * @return The generated accessor, or an empty optional if the chain cannot be generated for the target class
+     */
+    public static Optional<ResolvedPath> generate(Class<?> targetClass,
+                                                  List<? extends AccessibleObject> chain,
+                                                  ResolvedPath fallback) {
+        if (chain.isEmpty() || targetClass.isHidden() || targetClass.isArray() || targetClass.isPrimitive()) {
+            return Optional.empty();
+        }
+        for (AccessibleObject member : chain) {
+            if (member instanceof Method method && method.getParameterCount() != 0) {
+                return Optional.empty();
+            }
+        }
+
+        try {
+            MethodHandles.Lookup host = MethodHandles.privateLookupIn(targetClass, LOOKUP);
+            List<MethodHandle> handles = new ArrayList<>();
+            byte[] bytes = write(host, targetClass, chain, handles);
+
+            MethodHandles.Lookup accessor = host.defineHiddenClassWithClassData(
+                    bytes, List.copyOf(handles), true, MethodHandles.Lookup.ClassOption.NESTMATE);
+            MethodHandle constructor = accessor.findConstructor(accessor.lookupClass(),
+                    MethodType.methodType(void.class, ResolvedPath.class));
+            return Optional.of((ResolvedPath) constructor.invoke(fallback));
+        } catch (VirtualMachineError e) {
+            throw e;
+        } catch (Throwable ignored) {
+            return Optional.empty();
+        }
+    }
+
+    private static byte[] write(MethodHandles.Lookup host,
+                                Class<?> targetClass,
+                                List<? extends AccessibleObject> chain,
+                                List<MethodHandle> handles) throws IllegalAccessException {
+        String name = internalName(targetClass) + "$$PathAccessor";
+        ClassFileWriter writer = new ClassFileWriter(
+                ClassFileWriter.ACC_PUBLIC | ClassFileWriter.ACC_FINAL | ClassFileWriter.ACC_SUPER, name, BASE);
+
+        writer.method(ClassFileWriter.ACC_PUBLIC, "<init>", "(" + RESOLVED_PATH + ")V", new ClassFileWriter.Code(2, 2)
+                .op(ALOAD_0)
+                .op(ALOAD_1)
+                .op(INVOKESPECIAL, writer.methodRef(BASE, "<init>", "(" + RESOLVED_PATH + ")V", false))
+                .op(RETURN));
+
+        // Members that cannot be accessed directly are read through a handle in a static field
+        int[] handleIndices = new int[chain.size()];
+        for (int i = 0; i < chain.size(); i++) {
+            Member member = (Member) chain.get(i);
+            if (isDirectlyAccessible(host, targetClass, member)) {
+                handleIndices[i] = -1;
+            } else {
+                handleIndices[i] = handles.size();
+                handles.add(stepHandle(chain.get(i), handleType(valueType(member))));
+                writer.field(ClassFileWriter.ACC_PRIVATE | ClassFileWriter.ACC_STATIC | ClassFileWriter.ACC_FINAL,
+                        "h" + handleIndices[i], HANDLE_DESCRIPTOR);
+            }
+        }
+
+        ClassFileWriter.Code getValue = new ClassFileWriter.Code(4, 2);
+        Class<?> valueType = emitChain(getValue, writer, name, chain, handleIndices);
+        if (valueType == void.class) {
+            getValue.op(ACONST_NULL);
+        } else if (valueType.isPrimitive()) {
+            Class<?> wrapper = MethodType.methodType(valueType).wrap().returnType();
+            getValue.op(INVOKESTATIC, writer.methodRef(internalName(wrapper), "valueOf",
+                    "(" + valueType.descriptorString() + ")" + wrapper.descriptorString(), false));
+        }
+        getValue.op(ARETURN);
+        writer.method(ClassFileWriter.ACC_PUBLIC, "getValue", "(Ljava/lang/Object;)Ljava/lang/Object;", getValue);
+
+        String primitiveAccessor = primitiveAccessor(valueType);
+        if (primitiveAccessor != null) {
+            ClassFileWriter.Code getPrimitive = new ClassFileWriter.Code(4, 2);
+            emitChain(getPrimitive, writer, name, chain, handleIndices);
+            getPrimitive.op(valueType == long.class ? LRETURN : valueType == double.class ? DRETURN : IRETURN);
+            writer.method(ClassFileWriter.ACC_PUBLIC, primitiveAccessor,
+                    "(Ljava/lang/Object;)" + valueType.descriptorString(), getPrimitive);
+        }
+
+        if (!handles.isEmpty()) {
+            writer.method(ClassFileWriter.ACC_STATIC, "<clinit>", "()V", staticInitializer(writer, name, handles.size()));
+        }
+        return writer.toByteArray();
+    }
+
+    /**
+     * Emits the instructions reading the chain from the target in local 1, leaving the value on the stack.
+     *
+     * @return The type of the value left on the stack
+     */
+    private static Class<?> emitChain(ClassFileWriter.Code code,
+                                      ClassFileWriter writer,
+                                      String name,
+                                      List<? extends AccessibleObject> chain,
+                                      int[] handleIndices) {
+        boolean onStack = false;
+        Class<?> valueType = Object.class;
+
+        for (int i = 0; i < chain.size(); i++) {
+            Member member = (Member) chain.get(i);
+            boolean isStatic = Modifier.isStatic(member.getModifiers());
+            valueType = valueType(member);
+
+            if (handleIndices[i] < 0) {
+                String owner = internalName(member.getDeclaringClass());
+                if (isStatic) {
+                    if (onStack) {
+                        code.op(POP);
+                    }
+                } else {
+                    if (!onStack) {
+                        code.op(ALOAD_1);
+                    }
+                    code.op(CHECKCAST, writer.classRef(owner));
+                }
+
+                if (member instanceof Field field) {
+                    code.op(isStatic ? GETSTATIC : GETFIELD,
+                            writer.fieldRef(owner, field.getName(), field.getType().descriptorString()));
+                } else {
+                    Method method = (Method) member;
+                    boolean isInterface = method.getDeclaringClass().isInterface();
+                    int ref = writer.methodRef(owner, method.getName(),
+                            "()" + method.getReturnType().descriptorString(), isInterface);
+                    if (isStatic) {
+                        code.op(INVOKESTATIC, ref);
+                    } else if (isInterface) {
+                        code.invokeInterface(ref, 0);
+                    } else {
+                        code.op(INVOKEVIRTUAL, ref);
+                    }
+                }
+            } else {
+                valueType = handleType(valueType);
+                code.op(GETSTATIC, writer.fieldRef(name, "h" + handleIndices[i], HANDLE_DESCRIPTOR));
+                code.op(onStack ? SWAP : ALOAD_1);
+                code.op(INVOKEVIRTUAL, writer.methodRef(HANDLE, "invokeExact",
+                        "(Ljava/lang/Object;)" + valueType.descriptorString(), false));
+            }
+            onStack = true;
+        }
+        return valueType;
+    }
+
+    private static Class<?> valueType(Member member) {
+        return member instanceof Field field ? field.getType() : ((Method) member).getReturnType();
+    }
+
+    private static Class<?> handleType(Class<?> valueType) {
+        return valueType.isPrimitive() ? valueType : Object.class;
+    }
+
+    private static String primitiveAccessor(Class<?> type) {
+        if (type == int.class) {
+            return "getInt";
+        } else if (type == long.class) {
+            return "getLong";
+        } else if (type == double.class) {
+            return "getDouble";
+        } else if (type == boolean.class) {
+            return "getBoolean";
+        }
+        return null;
+    }
+
+    private static ClassFileWriter.Code staticInitializer(ClassFileWriter writer, String name, int handles) {
+        ClassFileWriter.Code code = new ClassFileWriter.Code(4, 0);
+        String methodHandles = internalName(MethodHandles.class);
+        int lookup = writer.methodRef(methodHandles, "lookup",
+                "()" + MethodHandles.Lookup.class.descriptorString(), false);
+        int classDataAt = writer.methodRef(methodHandles, "classDataAt",
+                "(" + MethodHandles.Lookup.class.descriptorString() + "Ljava/lang/String;Ljava/lang/Class;I)L"
+                        + OBJECT + ";", false);
+
+        for (int i = 0; i < handles; i++) {
+            code.op(INVOKESTATIC, lookup)
+                    .op(LDC_W, writer.string("_"))
+                    .op(LDC_W, writer.classRef(HANDLE))
+                    .pushInt(i)
+                    .op(INVOKESTATIC, classDataAt)
+                    .op(CHECKCAST, writer.classRef(HANDLE))
+                    .op(PUTSTATIC, writer.fieldRef(name, "h" + i, HANDLE_DESCRIPTOR));
+        }
+        return code.op(RETURN);
+    }
+
+    /**
+     * Creates a handle of type {@code (Object)valueType} for a single step of the chain.
+     */
+    private static MethodHandle stepHandle(AccessibleObject member, Class<?> valueType) throws IllegalAccessException {
+        MethodHandle step;
+        boolean isStatic;
+        if (member instanceof Field field) {
+            step = LOOKUP.unreflectGetter(field);
+            isStatic = Modifier.isStatic(field.getModifiers());
+        } else {
+            Method method = (Method) member;
+            step = LOOKUP.unreflect(method);
+            isStatic = Modifier.isStatic(method.getModifiers());
+        }
+        if (isStatic) {
+            step = MethodHandles.dropArguments(step, 0, Object.class);
+        }
+        return step.asType(MethodType.methodType(valueType, Object.class));
+    }
+
+    private static boolean isDirectlyAccessible(MethodHandles.Lookup host, Class<?> targetClass, Member member) {
+        Class<?> owner = member.getDeclaringClass();
+        Class<?> type = valueType(member);
+        if (!isVisible(targetClass, owner) || !isVisible(targetClass, type)) {
+            return false;
+        }
+        try {
+            host.accessClass(owner);
+        } catch (IllegalAccessException e) {
+            return false;
+        }
+
+        int modifiers = member.getModifiers();
+        if (Modifier.isPublic(modifiers)) {
+            return true;
+        }
+        if (Modifier.isPrivate(modifiers)) {
+            return owner.getNestHost() == targetClass.getNestHost()
+                    && !(member instanceof Method && owner.isInterface());
+        }
+        // Package-private and protected members; protected access from another package would require
+        // the accessor to be a subclass of the owner
+        return owner.getClassLoader() == targetClass.getClassLoader()
+                && owner.getPackageName().equals(targetClass.getPackageName());
+    }
+
+    /**
+     * Checks whether a type resolves to the same class when referenced by name from the target class.
+     */
+    private static boolean isVisible(Class<?> targetClass, Class<?> type) {
+        while (type.isArray()) {
+            type = type.getComponentType();
+        }
+        if (type.isPrimitive()) {
+            return true;
+        }
+        if (type.isHidden()) {
+            return false;
+        }
+        try {
+            return Class.forName(type.getName(), false, targetClass.getClassLoader()) == type;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    private static String internalName(Class<?> type) {
+        return type.getName().replace('.', '/');
+    }
+}
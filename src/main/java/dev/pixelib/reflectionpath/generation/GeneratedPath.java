@@ -0,0 +1,86 @@
+package dev.pixelib.reflectionpath.generation;
+
+import dev.pixelib.reflectionpath.resolution.ResolvedPath;
+
+/**
+ * Base class of the hidden accessor classes produced by {@link AccessorGenerator}.
+ * Generated subclasses implement {@link #getValue(Object)} and the primitive accessor matching the type at the
+ * end of the path with straight-line bytecode, every other operation is delegated to the reflective path
+ * the accessor was generated from.
+ */
+public abstract class GeneratedPath implements ResolvedPath {
+    private final ResolvedPath fallback;
+
+    /**
+     * Constructs a new GeneratedPath.
+     *
+     * @param fallback The reflective path used for operations that are not generated
+     */
+    protected GeneratedPath(ResolvedPath fallback) {
+        this.fallback = fallback;
+    }
+
+    /**
+     * Returns the reflective path this accessor was generated from.
+     *
+     * @return The fallback path
+     */
+    public ResolvedPath fallback() {
+        return fallback;
+    }
+
+    @Override
+    public Object getValueOrNull(Object target) throws Exception {
+        return fallback.getValueOrNull(target);
+    }
+
+    @Override
+    public Object invoke(Object target, Object... args) throws Exception {
+        return fallback.invoke(target, args);
+    }
+
+    @Override
+    public int getInt(Object target) throws Exception {
+        return fallback.getInt(target);
+    }
+
+    @Override
+    public long getLong(Object target) throws Exception {
+        return fallback.getLong(target);
+    }
+
+    @Override
+    public double getDouble(Object target) throws Exception {
+        return fallback.getDouble(target);
+    }
+
+    @Override
+    public boolean getBoolean(Object target) throws Exception {
+        return fallback.getBoolean(target);
+    }
+
+    @Override
+    public void setValue(Object target, Object value) throws Exception {
+        fallback.setValue(target, value);
+    }
+
+    @Override
+    public void setInt(Object target, int value) throws Exception {
+        fallback.setInt(target, value);
+    }
+
+    @Override
+    public void setLong(Object target, long value) throws Exception {
+        fallback.setLong(target, value);
+    }
+
+    @Override
+    public void setDouble(Object target, double value) throws Exception {
+        fallback.setDouble(target, value);
+    }
+
+    @Override
+    public void setBoolean(Object target, boolean value) throws Exception {
+        fallback.setBoolean(target, value);
+    }
+}
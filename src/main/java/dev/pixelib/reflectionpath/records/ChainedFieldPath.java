@@ -15,8 +15,64 @@ public record ChainedFieldPath(ResolvedPath parent, Field field) implements Reso
         return field.get(parentValue);
     }
 
+    @Override
+    public Object getValueOrNull(Object target) throws Exception {
+        Object parentValue = parent.getValueOrNull(target);
+        return parentValue == null ? null : field.get(parentValue);
+    }
+
     @Override
     public Object invoke(Object target, Object... args) throws Exception {
         throw new ReflectionException("Cannot invoke a field as a method");
     }
+
+    @Override
+    public int getInt(Object target) throws Exception {
+        return field.getInt(parent.getValue(target));
+    }
+
+    @Override
+    public long getLong(Object target) throws Exception {
+        return field.getLong(parent.getValue(target));
+    }
+
+    @Override
+    public double getDouble(Object target) throws Exception {
+        return field.getDouble(parent.getValue(target));
+    }
+
+    @Override
+    public boolean getBoolean(Object target) throws Exception {
+        return field.getBoolean(parent.getValue(target));
+    }
+
+    @Override
+    public void setValue(Object target, Object value) throws Exception {
+        Handles.requireWritable(field);
+        field.set(parent.getValue(target), value);
+    }
+
+    @Override
+    public void setInt(Object target, int value) throws Exception {
+        Handles.requireWritable(field);
+        field.setInt(parent.getValue(target), value);
+    }
+
+    @Override
+    public void setLong(Object target, long value) throws Exception {
+        Handles.requireWritable(field);
+        field.setLong(parent.getValue(target), value);
+    }
+
+    @Override
+    public void setDouble(Object target, double value) throws Exception {
+        Handles.requireWritable(field);
+        field.setDouble(parent.getValue(target), value);
+    }
+
+    @Override
+    public void setBoolean(Object target, boolean value) throws Exception {
+        Handles.requireWritable(field);
+        field.setBoolean(parent.getValue(target), value);
+    }
 }
@@ -1,22 +1,103 @@
 package dev.pixelib.reflectionpath.records;
 
+import dev.pixelib.reflectionpath.errors.ReflectionException;
 import dev.pixelib.reflectionpath.resolution.ResolvedPath;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Method;
 
 /**
  * Implementation of ResolvedPath that represents a chain of paths ending in a method access.
+ * Primitive reads go through {@code handle}, as {@link Method#invoke} always boxes its result, unless the method
+ * returns a reference or a primitive that does not widen to the requested type.
+ *
+ * @param parent The path leading to the receiver of the method
+ * @param method The accessible method
+ * @param handle Handle of type {@code (Object)R} for the method, where R is its return type
  */
-public record ChainedMethodPath(ResolvedPath parent, Method method) implements ResolvedPath {
+public record ChainedMethodPath(ResolvedPath parent, Method method, MethodHandle handle) implements ResolvedPath {
+    /**
+     * Constructs a new ChainedMethodPath for an accessible method.
+     *
+     * @param parent The path leading to the receiver of the method
+     * @param method The accessible method
+     */
+    public ChainedMethodPath(ResolvedPath parent, Method method) {
+        this(parent, method, Handles.receiverHandle(method));
+    }
+
     @Override
     public Object getValue(Object target) throws Exception {
         Object parentValue = parent.getValue(target);
         return method.invoke(parentValue);
     }
 
+    @Override
+    public Object getValueOrNull(Object target) throws Exception {
+        Object parentValue = parent.getValueOrNull(target);
+        return parentValue == null ? null : method.invoke(parentValue);
+    }
+
     @Override
     public Object invoke(Object target, Object... args) throws Exception {
         Object parentValue = parent.getValue(target);
         return method.invoke(parentValue, args);
     }
+
+    @Override
+    public int getInt(Object target) throws Exception {
+        if (!Handles.widens(method.getReturnType(), int.class)) {
+            return ResolvedPath.super.getInt(target);
+        }
+        Object parentValue = parent.getValue(target);
+        try {
+            return (int) handle.invoke(parentValue);
+        } catch (Throwable t) {
+            throw Handles.rethrow(t);
+        }
+    }
+
+    @Override
+    public long getLong(Object target) throws Exception {
+        if (!Handles.widens(method.getReturnType(), long.class)) {
+            return ResolvedPath.super.getLong(target);
+        }
+        Object parentValue = parent.getValue(target);
+        try {
+            return (long) handle.invoke(parentValue);
+        } catch (Throwable t) {
+            throw Handles.rethrow(t);
+        }
+    }
+
+    @Override
+    public double getDouble(Object target) throws Exception {
+        if (!Handles.widens(method.getReturnType(), double.class)) {
+            return ResolvedPath.super.getDouble(target);
+        }
+        Object parentValue = parent.getValue(target);
+        try {
+            return (double) handle.invoke(parentValue);
+        } catch (Throwable t) {
+            throw Handles.rethrow(t);
+        }
+    }
+
+    @Override
+    public boolean getBoolean(Object target) throws Exception {
+        if (!Handles.widens(method.getReturnType(), boolean.class)) {
+            return ResolvedPath.super.getBoolean(target);
+        }
+        Object parentValue = parent.getValue(target);
+        try {
+            return (boolean) handle.invoke(parentValue);
+        } catch (Throwable t) {
+            throw Handles.rethrow(t);
+        }
+    }
+
+    @Override
+    public void setValue(Object target, Object value) throws Exception {
+        throw new ReflectionException("Cannot set a value through a method");
+    }
 }
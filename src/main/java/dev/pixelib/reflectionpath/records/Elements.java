@@ -0,0 +1,22 @@
+package dev.pixelib.reflectionpath.records;
+
+import java.lang.reflect.Array;
+
+/**
+ * Helpers for the element paths in this package.
+ */
+final class Elements {
+    private Elements() {
+    }
+
+    /**
+     * Reads an element of an array, or returns null if the array is null or the index is out of range.
+     *
+     * @param array The array, of any component type
+     * @param index The index of the element
+     * @return The element, boxed if the array is of a primitive type, or null
+     */
+    static Object elementOrNull(Object array, int index) {
+        return array == null || index >= Array.getLength(array) ? null : Array.get(array, index);
+    }
+}
@@ -18,4 +18,54 @@ public record FieldPath(Field field) implements ResolvedPath {
     public Object invoke(Object target, Object... args) throws Exception {
         throw new ReflectionException("Cannot invoke a field as a method");
     }
+
+    @Override
+    public int getInt(Object target) throws Exception {
+        return field.getInt(target);
+    }
+
+    @Override
+    public long getLong(Object target) throws Exception {
+        return field.getLong(target);
+    }
+
+    @Override
+    public double getDouble(Object target) throws Exception {
+        return field.getDouble(target);
+    }
+
+    @Override
+    public boolean getBoolean(Object target) throws Exception {
+        return field.getBoolean(target);
+    }
+
+    @Override
+    public void setValue(Object target, Object value) throws Exception {
+        Handles.requireWritable(field);
+        field.set(target, value);
+    }
+
+    @Override
+    public void setInt(Object target, int value) throws Exception {
+        Handles.requireWritable(field);
+        field.setInt(target, value);
+    }
+
+    @Override
+    public void setLong(Object target, long value) throws Exception {
+        Handles.requireWritable(field);
+        field.setLong(target, value);
+    }
+
+    @Override
+    public void setDouble(Object target, double value) throws Exception {
+        Handles.requireWritable(field);
+        field.setDouble(target, value);
+    }
+
+    @Override
+    public void setBoolean(Object target, boolean value) throws Exception {
+        Handles.requireWritable(field);
+        field.setBoolean(target, value);
+    }
 }
@@ -0,0 +1,343 @@
+package dev.pixelib.reflectionpath.records;
+
+import dev.pixelib.reflectionpath.errors.ReflectionException;
+import dev.pixelib.reflectionpath.resolution.ResolvedPath;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Implementation of ResolvedPath that folds a whole chain of members into a single composed method handle.
+ *
+ * @param getter Handle of type {@code (Object)Object} reading the value at the end of the chain,
+ *               or null if the chain ends in a method that requires arguments
+ * @param typedGetter Handle of type {@code (Object)R} reading the value at the end of the chain without boxing,
+ *                    where R is the type of the last member, or null if {@code getter} is null. Primitive reads
+ *                    only use it when R is a primitive that widens to the requested type
+ * @param safeGetter Handle of type {@code (Object)Object} reading the value at the end of the chain that returns
+ *                   null as soon as a receiver is null, or null if {@code getter} is null
+ * @param invoker Handle of type {@code (Object, Object[])Object} invoking the final method of the chain,
+ *                or null if the chain ends in a field
+ * @param setter Handle of type {@code (Object, Object)void} writing the field at the end of the chain,
+ *               or null if the chain ends in a method
+ * @param typedSetter Handle of type {@code (Object, R)void} writing the field at the end of the chain without boxing,
+ *                    where R is the type of the field, or null if the chain ends in a method
+ */
+public record HandlePath(MethodHandle getter,
+                         MethodHandle typedGetter,
+                         MethodHandle safeGetter,
+                         MethodHandle invoker,
+                         MethodHandle setter,
+                         MethodHandle typedSetter) implements ResolvedPath {
+    private static final MethodHandle NON_NULL;
+    private static final MethodHandle ELEMENT_OR_NULL;
+    private static final MethodHandle NULL_RESULT = MethodHandles.dropArguments(
+            MethodHandles.constant(Object.class, null), 0, Object.class);
+
+    static {
+        try {
+            NON_NULL = Handles.LOOKUP.findStatic(Objects.class, "nonNull",
+                    MethodType.methodType(boolean.class, Object.class));
+            ELEMENT_OR_NULL = Handles.LOOKUP.findStatic(Elements.class, "elementOrNull",
+                    MethodType.methodType(Object.class, Object.class, int.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * Composes the given chain of accessible members into a HandlePath.
+     *
+     * @param chain The fields and methods to traverse, in order
+     * @return A new HandlePath for the chain
+     * @throws IllegalAccessException if one of the members cannot be unreflected
+     * @throws IllegalArgumentException if the chain is empty
+     */
+    public static HandlePath of(List<? extends AccessibleObject> chain) throws IllegalAccessException {
+        return compose(null, null, chain);
+    }
+
+    /**
+     * Composes the given chain of accessible members onto the value of this path.
+     *
+     * @param chain The fields and methods to traverse from the value of this path, in order
+     * @return A new HandlePath for this path followed by the chain
+     * @throws IllegalAccessException if one of the members cannot be unreflected
+     * @throws IllegalArgumentException if the chain is empty or this path ends in a method that requires arguments
+     */
+    public HandlePath then(List<? extends AccessibleObject> chain) throws IllegalAccessException {
+        if (typedGetter == null) {
+            throw new IllegalArgumentException("Cannot extend a method that requires arguments");
+        }
+        return compose(typedGetter, safeGetter, chain);
+    }
+
+    /**
+     * Folds a constant index into this path, which must evaluate to an array. Elements of primitive arrays are
+     * read and written without boxing. The null-safe getter returns null if the index is out of range.
+     *
+     * @param index The index of the element
+     * @return A new HandlePath reading and writing the element at the index of the array
+     * @throws IllegalArgumentException if this path does not evaluate to an array
+     */
+    public HandlePath element(int index) {
+        Class<?> arrayType = typedGetter == null ? void.class : typedGetter.type().returnType();
+        if (!arrayType.isArray()) {
+            throw new IllegalArgumentException("Cannot index a path that does not evaluate to an array");
+        }
+
+        MethodHandle typed = MethodHandles.filterReturnValue(typedGetter,
+                MethodHandles.insertArguments(MethodHandles.arrayElementGetter(arrayType), 1, index));
+        MethodHandle safe = MethodHandles.filterReturnValue(safeGetter,
+                MethodHandles.insertArguments(ELEMENT_OR_NULL, 1, index));
+        MethodHandle typedWriter = MethodHandles.filterArguments(
+                MethodHandles.insertArguments(MethodHandles.arrayElementSetter(arrayType), 1, index),
+                0, typedGetter);
+        return new HandlePath(typed.asType(MethodType.methodType(Object.class, Object.class)), typed, safe, null,
+                typedWriter.asType(MethodType.methodType(void.class, Object.class, Object.class)), typedWriter);
+    }
+
+    private static HandlePath compose(MethodHandle parent, MethodHandle safeParent,
+                                      List<? extends AccessibleObject> chain) throws IllegalAccessException {
+        if (chain.isEmpty()) {
+            throw new IllegalArgumentException("Cannot compose an empty chain");
+        }
+
+        MethodHandle getter = parent;
+        MethodHandle safeGetter = safeParent;
+        MethodHandle invoker = null;
+        MethodHandle typedSetter = null;
+        int last = chain.size() - 1;
+
+        for (int i = 0; i <= last; i++) {
+            AccessibleObject member = chain.get(i);
+            MethodHandle step;
+
+            if (member instanceof Field field) {
+                step = Handles.LOOKUP.unreflectGetter(field);
+                if (Modifier.isStatic(field.getModifiers())) {
+                    step = MethodHandles.dropArguments(step, 0, Object.class);
+                }
+                if (i == last) {
+                    typedSetter = fieldSetter(getter, field);
+                }
+            } else if (member instanceof Method method) {
+                step = Handles.LOOKUP.unreflect(method).asFixedArity();
+                if (Modifier.isStatic(method.getModifiers())) {
+                    step = MethodHandles.dropArguments(step, 0, Object.class);
+                }
+                if (i == last) {
+                    invoker = spreadInvoker(getter, step);
+                }
+                if (step.type().parameterCount() != 1) {
+                    if (i != last) {
+                        throw new IllegalArgumentException("Method " + method.getName() + " requires arguments");
+                    }
+                    getter = null;
+                    break;
+                }
+            } else {
+                throw new IllegalArgumentException("Unsupported member: " + member);
+            }
+
+            Class<?> receiver = getter == null ? Object.class : getter.type().returnType();
+            step = step.asType(step.type().changeParameterType(0, receiver));
+            getter = getter == null ? step : MethodHandles.filterReturnValue(getter, step);
+
+            MethodHandle safeStep = MethodHandles.guardWithTest(NON_NULL,
+                    step.asType(MethodType.methodType(Object.class, Object.class)), NULL_RESULT);
+            safeGetter = safeGetter == null ? safeStep : MethodHandles.filterReturnValue(safeGetter, safeStep);
+        }
+
+        MethodHandle setter = typedSetter == null ? null
+                : typedSetter.asType(MethodType.methodType(void.class, Object.class, Object.class));
+        if (getter == null) {
+            return new HandlePath(null, null, null, invoker, setter, typedSetter);
+        }
+        return new HandlePath(getter.asType(MethodType.methodType(Object.class, Object.class)), getter,
+                safeGetter, invoker, setter, typedSetter);
+    }
+
+    private static MethodHandle fieldSetter(MethodHandle parent, Field field) throws IllegalAccessException {
+        MethodHandle setter;
+        if (Modifier.isFinal(field.getModifiers())) {
+            setter = Handles.finalFieldSetter(field)
+                    .asType(MethodType.methodType(void.class, Object.class, field.getType()));
+        } else {
+            setter = Handles.LOOKUP.unreflectSetter(field);
+            if (Modifier.isStatic(field.getModifiers())) {
+                setter = MethodHandles.dropArguments(setter, 0, Object.class);
+            }
+        }
+
+        Class<?> receiver = parent == null ? Object.class : parent.type().returnType();
+        setter = setter.asType(setter.type().changeParameterType(0, receiver));
+        return parent == null ? setter : MethodHandles.filterArguments(setter, 0, parent);
+    }
+
+    private static MethodHandle spreadInvoker(MethodHandle parent, MethodHandle method) {
+        int arguments = method.type().parameterCount() - 1;
+        MethodHandle invoker = method
+                .asType(MethodType.genericMethodType(arguments + 1))
+                .asSpreader(Object[].class, arguments);
+        if (parent != null) {
+            invoker = MethodHandles.filterArguments(invoker, 0,
+                    parent.asType(MethodType.methodType(Object.class, Object.class)));
+        }
+        return invoker;
+    }
+
+    @Override
+    public Object getValue(Object target) throws Exception {
+        if (getter == null) {
+            throw new ReflectionException("Cannot read a method that requires arguments");
+        }
+        try {
+            return (Object) getter.invokeExact(target);
+        } catch (Throwable t) {
+            throw Handles.rethrow(t);
+        }
+    }
+
+    @Override
+    public Object getValueOrNull(Object target) throws Exception {
+        if (safeGetter == null) {
+            throw new ReflectionException("Cannot read a method that requires arguments");
+        }
+        try {
+            return (Object) safeGetter.invokeExact(target);
+        } catch (Throwable t) {
+            throw Handles.rethrow(t);
+        }
+    }
+
+    @Override
+    public Object invoke(Object target, Object... args) throws Exception {
+        if (invoker == null) {
+            throw new ReflectionException("Cannot invoke a field as a method");
+        }
+        try {
+            return (Object) invoker.invokeExact(target, args);
+        } catch (Throwable t) {
+            throw Handles.rethrow(t);
+        }
+    }
+
+    @Override
+    public int getInt(Object target) throws Exception {
+        MethodHandle typed = readableGetter();
+        if (!Handles.widens(typed.type().returnType(), int.class)) {
+            return ResolvedPath.super.getInt(target);
+        }
+        try {
+            return (int) typed.invoke(target);
+        } catch (Throwable t) {
+            throw Handles.rethrow(t);
+        }
+    }
+
+    @Override
+    public long getLong(Object target) throws Exception {
+        MethodHandle typed = readableGetter();
+        if (!Handles.widens(typed.type().returnType(), long.class)) {
+            return ResolvedPath.super.getLong(target);
+        }
+        try {
+            return (long) typed.invoke(target);
+        } catch (Throwable t) {
+            throw Handles.rethrow(t);
+        }
+    }
+
+    @Override
+    public double getDouble(Object target) throws Exception {
+        MethodHandle typed = readableGetter();
+        if (!Handles.widens(typed.type().returnType(), double.class)) {
+            return ResolvedPath.super.getDouble(target);
+        }
+        try {
+            return (double) typed.invoke(target);
+        } catch (Throwable t) {
+            throw Handles.rethrow(t);
+        }
+    }
+
+    @Override
+    public boolean getBoolean(Object target) throws Exception {
+        MethodHandle typed = readableGetter();
+        if (!Handles.widens(typed.type().returnType(), boolean.class)) {
+            return ResolvedPath.super.getBoolean(target);
+        }
+        try {
+            return (boolean) typed.invoke(target);
+        } catch (Throwable t) {
+            throw Handles.rethrow(t);
+        }
+    }
+
+    @Override
+    public void setValue(Object target, Object value) throws Exception {
+        try {
+            writableSetter(setter).invokeExact(target, value);
+        } catch (Throwable t) {
+            throw Handles.rethrow(t);
+        }
+    }
+
+    @Override
+    public void setInt(Object target, int value) throws Exception {
+        try {
+            writableSetter(typedSetter).invoke(target, value);
+        } catch (Throwable t) {
+            throw Handles.rethrow(t);
+        }
+    }
+
+    @Override
+    public void setLong(Object target, long value) throws Exception {
+        try {
+            writableSetter(typedSetter).invoke(target, value);
+        } catch (Throwable t) {
+            throw Handles.rethrow(t);
+        }
+    }
+
+    @Override
+    public void setDouble(Object target, double value) throws Exception {
+        try {
+            writableSetter(typedSetter).invoke(target, value);
+        } catch (Throwable t) {
+            throw Handles.rethrow(t);
+        }
+    }
+
+    @Override
+    public void setBoolean(Object target, boolean value) throws Exception {
+        try {
+            writableSetter(typedSetter).invoke(target, value);
+        } catch (Throwable t) {
+            throw Handles.rethrow(t);
+        }
+    }
+
+    private static MethodHandle writableSetter(MethodHandle setter) {
+        if (setter == null) {
+            throw new ReflectionException("Cannot set a value through a method");
+        }
+        return setter;
+    }
+
+    private MethodHandle readableGetter() {
+        if (typedGetter == null) {
+            throw new ReflectionException("Cannot read a method that requires arguments");
+        }
+        return typedGetter;
+    }
+}
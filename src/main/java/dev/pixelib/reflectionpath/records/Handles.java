@@ -0,0 +1,119 @@
+package dev.pixelib.reflectionpath.records;
+
+import dev.pixelib.reflectionpath.errors.ReflectionException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Method handle helpers shared by the records in this package.
+ */
+final class Handles {
+    static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final MethodHandle REJECT_WRITE;
+
+    static {
+        try {
+            REJECT_WRITE = LOOKUP.findStatic(Handles.class, "rejectWrite",
+                    MethodType.methodType(void.class, Field.class, Object.class, Object.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private Handles() {
+    }
+
+    /**
+     * Creates a handle of type {@code (Object)R} for an accessible method, where R is the method's return type.
+     * Static methods ignore their receiver argument.
+     *
+     * @param method The accessible method
+     * @return The normalized handle
+     */
+    static MethodHandle receiverHandle(Method method) {
+        try {
+            MethodHandle handle = LOOKUP.unreflect(method).asFixedArity();
+            if (Modifier.isStatic(method.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            return handle.asType(handle.type().changeParameterType(0, Object.class));
+        } catch (IllegalAccessException e) {
+            throw new ReflectionException("Failed to unreflect method " + method.getName(), e);
+        }
+    }
+
+    /**
+     * Tells whether a primitive accessor can read a value of the given type straight from a typed handle, which is
+     * the case for primitives that widen to the accessor's type. The handle would unbox references and turn void
+     * into zero, so other values go through the conversion of the boxed value instead.
+     *
+     * @param type The type returned by the handle
+     * @param accessor The type of the primitive accessor
+     * @return true if the handle can be invoked with the accessor's type
+     */
+    static boolean widens(Class<?> type, Class<?> accessor) {
+        if (!type.isPrimitive() || type == void.class) {
+            return false;
+        }
+        if (type == boolean.class || accessor == boolean.class) {
+            return type == accessor;
+        }
+        if (accessor == double.class) {
+            return true;
+        }
+        if (type == float.class || type == double.class) {
+            return false;
+        }
+        return accessor == long.class || type != long.class;
+    }
+
+    /**
+     * Ensures that a field can be written through a path.
+     *
+     * @param field The field to check
+     * @throws ReflectionException if the field is final
+     */
+    static void requireWritable(Field field) {
+        if (Modifier.isFinal(field.getModifiers())) {
+            rejectWrite(field, null, null);
+        }
+    }
+
+    /**
+     * Creates a handle of type {@code (Object, Object)void} that rejects writes to a final field.
+     *
+     * @param field The final field
+     * @return The rejecting handle
+     */
+    static MethodHandle finalFieldSetter(Field field) {
+        return MethodHandles.insertArguments(REJECT_WRITE, 0, field);
+    }
+
+    private static void rejectWrite(Field field, Object target, Object value) {
+        throw new ReflectionException("Cannot write final field " + field.getName()
+                + " of " + field.getDeclaringClass().getSimpleName());
+    }
+
+    /**
+     * Rethrows a throwable raised by a method handle as an exception that a ResolvedPath may throw.
+     *
+     * @param throwable The throwable to rethrow
+     * @return Never returns normally, declared so callers can write {@code throw Handles.rethrow(t)}
+     * @throws Exception The throwable itself if it is an exception
+     */
+    static Exception rethrow(Throwable throwable) throws Exception {
+        if (throwable instanceof Exception exception) {
+            throw exception;
+        }
+        if (throwable instanceof Error error) {
+            throw error;
+        }
+        return new ReflectionException("Unexpected throwable", throwable);
+    }
+}
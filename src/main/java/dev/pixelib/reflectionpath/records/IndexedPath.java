@@ -0,0 +1,144 @@
+package dev.pixelib.reflectionpath.records;
+
+import dev.pixelib.reflectionpath.errors.ReflectionException;
+import dev.pixelib.reflectionpath.resolution.ResolvedPath;
+
+import java.lang.reflect.Array;
+import java.util.List;
+
+/**
+ * Implementation of ResolvedPath that reads the element at a constant index of the array or List its container
+ * evaluates to. Elements of primitive arrays are read and written without boxing. Reading an index that is out
+ * of range fails, except through {@link #getValueOrNull(Object)}, which returns null instead.
+ *
+ * @param container The path evaluating to the array or List
+ * @param index The index of the element
+ */
+public record IndexedPath(ResolvedPath container, int index) implements ResolvedPath {
+    @Override
+    public Object getValue(Object target) throws Exception {
+        return element(indexable(container.getValue(target)));
+    }
+
+    @Override
+    public Object getValueOrNull(Object target) throws Exception {
+        Object value = container.getValueOrNull(target);
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof List<?> list) {
+            return index < list.size() ? list.get(index) : null;
+        }
+        return index < Array.getLength(indexable(value)) ? Array.get(value, index) : null;
+    }
+
+    @Override
+    public Object invoke(Object target, Object... args) throws Exception {
+        throw new ReflectionException("Cannot invoke an element as a method");
+    }
+
+    @Override
+    public int getInt(Object target) throws Exception {
+        Object value = indexable(container.getValue(target));
+        return isPrimitiveArray(value) ? Array.getInt(value, index) : ResolvedPath.toInt(element(value));
+    }
+
+    @Override
+    public long getLong(Object target) throws Exception {
+        Object value = indexable(container.getValue(target));
+        return isPrimitiveArray(value) ? Array.getLong(value, index) : ResolvedPath.toLong(element(value));
+    }
+
+    @Override
+    public double getDouble(Object target) throws Exception {
+        Object value = indexable(container.getValue(target));
+        return isPrimitiveArray(value) ? Array.getDouble(value, index) : ResolvedPath.toDouble(element(value));
+    }
+
+    @Override
+    public boolean getBoolean(Object target) throws Exception {
+        Object value = indexable(container.getValue(target));
+        return isPrimitiveArray(value) ? Array.getBoolean(value, index) : ResolvedPath.toBoolean(element(value));
+    }
+
+    @Override
+    public void setValue(Object target, Object value) throws Exception {
+        set(indexable(container.getValue(target)), value);
+    }
+
+    @Override
+    public void setInt(Object target, int value) throws Exception {
+        Object array = indexable(container.getValue(target));
+        if (isPrimitiveArray(array)) {
+            Array.setInt(array, index, value);
+        } else {
+            set(array, value);
+        }
+    }
+
+    @Override
+    public void setLong(Object target, long value) throws Exception {
+        Object array = indexable(container.getValue(target));
+        if (isPrimitiveArray(array)) {
+            Array.setLong(array, index, value);
+        } else {
+            set(array, value);
+        }
+    }
+
+    @Override
+    public void setDouble(Object target, double value) throws Exception {
+        Object array = indexable(container.getValue(target));
+        if (isPrimitiveArray(array)) {
+            Array.setDouble(array, index, value);
+        } else {
+            set(array, value);
+        }
+    }
+
+    @Override
+    public void setBoolean(Object target, boolean value) throws Exception {
+        Object array = indexable(container.getValue(target));
+        if (isPrimitiveArray(array)) {
+            Array.setBoolean(array, index, value);
+        } else {
+            set(array, value);
+        }
+    }
+
+    /**
+     * Reads the element at the index of an object array or List, boxed.
+     */
+    private Object element(Object indexable) {
+        if (indexable instanceof List<?> list) {
+            return list.get(index);
+        }
+        return Array.get(indexable, index);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void set(Object indexable, Object value) {
+        if (indexable instanceof List<?> list) {
+            ((List<Object>) list).set(index, value);
+        } else {
+            Array.set(indexable, index, value);
+        }
+    }
+
+    /**
+     * Returns whether a value is an array of a primitive type, as opposed to an array of objects or a List.
+     */
+    private static boolean isPrimitiveArray(Object value) {
+        return value.getClass().isArray() && value.getClass().getComponentType().isPrimitive();
+    }
+
+    private static Object indexable(Object value) {
+        if (value == null) {
+            throw new ReflectionException("Cannot index null");
+        }
+        if (!(value instanceof List<?>) && !value.getClass().isArray()) {
+            throw new ReflectionException("Cannot index " + value.getClass().getName());
+        }
+        return value;
+    }
+}
@@ -0,0 +1,49 @@
+package dev.pixelib.reflectionpath.records;
+
+import dev.pixelib.reflectionpath.errors.ReflectionException;
+import dev.pixelib.reflectionpath.resolution.ResolvedPath;
+
+import java.util.Map;
+
+/**
+ * Implementation of ResolvedPath that reads the value of a constant key of the Map its container evaluates to.
+ * Reading a key that is absent fails, except through {@link #getValueOrNull(Object)}, which returns null instead.
+ *
+ * @param container The path evaluating to the Map
+ * @param key The key of the entry
+ */
+public record KeyedPath(ResolvedPath container, Object key) implements ResolvedPath {
+    @Override
+    public Object getValue(Object target) throws Exception {
+        Map<?, ?> map = map(container.getValue(target));
+        Object value = map.get(key);
+        if (value == null && !map.containsKey(key)) {
+            throw new ReflectionException("No entry for key " + key);
+        }
+        return value;
+    }
+
+    @Override
+    public Object getValueOrNull(Object target) throws Exception {
+        Object value = container.getValueOrNull(target);
+        return value == null ? null : map(value).get(key);
+    }
+
+    @Override
+    public Object invoke(Object target, Object... args) throws Exception {
+        throw new ReflectionException("Cannot invoke an entry as a method");
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void setValue(Object target, Object value) throws Exception {
+        ((Map<Object, Object>) map(container.getValue(target))).put(key, value);
+    }
+
+    private static Map<?, ?> map(Object value) {
+        if (value instanceof Map<?, ?> map) {
+            return map;
+        }
+        throw new ReflectionException("Cannot look up a key in " + (value == null ? "null" : value.getClass().getName()));
+    }
+}
@@ -1,13 +1,29 @@
 package dev.pixelib.reflectionpath.records;
 
+import dev.pixelib.reflectionpath.errors.ReflectionException;
 import dev.pixelib.reflectionpath.resolution.ResolvedPath;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Method;
 
 /**
  * Implementation of ResolvedPath that represents a direct method access.
+ * Primitive reads go through {@code handle}, as {@link Method#invoke} always boxes its result, unless the method
+ * returns a reference or a primitive that does not widen to the requested type.
+ *
+ * @param method The accessible method
+ * @param handle Handle of type {@code (Object)R} for the method, where R is its return type
  */
-public record MethodPath(Method method) implements ResolvedPath {
+public record MethodPath(Method method, MethodHandle handle) implements ResolvedPath {
+    /**
+     * Constructs a new MethodPath for an accessible method.
+     *
+     * @param method The accessible method
+     */
+    public MethodPath(Method method) {
+        this(method, Handles.receiverHandle(method));
+    }
+
     @Override
     public Object getValue(Object target) throws Exception {
         return method.invoke(target);
@@ -17,4 +33,57 @@ public record MethodPath(Method method) implements ResolvedPath {
     public Object invoke(Object target, Object... args) throws Exception {
         return method.invoke(target, args);
     }
+
+    @Override
+    public int getInt(Object target) throws Exception {
+        if (!Handles.widens(method.getReturnType(), int.class)) {
+            return ResolvedPath.super.getInt(target);
+        }
+        try {
+            return (int) handle.invoke(target);
+        } catch (Throwable t) {
+            throw Handles.rethrow(t);
+        }
+    }
+
+    @Override
+    public long getLong(Object target) throws Exception {
+        if (!Handles.widens(method.getReturnType(), long.class)) {
+            return ResolvedPath.super.getLong(target);
+        }
+        try {
+            return (long) handle.invoke(target);
+        } catch (Throwable t) {
+            throw Handles.rethrow(t);
+        }
+    }
+
+    @Override
+    public double getDouble(Object target) throws Exception {
+        if (!Handles.widens(method.getReturnType(), double.class)) {
+            return ResolvedPath.super.getDouble(target);
+        }
+        try {
+            return (double) handle.invoke(target);
+        } catch (Throwable t) {
+            throw Handles.rethrow(t);
+        }
+    }
+
+    @Override
+    public boolean getBoolean(Object target) throws Exception {
+        if (!Handles.widens(method.getReturnType(), boolean.class)) {
+            return ResolvedPath.super.getBoolean(target);
+        }
+        try {
+            return (boolean) handle.invoke(target);
+        } catch (Throwable t) {
+            throw Handles.rethrow(t);
+        }
+    }
+
+    @Override
+    public void setValue(Object target, Object value) throws Exception {
+        throw new ReflectionException("Cannot set a value through a method");
+    }
 }
@@ -0,0 +1,140 @@
+package dev.pixelib.reflectionpath.records;
+
+import dev.pixelib.reflectionpath.errors.ReflectionException;
+import dev.pixelib.reflectionpath.resolution.ResolvedPath;
+
+import java.util.List;
+
+/**
+ * Implementation of ResolvedPath that joins paths at null-safe steps. Each step is applied to the value of the
+ * previous one, and the path evaluates to null as soon as a step is applied to null. Steps themselves are
+ * ordinary paths, so a null value within a step still fails.
+ *
+ * @param steps The paths to apply in order, the first one to the target object
+ */
+public record NullSafePath(List<ResolvedPath> steps) implements ResolvedPath {
+    /**
+     * Constructs a new NullSafePath.
+     *
+     * @param steps The paths to apply in order, the first one to the target object
+     * @throws IllegalArgumentException if there are no steps
+     */
+    public NullSafePath {
+        if (steps.isEmpty()) {
+            throw new IllegalArgumentException("Cannot join an empty list of steps");
+        }
+        steps = List.copyOf(steps);
+    }
+
+    @Override
+    public Object getValue(Object target) throws Exception {
+        Object receiver = receiver(target);
+        return receiver == null ? null : last().getValue(receiver);
+    }
+
+    @Override
+    public Object getValueOrNull(Object target) throws Exception {
+        Object value = target;
+        for (ResolvedPath step : steps) {
+            value = step.getValueOrNull(value);
+            if (value == null) {
+                return null;
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public Object invoke(Object target, Object... args) throws Exception {
+        Object receiver = receiver(target);
+        return receiver == null ? null : last().invoke(receiver, args);
+    }
+
+    @Override
+    public int getInt(Object target) throws Exception {
+        return last().getInt(requireReceiver(target));
+    }
+
+    @Override
+    public long getLong(Object target) throws Exception {
+        return last().getLong(requireReceiver(target));
+    }
+
+    @Override
+    public double getDouble(Object target) throws Exception {
+        return last().getDouble(requireReceiver(target));
+    }
+
+    @Override
+    public boolean getBoolean(Object target) throws Exception {
+        return last().getBoolean(requireReceiver(target));
+    }
+
+    @Override
+    public void setValue(Object target, Object value) throws Exception {
+        Object receiver = receiver(target);
+        if (receiver != null) {
+            last().setValue(receiver, value);
+        }
+    }
+
+    @Override
+    public void setInt(Object target, int value) throws Exception {
+        Object receiver = receiver(target);
+        if (receiver != null) {
+            last().setInt(receiver, value);
+        }
+    }
+
+    @Override
+    public void setLong(Object target, long value) throws Exception {
+        Object receiver = receiver(target);
+        if (receiver != null) {
+            last().setLong(receiver, value);
+        }
+    }
+
+    @Override
+    public void setDouble(Object target, double value) throws Exception {
+        Object receiver = receiver(target);
+        if (receiver != null) {
+            last().setDouble(receiver, value);
+        }
+    }
+
+    @Override
+    public void setBoolean(Object target, boolean value) throws Exception {
+        Object receiver = receiver(target);
+        if (receiver != null) {
+            last().setBoolean(receiver, value);
+        }
+    }
+
+    private ResolvedPath last() {
+        return steps.get(steps.size() - 1);
+    }
+
+    /**
+     * Applies all but the last step.
+     *
+     * @return The receiver of the last step, or null if a null-safe step was applied to null
+     */
+    private Object receiver(Object target) throws Exception {
+        Object value = target;
+        for (int i = 0; i < steps.size() - 1; i++) {
+            value = steps.get(i).getValue(value);
+            if (value == null) {
+                return null;
+            }
+        }
+        return value;
+    }
+
+    private Object requireReceiver(Object target) throws Exception {
+        Object receiver = receiver(target);
+        if (receiver == null) {
+            throw new ReflectionException("Path evaluated to null");
+        }
+        return receiver;
+    }
+}
@@ -0,0 +1,37 @@
+package dev.pixelib.reflectionpath.records;
+
+import dev.pixelib.reflectionpath.errors.ReflectionException;
+import dev.pixelib.reflectionpath.resolution.ResolvedPath;
+
+/**
+ * Implementation of ResolvedPath that records a failed resolution, so that classes a path does not apply to
+ * are not scanned again on every access. Reads and writes fail with the original error,
+ * {@link #getValueOrNull(Object)} returns null.
+ *
+ * @param failure The error the resolution failed with
+ */
+public record UnresolvedPath(ReflectionException failure) implements ResolvedPath {
+    @Override
+    public Object getValue(Object target) throws Exception {
+        throw fail();
+    }
+
+    @Override
+    public Object getValueOrNull(Object target) {
+        return null;
+    }
+
+    @Override
+    public Object invoke(Object target, Object... args) throws Exception {
+        throw fail();
+    }
+
+    @Override
+    public void setValue(Object target, Object value) throws Exception {
+        throw fail();
+    }
+
+    private ReflectionException fail() {
+        return new ReflectionException(failure.getMessage(), failure);
+    }
+}
@@ -0,0 +1,46 @@
+package dev.pixelib.reflectionpath.resolution;
+
+import java.util.Locale;
+
+/**
+ * Defines how resolved paths access the underlying fields and methods.
+ */
+public enum AccessBackend {
+    /** Access members through {@link java.lang.reflect.Field#get} and {@link java.lang.reflect.Method#invoke} */
+    REFLECTION,
+    /** Access members through a single composed {@link java.lang.invoke.MethodHandle} per path */
+    METHOD_HANDLE,
+    /**
+     * Access members through a hidden class generated per path and target class, falling back to
+     * {@link #REFLECTION} when no accessor can be generated for the target class
+     */
+    GENERATED;
+
+    /** System property used to select the default backend */
+    public static final String PROPERTY = "reflectionpath.backend";
+
+    /**
+     * Returns the backend configured through the {@value #PROPERTY} system property,
+     * or {@link #REFLECTION} if the property is not set.
+     *
+     * @return The default backend
+     * @throws IllegalArgumentException if the property does not name a known backend
+     */
+    public static AccessBackend fromSystemProperty() {
+        return parse(System.getProperty(PROPERTY));
+    }
+
+    /**
+     * Parses a backend name, ignoring case and surrounding whitespace.
+     *
+     * @param name The backend name, may be null
+     * @return The matching backend, or {@link #REFLECTION} if the name is null or blank
+     * @throws IllegalArgumentException if the name does not match a known backend
+     */
+    public static AccessBackend parse(String name) {
+        if (name == null || name.isBlank()) {
+            return REFLECTION;
+        }
+        return valueOf(name.trim().toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,241 @@
+package dev.pixelib.reflectionpath.resolution;
+
+import dev.pixelib.reflectionpath.errors.PathSyntaxException;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Immutable parsed form of a path expression.
+ *
+ * <p>A path consists of segments separated by dots. Each segment is either a name, matching a field or
+ * method by its name, or a type in square brackets, matching a field or zero-argument method by its type.
+ * Both kinds of segments can be mixed within a single path:
+ * <pre>{@code
+ * "connection.type"
+ * "[Connection].[ConnectionType]"
+ * "[Connection].type"
+ * }</pre>
+ *
+ * <p>A segment can be preceded by {@code ?.} instead of a dot to make it null-safe: if the value it is read
+ * from is null, the whole path evaluates to null instead of failing, as in {@code "connection?.type"}.
+ *
+ * <p>A {@code *} segment is a wildcard that steps into every element of an array, {@link Iterable} or the
+ * values of a {@link java.util.Map}, as in {@code "players.*.name"} or {@code "[Player[]].*.[String]"}.
+ * Paths with wildcards evaluate to many values and can only be streamed.
+ *
+ * <p>A segment other than a wildcard can be followed by index and key steps without a dot: {@code [n]} reads the
+ * element at a constant index of an array or {@link List}, and {@code {"key"}} reads the value of a constant key
+ * of a {@link java.util.Map}, as in {@code "inventory[3]"}, {@code "slots[0].item"} or
+ * {@code "attributes{\"speed\"}"}. Within a key, {@code \"} and {@code \\} stand for a quote and a backslash.
+ *
+ * @param expression The original path expression
+ * @param segments The segments of the path, in order
+ * @param nullSafeSegments The indices of the segments preceded by {@code ?.}
+ */
+public record CompiledPath(String expression, List<PathSegment> segments, Set<Integer> nullSafeSegments) {
+    /**
+     * Constructs a new CompiledPath.
+     *
+     * @param expression The original path expression
+     * @param segments The segments of the path, in order
+     * @param nullSafeSegments The indices of the segments preceded by {@code ?.}
+     * @throws IllegalArgumentException if any argument is null, there are no segments, a segment is null or a
+     *                                  null-safe index does not refer to a segment
+     */
+    public CompiledPath {
+        if (expression == null || nullSafeSegments == null) {
+            throw new IllegalArgumentException("Path cannot be null or empty");
+        }
+        checkSegments(segments);
+        for (Integer index : nullSafeSegments) {
+            if (index == null || index < 0 || index >= segments.size()) {
+                throw new IllegalArgumentException("Null-safe index " + index + " does not refer to a segment");
+            }
+        }
+        segments = List.copyOf(segments);
+        nullSafeSegments = Set.copyOf(nullSafeSegments);
+    }
+
+    /**
+     * Constructs a new CompiledPath without null-safe segments.
+     *
+     * @param expression The original path expression
+     * @param segments The segments of the path, in order
+     * @throws IllegalArgumentException if any argument is null, there are no segments or a segment is null
+     */
+    public CompiledPath(String expression, List<PathSegment> segments) {
+        this(expression, segments, Set.of());
+    }
+
+    /**
+     * Parses a path expression.
+     *
+     * @param expression The path expression to parse
+     * @return The compiled path
+     * @throws PathSyntaxException if the expression is malformed
+     * @throws IllegalArgumentException if the expression is null or empty
+     */
+    public static CompiledPath parse(String expression) {
+        if (expression == null || expression.isEmpty()) {
+            throw new IllegalArgumentException("Path cannot be null or empty");
+        }
+        return new PathParser(expression).parse();
+    }
+
+    /**
+     * Returns whether the segment at the given index is preceded by {@code ?.}.
+     *
+     * @param index The index of the segment
+     * @return true if the segment is null-safe
+     */
+    public boolean isNullSafe(int index) {
+        return nullSafeSegments.contains(index);
+    }
+
+    /**
+     * Returns whether this path contains a wildcard segment.
+     *
+     * @return true if at least one segment is a wildcard
+     */
+    public boolean hasWildcard() {
+        for (PathSegment segment : segments) {
+            if (segment instanceof WildcardSegment) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns whether this path contains an index or key step.
+     *
+     * @return true if at least one segment is an {@link IndexSegment} or {@link KeySegment}
+     */
+    public boolean hasElementSteps() {
+        for (PathSegment segment : segments) {
+            if (segment instanceof IndexSegment || segment instanceof KeySegment) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns whether this path contains a type component created from a class token. The expression of such a
+     * path names its tokens by binary name only, so it does not tell apart tokens of equally named classes from
+     * different class loaders, nor the equivalent path parsed from the expression.
+     *
+     * @return true if at least one segment is a {@link TypePathComponent} with a class token
+     */
+    public boolean hasClassTokens() {
+        for (PathSegment segment : segments) {
+            if (segment instanceof TypePathComponent component && component.type() != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the part of this path between two segment indices. Whether the first segment of the part is
+     * null-safe is not carried over, as it has no preceding segment within the part.
+     *
+     * @param from The index of the first segment, inclusive
+     * @param to The index of the last segment, exclusive
+     * @return The compiled part of the path, with an expression written in canonical form
+     * @throws IndexOutOfBoundsException if the indices are out of range
+     * @throws IllegalArgumentException if the part is empty
+     */
+    public CompiledPath subPath(int from, int to) {
+        if (from >= to) {
+            throw new IllegalArgumentException("Path cannot be null or empty");
+        }
+        List<PathSegment> part = segments.subList(from, to);
+        Set<Integer> nullSafe = new HashSet<>();
+        for (int i = 1; i < part.size(); i++) {
+            if (isNullSafe(from + i)) {
+                nullSafe.add(i);
+            }
+        }
+        return new CompiledPath(render(part, nullSafe), part, nullSafe);
+    }
+
+    /**
+     * Creates a path from segments, for example type components created from class tokens.
+     *
+     * @param segments The segments of the path, in order
+     * @return The compiled path, with an expression written in canonical form
+     * @throws IllegalArgumentException if the segments are null or empty, or a segment is null
+     */
+    public static CompiledPath of(List<PathSegment> segments) {
+        checkSegments(segments);
+        return new CompiledPath(render(segments, Set.of()), segments);
+    }
+
+    private static void checkSegments(List<PathSegment> segments) {
+        if (segments == null || segments.isEmpty()) {
+            throw new IllegalArgumentException("Path cannot be null or empty");
+        }
+        for (PathSegment segment : segments) {
+            if (segment == null) {
+                throw new IllegalArgumentException("Path segments cannot be null");
+            }
+        }
+    }
+
+    /**
+     * Writes segments as an expression. Components created from class tokens are written with the binary name of
+     * their type, and with {@code ? extends} if they match subtypes too, so paths with different tokens have
+     * different expressions.
+     */
+    private static String render(List<PathSegment> segments, Set<Integer> nullSafe) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < segments.size(); i++) {
+            PathSegment segment = segments.get(i);
+            if (segment instanceof IndexSegment index) {
+                builder.append('[').append(index.index()).append(']');
+                continue;
+            }
+            if (segment instanceof KeySegment key) {
+                builder.append("{\"")
+                        .append(key.key().replace("\\", "\\\\").replace("\"", "\\\""))
+                        .append("\"}");
+                continue;
+            }
+            if (i > 0) {
+                if (nullSafe.contains(i)) {
+                    builder.append('?');
+                }
+                builder.append('.');
+            }
+            if (segment instanceof NameSegment name) {
+                builder.append(name.name());
+            } else if (segment instanceof TypePathComponent component) {
+                builder.append('[')
+                        .append(component.assignable() ? "? extends " : "")
+                        .append(component.typeName())
+                        .append(component.isArray() ? "[]" : "")
+                        .append(']');
+            } else {
+                builder.append('*');
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Returns the type of this path. Paths containing at least one type segment are type-based.
+     *
+     * @return The path type
+     */
+    public PathType type() {
+        for (PathSegment segment : segments) {
+            if (segment instanceof TypePathComponent) {
+                return PathType.TYPE_BASED;
+            }
+        }
+        return PathType.NAME_BASED;
+    }
+}
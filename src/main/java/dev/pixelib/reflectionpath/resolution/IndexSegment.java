@@ -0,0 +1,10 @@
+package dev.pixelib.reflectionpath.resolution;
+
+/**
+ * Record class representing an index step in a path, written as {@code [n]} directly after a segment.
+ * It reads the element at a constant index of the array or {@link java.util.List} the segment evaluates to.
+ *
+ * @param index The index of the element, never negative
+ */
+public record IndexSegment(int index) implements PathSegment {
+}
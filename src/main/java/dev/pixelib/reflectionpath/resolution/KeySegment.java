@@ -0,0 +1,10 @@
+package dev.pixelib.reflectionpath.resolution;
+
+/**
+ * Record class representing a key step in a path, written as {@code {"key"}} directly after a segment.
+ * It reads the value of a constant string key of the {@link java.util.Map} the segment evaluates to.
+ *
+ * @param key The key of the entry
+ */
+public record KeySegment(String key) implements PathSegment {
+}
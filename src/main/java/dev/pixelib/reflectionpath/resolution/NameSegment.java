@@ -0,0 +1,9 @@
+package dev.pixelib.reflectionpath.resolution;
+
+/**
+ * Record class representing a component in a name-based path, matching a field or method by its name.
+ *
+ * @param name The name of the field or method
+ */
+public record NameSegment(String name) implements PathSegment {
+}
@@ -0,0 +1,155 @@
+package dev.pixelib.reflectionpath.resolution;
+
+import dev.pixelib.reflectionpath.errors.PathSyntaxException;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Single-pass parser for path expressions, see {@link CompiledPath} for the syntax.
+ */
+final class PathParser {
+    private final String expression;
+    private int position;
+
+    PathParser(String expression) {
+        this.expression = expression;
+    }
+
+    CompiledPath parse() {
+        List<PathSegment> segments = new ArrayList<>();
+        Set<Integer> nullSafeSegments = new HashSet<>();
+        while (true) {
+            PathSegment segment = parseSegment();
+            segments.add(segment);
+            while (!(segment instanceof WildcardSegment) && isElementStep()) {
+                segments.add(expression.charAt(position) == '[' ? parseIndex() : parseKey());
+            }
+            if (position == expression.length()) {
+                return new CompiledPath(expression, segments, nullSafeSegments);
+            }
+            if (expression.startsWith("?.", position)) {
+                nullSafeSegments.add(segments.size());
+                position++;
+            } else if (expression.charAt(position) != '.') {
+                throw error("Expected '.'");
+            }
+            position++;
+        }
+    }
+
+    private PathSegment parseSegment() {
+        if (position == expression.length() || expression.charAt(position) == '.') {
+            throw error("Empty segment");
+        }
+        if (expression.charAt(position) == '*') {
+            position++;
+            return new WildcardSegment();
+        }
+        return expression.charAt(position) == '[' ? parseType() : parseName();
+    }
+
+    private TypePathComponent parseType() {
+        int nameStart = ++position;
+        while (position < expression.length()
+                && expression.charAt(position) != '['
+                && expression.charAt(position) != ']') {
+            position++;
+        }
+        while (expression.startsWith("[]", position)) {
+            position += 2;
+        }
+        if (position == expression.length() || expression.charAt(position) != ']') {
+            throw error("Expected ']'");
+        }
+
+        TypePathComponent component = TypePathComponent.parse(expression.substring(nameStart, position));
+        if (component.typeName().isEmpty() || component.typeName().startsWith("[")) {
+            throw new PathSyntaxException("Empty type name", expression, nameStart);
+        }
+        position++;
+        return component;
+    }
+
+    /**
+     * Returns whether an index or key step starts at the current position. A bracket only starts an index if it
+     * is followed by a digit, so that a type segment missing its dot is still reported as such.
+     */
+    private boolean isElementStep() {
+        if (position == expression.length()) {
+            return false;
+        }
+        char c = expression.charAt(position);
+        return c == '{' || c == '[' && position + 1 < expression.length()
+                && Character.isDigit(expression.charAt(position + 1));
+    }
+
+    private IndexSegment parseIndex() {
+        int start = ++position;
+        while (position < expression.length() && Character.isDigit(expression.charAt(position))) {
+            position++;
+        }
+        if (position == expression.length() || expression.charAt(position) != ']') {
+            throw error("Expected ']'");
+        }
+        try {
+            int index = Integer.parseInt(expression.substring(start, position));
+            position++;
+            return new IndexSegment(index);
+        } catch (NumberFormatException e) {
+            throw new PathSyntaxException("Index too large", expression, start);
+        }
+    }
+
+    private KeySegment parseKey() {
+        position++;
+        if (position == expression.length() || expression.charAt(position) != '"') {
+            throw error("Expected '\"'");
+        }
+        int start = position++;
+        StringBuilder key = new StringBuilder();
+        while (true) {
+            if (position == expression.length()) {
+                throw new PathSyntaxException("Unterminated key", expression, start);
+            }
+            char c = expression.charAt(position++);
+            if (c == '"') {
+                break;
+            }
+            if (c == '\\' && position < expression.length()
+                    && (expression.charAt(position) == '"' || expression.charAt(position) == '\\')) {
+                c = expression.charAt(position++);
+            }
+            key.append(c);
+        }
+        if (position == expression.length() || expression.charAt(position) != '}') {
+            throw error("Expected '}'");
+        }
+        position++;
+        return new KeySegment(key.toString());
+    }
+
+    private NameSegment parseName() {
+        int start = position;
+        while (position < expression.length() && !isDelimiter(expression.charAt(position))) {
+            position++;
+        }
+        if (position == start) {
+            throw error("Unexpected character '" + expression.charAt(position) + "'");
+        }
+        return new NameSegment(expression.substring(start, position));
+    }
+
+    private static boolean isDelimiter(char c) {
+        return switch (c) {
+            case '.', '[', ']', '{', '}', '?', '*' -> true;
+            default -> Character.isWhitespace(c);
+        };
+    }
+
+    private PathSyntaxException error(String description) {
+        return new PathSyntaxException(description, expression, position);
+    }
+}
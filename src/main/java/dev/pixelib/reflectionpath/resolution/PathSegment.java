@@ -0,0 +1,8 @@
+package dev.pixelib.reflectionpath.resolution;
+
+/**
+ * A single step of a compiled path expression.
+ */
+public sealed interface PathSegment permits NameSegment, TypePathComponent, WildcardSegment, IndexSegment,
+        KeySegment {
+}
@@ -0,0 +1,320 @@
+package dev.pixelib.reflectionpath.resolution;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Bounded resolution cache that can be shared by all ReflectionPath instances, so that instances with the same
+ * path expression only resolve each target class once. Entries are evicted in approximately least recently used
+ * order once the cache exceeds its maximum size: a hit only marks its entry as used, without taking a lock, and
+ * eviction moves used entries to the back of the queue once instead of evicting them.
+ *
+ * <p>The cache is consulted when an instance resolves a target class it has not seen before, so it is not on the
+ * hot path of instances that are already warm.
+ *
+ * <p>Resolved paths are stored with their target class through a {@link ClassValue}, and the eviction order only
+ * references target classes weakly, so the cache does not keep unloaded classes or their class loaders alive.
+ */
+public final class ResolutionCache {
+    /** System property used to enable a shared cache of the given maximum size */
+    public static final String SIZE_PROPERTY = "reflectionpath.sharedCacheSize";
+
+    private final int maximumSize;
+    private volatile ClassValue<ConcurrentMap<Key, Entry>> entries = newEntries();
+    /** Entries in eviction order, guarded by itself */
+    private final LinkedHashSet<Node> order = new LinkedHashSet<>();
+    private final ReferenceQueue<Class<?>> unloaded = new ReferenceQueue<>();
+    /** Resolutions in progress, removed once cached so that target classes are only referenced meanwhile */
+    private final ConcurrentMap<Pending, CompletableFuture<ResolvedPath>> resolving = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Constructs a new ResolutionCache.
+     *
+     * @param maximumSize The maximum number of resolved paths to keep
+     * @throws IllegalArgumentException if the maximum size is not positive
+     */
+    public ResolutionCache(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be positive");
+        }
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * Creates a cache sized by the {@value #SIZE_PROPERTY} system property. The cache is created while
+     * ReflectionPath is initialized, so a value that is not a number is reported as a warning instead of failing.
+     *
+     * @return The cache, or an empty optional if the property is not set, not a number or not positive
+     */
+    public static Optional<ResolutionCache> fromSystemProperty() {
+        String size = System.getProperty(SIZE_PROPERTY);
+        if (size == null || size.isBlank()) {
+            return Optional.empty();
+        }
+        int maximumSize;
+        try {
+            maximumSize = Integer.parseInt(size.trim());
+        } catch (NumberFormatException e) {
+            System.getLogger(ResolutionCache.class.getName()).log(System.Logger.Level.WARNING,
+                    "Ignoring invalid value ''{0}'' of {1}, the shared cache is disabled", size, SIZE_PROPERTY);
+            return Optional.empty();
+        }
+        return maximumSize <= 0 ? Optional.empty() : Optional.of(new ResolutionCache(maximumSize));
+    }
+
+    /**
+     * Returns the cached path for the key and target class, resolving and caching it if absent.
+     * Resolution happens outside any lock. Threads requesting a key and target class that another thread is
+     * resolving wait for its result instead of resolving it again, while lookups of other keys proceed.
+     *
+     * @param key The key to look up
+     * @param targetClass The class the path is resolved against
+     * @param resolver The function resolving the path on a miss
+     * @return The cached or newly resolved path
+     */
+    public ResolvedPath get(Key key, Class<?> targetClass, Function<Class<?>, ResolvedPath> resolver) {
+        ConcurrentMap<Key, Entry> classEntries = entries.get(targetClass);
+        Entry cached = classEntries.get(key);
+        if (cached != null) {
+            hits.increment();
+            if (!cached.node.used) {
+                cached.node.used = true;
+            }
+            return cached.path;
+        }
+
+        Pending pending = new Pending(key, targetClass);
+        CompletableFuture<ResolvedPath> resolution = new CompletableFuture<>();
+        CompletableFuture<ResolvedPath> running = resolving.putIfAbsent(pending, resolution);
+        if (running != null) {
+            hits.increment();
+            return await(running);
+        }
+        try {
+            // The resolving thread may have cached its path and finished between the two lookups
+            cached = classEntries.get(key);
+            if (cached != null) {
+                hits.increment();
+                resolution.complete(cached.path);
+                return cached.path;
+            }
+
+            misses.increment();
+            ResolvedPath resolved;
+            try {
+                resolved = resolver.apply(targetClass);
+            } catch (RuntimeException | Error e) {
+                resolution.completeExceptionally(e);
+                throw e;
+            }
+            Node node = new Node(targetClass, key, unloaded);
+            synchronized (order) {
+                // Entries may have been cleared while resolving, so insert into the current map
+                cached = entries.get(targetClass).putIfAbsent(key, new Entry(resolved, node));
+                if (cached == null) {
+                    expungeUnloaded();
+                    order.add(node);
+                    evictOverflow();
+                }
+            }
+            if (cached != null) {
+                resolution.complete(cached.path);
+                return cached.path;
+            }
+            resolution.complete(resolved);
+            return resolved;
+        } finally {
+            resolving.remove(pending, resolution);
+        }
+    }
+
+    /**
+     * Evicts entries until the cache fits its maximum size. Entries used since eviction last looked at them are
+     * moved to the back of the queue instead, and are evicted on a later pass unless they are used again.
+     */
+    private void evictOverflow() {
+        while (order.size() > maximumSize) {
+            Iterator<Node> iterator = order.iterator();
+            Node eldest = iterator.next();
+            iterator.remove();
+            if (eldest.used) {
+                eldest.used = false;
+                order.add(eldest);
+                continue;
+            }
+            evictions.increment();
+            Class<?> targetClass = eldest.get();
+            if (targetClass != null) {
+                // Only remove the entry of this node, not a newer entry for the same key
+                entries.get(targetClass).computeIfPresent(eldest.key,
+                        (key, entry) -> entry.node == eldest ? null : entry);
+            }
+        }
+    }
+
+    private static ResolvedPath await(CompletableFuture<ResolvedPath> resolution) {
+        try {
+            return resolution.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Removes all cached paths of a target class, for example after it was redefined.
+     *
+     * @param targetClass The class to invalidate
+     */
+    public void invalidate(Class<?> targetClass) {
+        synchronized (order) {
+            ConcurrentMap<Key, Entry> classEntries = entries.get(targetClass);
+            entries.remove(targetClass);
+            for (Entry entry : classEntries.values()) {
+                order.remove(entry.node);
+            }
+        }
+    }
+
+    /**
+     * Removes the cached path of a single key and target class.
+     *
+     * @param key The key to invalidate
+     * @param targetClass The class to invalidate the key for
+     */
+    public void invalidate(Key key, Class<?> targetClass) {
+        synchronized (order) {
+            Entry entry = entries.get(targetClass).remove(key);
+            if (entry != null) {
+                order.remove(entry.node);
+            }
+        }
+    }
+
+    /**
+     * Removes all entries from the cache. Statistics are kept.
+     */
+    public void clear() {
+        synchronized (order) {
+            entries = newEntries();
+            order.clear();
+        }
+    }
+
+    /**
+     * Returns the maximum number of entries this cache keeps.
+     *
+     * @return The maximum size
+     */
+    public int maximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Returns a snapshot of the cache statistics.
+     *
+     * @return The current statistics
+     */
+    public Stats stats() {
+        int size;
+        synchronized (order) {
+            expungeUnloaded();
+            size = order.size();
+        }
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), size);
+    }
+
+    private void expungeUnloaded() {
+        for (var reference = unloaded.poll(); reference != null; reference = unloaded.poll()) {
+            order.remove(reference);
+        }
+    }
+
+    private static ClassValue<ConcurrentMap<Key, Entry>> newEntries() {
+        return new ClassValue<>() {
+            @Override
+            protected ConcurrentMap<Key, Entry> computeValue(Class<?> type) {
+                return new ConcurrentHashMap<>();
+            }
+        };
+    }
+
+    /**
+     * Key of a cached resolution for a target class.
+     *
+     * @param path The path expression
+     * @param strategy The strategy used to resolve ambiguous type-based matches
+     * @param ignoreToString Whether toString was ignored when resolving methods by type
+     * @param backend The backend the resolved path was linked with
+     * @param nullSafe Whether every step of the path was resolved as null-safe
+     */
+    public record Key(String path,
+                      PathResolutionStrategy strategy,
+                      boolean ignoreToString,
+                      AccessBackend backend,
+                      boolean nullSafe) {
+    }
+
+    /**
+     * Snapshot of the statistics of a ResolutionCache.
+     *
+     * @param hits The number of lookups that found a cached path
+     * @param misses The number of lookups that had to resolve the path
+     * @param evictions The number of entries evicted because the cache was full
+     * @param size The number of entries currently cached
+     */
+    public record Stats(long hits, long misses, long evictions, int size) {
+        /**
+         * Returns the ratio of hits to lookups.
+         *
+         * @return The hit rate between 0 and 1, or 0 if the cache was never used
+         */
+        public double hitRate() {
+            long lookups = hits + misses;
+            return lookups == 0 ? 0 : (double) hits / lookups;
+        }
+    }
+
+    /**
+     * Cached path, stored in the class value of its target class.
+     */
+    private record Entry(ResolvedPath path, Node node) {
+    }
+
+    /**
+     * Key and target class of a resolution in progress.
+     */
+    private record Pending(Key key, Class<?> targetClass) {
+    }
+
+    /**
+     * Position of an entry in the eviction order, referencing its target class weakly.
+     */
+    private static final class Node extends WeakReference<Class<?>> {
+        private final Key key;
+        /** Set by hits without a lock, cleared when eviction gives the entry a second chance */
+        private volatile boolean used;
+
+        private Node(Class<?> targetClass, Key key, ReferenceQueue<Class<?>> queue) {
+            super(targetClass, queue);
+            this.key = key;
+        }
+    }
+}
@@ -0,0 +1,374 @@
+package dev.pixelib.reflectionpath.resolution;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Persistent record of the members that type-based paths resolved to, so that later runs can look those members
+ * up by name instead of scanning the classes again.
+ *
+ * <p>Each entry stores the fields and methods a path resolved to for one target class, together with a
+ * fingerprint of those members and of the shape of every class the path was resolved against: the names of the
+ * class and its superclasses and the number of fields and methods each of them declares. An entry is only used
+ * if the fingerprint still matches, so a class that gained or lost members falls back to the full type scan and
+ * the entry is replaced by the new result.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * ResolutionManifest manifest = ResolutionManifest.load(Path.of("paths.manifest"));
+ * ReflectionPath.setManifest(manifest);
+ * // ... resolve paths ...
+ * manifest.save(Path.of("paths.manifest"));
+ * }</pre>
+ *
+ * <p>The manifest is a UTF-8 text file with one tab separated entry per line. This class is thread-safe.
+ */
+public final class ResolutionManifest {
+    /** System property naming a manifest file to load on startup */
+    public static final String PROPERTY = "reflectionpath.manifest";
+
+    private static final String HEADER = "# reflection-path manifest 2";
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private static final ClassValue<Long> SHAPES = new ClassValue<>() {
+        @Override
+        protected Long computeValue(Class<?> type) {
+            return shape(type);
+        }
+    };
+
+    private final ConcurrentMap<EntryKey, Entry> entries = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder stale = new LongAdder();
+
+    /**
+     * Loads a manifest from a file written by {@link #save(Path)}.
+     *
+     * @param file The file to load
+     * @return The loaded manifest
+     * @throws IOException if the file cannot be read or is malformed
+     */
+    public static ResolutionManifest load(Path file) throws IOException {
+        ResolutionManifest manifest = new ResolutionManifest();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            int lineNumber = 0;
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                lineNumber++;
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                manifest.parse(line, lineNumber);
+            }
+        }
+        return manifest;
+    }
+
+    /**
+     * Loads the manifest named by the {@value #PROPERTY} system property.
+     *
+     * @return The loaded manifest, an empty manifest if the file does not exist yet,
+     *         or an empty optional if the property is not set
+     * @throws UncheckedIOException if the file exists but cannot be read or is malformed
+     */
+    public static Optional<ResolutionManifest> fromSystemProperty() {
+        String file = System.getProperty(PROPERTY);
+        if (file == null || file.isBlank()) {
+            return Optional.empty();
+        }
+        Path path = Path.of(file.trim());
+        if (Files.notExists(path)) {
+            return Optional.of(new ResolutionManifest());
+        }
+        try {
+            return Optional.of(load(path));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load manifest " + path, e);
+        }
+    }
+
+    /**
+     * Writes all entries of this manifest to a file, replacing its contents.
+     *
+     * @param file The file to write
+     * @throws IOException if the file cannot be written
+     */
+    public void save(Path file) throws IOException {
+        List<String> lines = new ArrayList<>(entries.size());
+        entries.forEach((key, entry) -> lines.add(format(key, entry)));
+        Collections.sort(lines);
+
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write(HEADER);
+            writer.newLine();
+            for (String line : lines) {
+                writer.write(line);
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * Looks up the members a path resolved to for a target class.
+     *
+     * @param path The path expression
+     * @param strategy The strategy used to resolve ambiguous type-based matches
+     * @param ignoreToString Whether toString is ignored when resolving methods by type
+     * @param targetClass The class the path is resolved against
+     * @return The members to traverse, in order, or null if there is no entry or it no longer matches the classes
+     */
+    public List<AccessibleObject> lookup(String path, PathResolutionStrategy strategy, boolean ignoreToString,
+                                         Class<?> targetClass) {
+        Entry entry = entries.get(new EntryKey(path, strategy, ignoreToString, targetClass.getName()));
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+
+        List<AccessibleObject> chain = new ArrayList<>(entry.members.size());
+        long fingerprint = FNV_OFFSET;
+        Class<?> currentClass = targetClass;
+        for (MemberRef ref : entry.members) {
+            AccessibleObject member = ref.find(currentClass);
+            if (member == null) {
+                stale.increment();
+                return null;
+            }
+            fingerprint = mix(fingerprint, currentClass, ref);
+            chain.add(member);
+            currentClass = type(member);
+        }
+
+        if (fingerprint != entry.fingerprint) {
+            stale.increment();
+            return null;
+        }
+        hits.increment();
+        return chain;
+    }
+
+    /**
+     * Records the members a path resolved to for a target class, replacing any previous entry.
+     * Paths containing tabs or line breaks cannot be stored and are ignored.
+     *
+     * @param path The path expression
+     * @param strategy The strategy used to resolve ambiguous type-based matches
+     * @param ignoreToString Whether toString was ignored when resolving methods by type
+     * @param targetClass The class the path was resolved against
+     * @param chain The fields and methods the path resolved to, in order
+     */
+    public void record(String path, PathResolutionStrategy strategy, boolean ignoreToString,
+                       Class<?> targetClass, List<? extends AccessibleObject> chain) {
+        if (path.indexOf('\t') >= 0 || path.indexOf('\n') >= 0 || path.indexOf('\r') >= 0) {
+            return;
+        }
+
+        List<MemberRef> members = new ArrayList<>(chain.size());
+        long fingerprint = FNV_OFFSET;
+        Class<?> currentClass = targetClass;
+        for (AccessibleObject member : chain) {
+            MemberRef ref = MemberRef.of(member);
+            fingerprint = mix(fingerprint, currentClass, ref);
+            members.add(ref);
+            currentClass = type(member);
+        }
+        entries.put(new EntryKey(path, strategy, ignoreToString, targetClass.getName()),
+                new Entry(fingerprint, List.copyOf(members)));
+    }
+
+    /**
+     * Returns the number of entries in this manifest.
+     *
+     * @return The number of entries
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Removes all entries from the manifest. Statistics are kept.
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Returns a snapshot of the manifest statistics.
+     *
+     * @return The current statistics
+     */
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), stale.sum(), entries.size());
+    }
+
+    private void parse(String line, int lineNumber) throws IOException {
+        String[] columns = line.split("\t", -1);
+        if (columns.length < 5 || (columns.length - 5) % 4 != 0) {
+            throw new IOException("Malformed manifest entry on line " + lineNumber);
+        }
+
+        try {
+            EntryKey key = new EntryKey(columns[0], PathResolutionStrategy.valueOf(columns[1]),
+                    Boolean.parseBoolean(columns[2]), columns[3]);
+            List<MemberRef> members = new ArrayList<>();
+            for (int i = 5; i < columns.length; i += 4) {
+                if (columns[i].length() != 1) {
+                    throw new IllegalArgumentException("Unknown member kind " + columns[i]);
+                }
+                members.add(new MemberRef(columns[i].charAt(0), columns[i + 1], columns[i + 2], columns[i + 3]));
+            }
+            entries.put(key, new Entry(Long.parseUnsignedLong(columns[4], 16), List.copyOf(members)));
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Malformed manifest entry on line " + lineNumber, e);
+        }
+    }
+
+    private static String format(EntryKey key, Entry entry) {
+        StringBuilder line = new StringBuilder()
+                .append(key.path).append('\t')
+                .append(key.strategy.name()).append('\t')
+                .append(key.ignoreToString).append('\t')
+                .append(key.targetClass).append('\t')
+                .append(Long.toHexString(entry.fingerprint));
+        for (MemberRef member : entry.members) {
+            line.append('\t').append(member.kind)
+                    .append('\t').append(member.declaringClass)
+                    .append('\t').append(member.name)
+                    .append('\t').append(member.descriptor);
+        }
+        return line.toString();
+    }
+
+    private static Class<?> type(AccessibleObject member) {
+        return member instanceof Field field ? field.getType() : ((Method) member).getReturnType();
+    }
+
+    /**
+     * Mixes a step of the chain into a fingerprint: the shape of the class the step is taken on and the member
+     * it resolved to.
+     */
+    private static long mix(long hash, Class<?> type, MemberRef member) {
+        hash = hash(hash, type.getName()) * FNV_PRIME ^ SHAPES.get(type);
+        hash = (hash ^ member.kind) * FNV_PRIME;
+        hash = hash(hash, member.declaringClass);
+        hash = hash(hash, member.name);
+        return hash(hash, member.descriptor);
+    }
+
+    /**
+     * Hashes the shape of a class: its name and the names of its superclasses, and the number of fields and methods
+     * each of them declares. Members that were added or removed may change what a type-based segment matches, the
+     * members a path resolved to are checked by signature when the entry is looked up.
+     */
+    private static long shape(Class<?> type) {
+        long hash = FNV_OFFSET;
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            hash = hash(hash, current.getName());
+            hash = (hash ^ current.getDeclaredFields().length) * FNV_PRIME;
+            hash = (hash ^ current.getDeclaredMethods().length) * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private static long hash(long hash, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * FNV_PRIME;
+        }
+        return (hash ^ 0xff) * FNV_PRIME;
+    }
+
+    private static String methodDescriptor(Method method) {
+        return MethodType.methodType(method.getReturnType(), method.getParameterTypes()).toMethodDescriptorString();
+    }
+
+    /**
+     * Snapshot of the statistics of a ResolutionManifest.
+     *
+     * @param hits The number of lookups that found a matching entry
+     * @param misses The number of lookups without an entry
+     * @param stale The number of lookups whose entry no longer matched the classes
+     * @param size The number of entries
+     */
+    public record Stats(long hits, long misses, long stale, int size) {
+    }
+
+    private record EntryKey(String path, PathResolutionStrategy strategy, boolean ignoreToString,
+                            String targetClass) {
+    }
+
+    private record Entry(long fingerprint, List<MemberRef> members) {
+    }
+
+    /**
+     * Reference to a field ({@code F}) or method ({@code M}) by declaring class, name and descriptor.
+     */
+    private record MemberRef(char kind, String declaringClass, String name, String descriptor) {
+        private static MemberRef of(AccessibleObject member) {
+            if (member instanceof Field field) {
+                return new MemberRef('F', field.getDeclaringClass().getName(), field.getName(),
+                        field.getType().descriptorString());
+            }
+            Method method = (Method) member;
+            return new MemberRef('M', method.getDeclaringClass().getName(), method.getName(), methodDescriptor(method));
+        }
+
+        /**
+         * Finds the member in the given class or one of its superclasses.
+         *
+         * @return The member, or null if it does not exist
+         */
+        private AccessibleObject find(Class<?> type) {
+            for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+                if (current.getName().equals(declaringClass)) {
+                    return kind == 'F' ? findField(current) : findMethod(current);
+                }
+            }
+            return null;
+        }
+
+        private Field findField(Class<?> type) {
+            try {
+                Field field = type.getDeclaredField(name);
+                return field.getType().descriptorString().equals(descriptor) ? field : null;
+            } catch (NoSuchFieldException e) {
+                return null;
+            }
+        }
+
+        private Method findMethod(Class<?> type) {
+            if (descriptor.startsWith("()")) {
+                try {
+                    Method method = type.getDeclaredMethod(name);
+                    if (methodDescriptor(method).equals(descriptor)) {
+                        return method;
+                    }
+                } catch (NoSuchMethodException e) {
+                    return null;
+                }
+            }
+            for (Method method : type.getDeclaredMethods()) {
+                if (method.getName().equals(name) && methodDescriptor(method).equals(descriptor)) {
+                    return method;
+                }
+            }
+            return null;
+        }
+    }
+}
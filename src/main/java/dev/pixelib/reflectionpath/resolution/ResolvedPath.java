@@ -1,8 +1,16 @@
 package dev.pixelib.reflectionpath.resolution;
 
+import dev.pixelib.reflectionpath.errors.ReflectionException;
+
 /**
  * Interface representing a resolved reflection path that can be used to access
  * fields or invoke methods.
+ *
+ * <p>The primitive accessors follow the widening rules of {@link java.lang.reflect.Field#getInt} and friends.
+ * Their default implementations convert the result of {@link #getValue(Object)} with {@link #toInt(Object)} and
+ * friends, which implementations can reuse for boxed values; implementations override them to read primitive
+ * values without boxing. Likewise the primitive setters box their value and delegate to
+ * {@link #setValue(Object, Object)} unless overridden.
  */
 public interface ResolvedPath {
     /**
@@ -14,6 +22,18 @@ public interface ResolvedPath {
      */
     Object getValue(Object target) throws Exception;
 
+    /**
+     * Gets the value at this path from the target object, or null if the target or any intermediate
+     * value of the path is null. Unlike {@link #getValue(Object)} a null receiver never causes an exception.
+     *
+     * @param target The target object to get the value from, may be null
+     * @return The value at this path, or null
+     * @throws Exception if the value cannot be retrieved for another reason
+     */
+    default Object getValueOrNull(Object target) throws Exception {
+        return target == null ? null : getValue(target);
+    }
+
     /**
      * Invokes the method at this path on the target object with the given arguments.
      *
@@ -23,4 +43,174 @@ public interface ResolvedPath {
      * @throws Exception if the method cannot be invoked
      */
     Object invoke(Object target, Object... args) throws Exception;
+
+    /**
+     * Gets the int value at this path from the target object.
+     *
+     * @param target The target object to get the value from
+     * @return The int value at this path
+     * @throws Exception if the value cannot be retrieved or is not convertible to int
+     */
+    default int getInt(Object target) throws Exception {
+        return toInt(getValue(target));
+    }
+
+    /**
+     * Gets the long value at this path from the target object.
+     *
+     * @param target The target object to get the value from
+     * @return The long value at this path
+     * @throws Exception if the value cannot be retrieved or is not convertible to long
+     */
+    default long getLong(Object target) throws Exception {
+        return toLong(getValue(target));
+    }
+
+    /**
+     * Gets the double value at this path from the target object.
+     *
+     * @param target The target object to get the value from
+     * @return The double value at this path
+     * @throws Exception if the value cannot be retrieved or is not convertible to double
+     */
+    default double getDouble(Object target) throws Exception {
+        return toDouble(getValue(target));
+    }
+
+    /**
+     * Gets the boolean value at this path from the target object.
+     *
+     * @param target The target object to get the value from
+     * @return The boolean value at this path
+     * @throws Exception if the value cannot be retrieved or is not a boolean
+     */
+    default boolean getBoolean(Object target) throws Exception {
+        return toBoolean(getValue(target));
+    }
+
+    /**
+     * Sets the value at this path on the target object. All but the last member of the path are read,
+     * the last member must be a non-final field.
+     *
+     * @param target The target object to set the value on
+     * @param value The value to set
+     * @throws Exception if the value cannot be set
+     */
+    default void setValue(Object target, Object value) throws Exception {
+        throw new ReflectionException("Path does not end in a writable field");
+    }
+
+    /**
+     * Sets the int value at this path on the target object.
+     *
+     * @param target The target object to set the value on
+     * @param value The value to set
+     * @throws Exception if the value cannot be set
+     */
+    default void setInt(Object target, int value) throws Exception {
+        setValue(target, value);
+    }
+
+    /**
+     * Sets the long value at this path on the target object.
+     *
+     * @param target The target object to set the value on
+     * @param value The value to set
+     * @throws Exception if the value cannot be set
+     */
+    default void setLong(Object target, long value) throws Exception {
+        setValue(target, value);
+    }
+
+    /**
+     * Sets the double value at this path on the target object.
+     *
+     * @param target The target object to set the value on
+     * @param value The value to set
+     * @throws Exception if the value cannot be set
+     */
+    default void setDouble(Object target, double value) throws Exception {
+        setValue(target, value);
+    }
+
+    /**
+     * Sets the boolean value at this path on the target object.
+     *
+     * @param target The target object to set the value on
+     * @param value The value to set
+     * @throws Exception if the value cannot be set
+     */
+    default void setBoolean(Object target, boolean value) throws Exception {
+        setValue(target, value);
+    }
+
+    /**
+     * Converts a boxed value to int, widening byte, short and char values.
+     *
+     * @param value The boxed value
+     * @return The int value
+     * @throws IllegalArgumentException if the value is not convertible to int
+     */
+    static int toInt(Object value) {
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).intValue();
+        }
+        if (value instanceof Character character) {
+            return character;
+        }
+        throw mismatch(value, int.class);
+    }
+
+    /**
+     * Converts a boxed value to long, widening byte, short, char and int values.
+     *
+     * @param value The boxed value
+     * @return The long value
+     * @throws IllegalArgumentException if the value is not convertible to long
+     */
+    static long toLong(Object value) {
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).longValue();
+        }
+        if (value instanceof Character character) {
+            return character;
+        }
+        throw mismatch(value, long.class);
+    }
+
+    /**
+     * Converts a boxed value to double, widening all other numbers and char values.
+     *
+     * @param value The boxed value
+     * @return The double value
+     * @throws IllegalArgumentException if the value is not convertible to double
+     */
+    static double toDouble(Object value) {
+        if (value instanceof Number number) {
+            return number.doubleValue();
+        }
+        if (value instanceof Character character) {
+            return character;
+        }
+        throw mismatch(value, double.class);
+    }
+
+    /**
+     * Converts a boxed value to boolean.
+     *
+     * @param value The boxed value
+     * @return The boolean value
+     * @throws IllegalArgumentException if the value is not a boolean
+     */
+    static boolean toBoolean(Object value) {
+        if (value instanceof Boolean bool) {
+            return bool;
+        }
+        throw mismatch(value, boolean.class);
+    }
+
+    private static IllegalArgumentException mismatch(Object value, Class<?> type) {
+        String actual = value == null ? "null" : value.getClass().getSimpleName();
+        return new IllegalArgumentException("Cannot convert " + actual + " to " + type.getName());
+    }
 }
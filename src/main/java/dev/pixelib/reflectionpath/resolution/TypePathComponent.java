@@ -2,8 +2,29 @@ package dev.pixelib.reflectionpath.resolution;
 
 /**
  * Record class representing a component in a type-based path, including array type information.
+ *
+ * <p>Components parsed from an expression match member types by their simple, binary or canonical name.
+ * Components created from a class token with {@link #of(Class)} or {@link #assignableTo(Class)} match member
+ * types by identity or assignability instead, so they are not ambiguous when classes in different packages
+ * share a simple name, and resolving them never compares names.
+ *
+ * @param typeName The name of the type, without the array brackets
+ * @param isArray Whether the type is an array of the named type
+ * @param type The class token to match, or null to match by name
+ * @param assignable Whether members whose type is a subtype of the class token match as well
  */
-public record TypePathComponent(String typeName, boolean isArray) {
+public record TypePathComponent(String typeName, boolean isArray, Class<?> type, boolean assignable)
+        implements PathSegment {
+    /**
+     * Constructs a new TypePathComponent matching member types by name.
+     *
+     * @param typeName The name of the type, without the array brackets
+     * @param isArray Whether the type is an array of the named type
+     */
+    public TypePathComponent(String typeName, boolean isArray) {
+        this(typeName, isArray, null, false);
+    }
+
     /**
      * Parses a type path component string into a TypePathComponent object.
      *
@@ -18,4 +39,35 @@ public record TypePathComponent(String typeName, boolean isArray) {
         }
         return new TypePathComponent(cleanName, isArray);
     }
+
+    /**
+     * Creates a component matching members whose type is exactly the given class.
+     *
+     * @param type The type of the members to match
+     * @return A new TypePathComponent instance
+     * @throws IllegalArgumentException if the type is null
+     */
+    public static TypePathComponent of(Class<?> type) {
+        return token(type, false);
+    }
+
+    /**
+     * Creates a component matching members whose type is the given class or one of its subtypes, for example
+     * every member implementing an interface.
+     *
+     * @param type The supertype of the members to match
+     * @return A new TypePathComponent instance
+     * @throws IllegalArgumentException if the type is null
+     */
+    public static TypePathComponent assignableTo(Class<?> type) {
+        return token(type, true);
+    }
+
+    private static TypePathComponent token(Class<?> type, boolean assignable) {
+        if (type == null) {
+            throw new IllegalArgumentException("Type cannot be null");
+        }
+        Class<?> named = type.isArray() ? type.getComponentType() : type;
+        return new TypePathComponent(named.getTypeName(), type.isArray(), type, assignable);
+    }
 }
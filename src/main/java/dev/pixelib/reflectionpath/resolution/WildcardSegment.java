@@ -0,0 +1,8 @@
+package dev.pixelib.reflectionpath.resolution;
+
+/**
+ * Record class representing a wildcard in a path, written as {@code *}. A wildcard steps into every element of
+ * the array, {@link Iterable} or values of the {@link java.util.Map} it is applied to.
+ */
+public record WildcardSegment() implements PathSegment {
+}
@@ -0,0 +1,75 @@
+package dev.pixelib.reflectionpath;
+
+import dev.pixelib.reflectionpath.errors.ReflectionException;
+import dev.pixelib.reflectionpath.models.Stats;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkExtractionTests {
+    private static final int LARGE = BulkExtractor.SEQUENTIAL_THRESHOLD * 5 + 3;
+
+    private static List<Stats> stats(int count) {
+        List<Stats> stats = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Stats element = i % 3 == 0 ? new BoostedStats() : new Stats();
+            element.health = i;
+            stats.add(element);
+        }
+        return stats;
+    }
+
+    @Test
+    void testExtractInts() {
+        for (int count : new int[]{0, 10, LARGE}) {
+            int[] results = new int[count];
+            new ReflectionPath("health").extractInts(stats(count), results);
+
+            for (int i = 0; i < count; i++) {
+                assertEquals(i, results[i]);
+            }
+        }
+    }
+
+    @Test
+    void testExtractLongsAndDoubles() {
+        List<Stats> stats = new LinkedList<>(stats(LARGE));
+        long[] longs = new long[LARGE];
+        double[] doubles = new double[LARGE];
+
+        new ReflectionPath("experience").extractLongs(stats, longs);
+        new ReflectionPath("speed").extractDoubles(stats, doubles);
+
+        assertTrue(Arrays.stream(longs).allMatch(value -> value == 9_000_000_000L));
+        assertTrue(Arrays.stream(doubles).allMatch(value -> value == 0.75));
+    }
+
+    @Test
+    void testExtractAll() {
+        Object[] results = new ReflectionPath("[int]").extractAll(stats(LARGE));
+
+        assertEquals(LARGE, results.length);
+        assertEquals(LARGE - 1, results[LARGE - 1]);
+    }
+
+    @Test
+    void testErrors() {
+        List<Stats> stats = stats(LARGE);
+        stats.set(LARGE - 2, null);
+        ReflectionPath path = new ReflectionPath("health");
+
+        ReflectionException exception = assertThrows(ReflectionException.class,
+                () -> path.extractInts(stats, new int[LARGE]));
+        assertTrue(exception.getMessage().contains(String.valueOf(LARGE - 2)));
+        assertThrows(IllegalArgumentException.class, () -> path.extractInts(stats, new int[1]));
+        assertThrows(ReflectionException.class, () -> new ReflectionPath("flying").extractInts(stats(1), new int[1]));
+    }
+
+    static class BoostedStats extends Stats {
+    }
+}
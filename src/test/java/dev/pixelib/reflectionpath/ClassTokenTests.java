@@ -0,0 +1,140 @@
+package dev.pixelib.reflectionpath;
+
+import dev.pixelib.reflectionpath.errors.ReflectionException;
+import dev.pixelib.reflectionpath.models.Connection;
+import dev.pixelib.reflectionpath.models.ConnectionType;
+import dev.pixelib.reflectionpath.models.TestPlayer;
+import dev.pixelib.reflectionpath.resolution.AccessBackend;
+import dev.pixelib.reflectionpath.resolution.CompiledPath;
+import dev.pixelib.reflectionpath.resolution.NameSegment;
+import dev.pixelib.reflectionpath.resolution.PathResolutionStrategy;
+import dev.pixelib.reflectionpath.resolution.ResolutionCache;
+import dev.pixelib.reflectionpath.resolution.ResolutionManifest;
+import dev.pixelib.reflectionpath.resolution.TypePathComponent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClassTokenTests {
+    static class Bukkit {
+        record Item(String name) {
+        }
+    }
+
+    static class Sponge {
+        record Item(String name) {
+        }
+    }
+
+    static class Chest {
+        private final Bukkit.Item bukkitItem = new Bukkit.Item("bukkit");
+        private final Sponge.Item spongeItem = new Sponge.Item("sponge");
+        private final ArrayList<String> lore = new ArrayList<>(List.of("shiny"));
+        private final int slots = 27;
+        private final Sponge.Item[] contents = {new Sponge.Item("stone")};
+    }
+
+    static class EnderChest extends Chest {
+    }
+
+    @AfterEach
+    void resetSharedState() {
+        ReflectionPath.setSharedCache(null);
+        ReflectionPath.setManifest(null);
+    }
+
+    @ParameterizedTest
+    @EnumSource(AccessBackend.class)
+    void testIdentityMatching(AccessBackend backend) {
+        TestPlayer player = new TestPlayer("Test");
+        player.setConnection(new Connection(ConnectionType.LOCAL));
+        ReflectionPath path = ReflectionPath.ofTypes(Connection.class, ConnectionType.class);
+        path.setBackend(backend);
+
+        assertEquals(ConnectionType.LOCAL, path.getAs(player, ConnectionType.class));
+        assertEquals(27, ReflectionPath.ofTypes(int.class).getInt(new Chest()));
+        assertEquals("stone", ReflectionPath.ofTypes(Sponge.Item[].class)
+                .getAs(new Chest(), Sponge.Item[].class)[0].name());
+    }
+
+    @Test
+    void testSameSimpleNames() {
+        Chest chest = new Chest();
+
+        assertEquals("bukkit", new ReflectionPath("[Item].[String]").getAs(chest, String.class));
+        assertEquals("sponge", ReflectionPath.ofTypes(Sponge.Item.class, String.class).getAs(chest, String.class));
+        assertEquals("bukkit", ReflectionPath.ofTypes(Bukkit.Item.class, String.class).getAs(chest, String.class));
+    }
+
+    @Test
+    void testAssignableMatching() {
+        Chest chest = new Chest();
+
+        assertThrows(ReflectionException.class, () -> ReflectionPath.ofTypes(List.class).getAs(chest, List.class));
+        assertEquals(List.of("shiny"), ReflectionPath.ofAssignableTypes(Collection.class).getAs(chest, List.class));
+        assertEquals("bukkit", ReflectionPath.ofAssignableTypes(Record.class, String.class).getAs(chest, String.class));
+    }
+
+    @Test
+    void testMixedSegments() {
+        CompiledPath compiled = CompiledPath.of(List.of(TypePathComponent.of(Sponge.Item.class),
+                new NameSegment("name")));
+        ReflectionPath path = new ReflectionPath(compiled, PathResolutionStrategy.EXACT_MATCH);
+
+        assertEquals("sponge", path.getAs(new Chest(), String.class));
+        assertEquals("[" + Sponge.Item.class.getName() + "].name", path.getPath());
+    }
+
+    @Test
+    void testExpressions() {
+        assertEquals("[java.lang.String]", ReflectionPath.ofTypes(String.class).getPath());
+        assertEquals("[int[][]]", ReflectionPath.ofTypes(int[][].class).getPath());
+        assertEquals("[? extends java.util.List].[? extends java.lang.Number]",
+                ReflectionPath.ofAssignableTypes(List.class, Number.class).getPath());
+    }
+
+    @Test
+    void testSharedWithSubclasses() {
+        ReflectionPath path = ReflectionPath.ofTypes(Bukkit.Item.class);
+
+        assertEquals(new Bukkit.Item("bukkit"), path.getAs(new EnderChest(), Bukkit.Item.class));
+        assertSame(path.resolveCached(EnderChest.class), path.resolveCached(Chest.class));
+    }
+
+    @Test
+    void testTokensFromOtherLoadersDoNotShareResolutions() throws ClassNotFoundException {
+        ResolutionCache cache = new ResolutionCache(16);
+        ResolutionManifest manifest = new ResolutionManifest();
+        ReflectionPath.setSharedCache(cache);
+        ReflectionPath.setManifest(manifest);
+        TestPlayer player = new TestPlayer("Test");
+        player.setConnection(new Connection(ConnectionType.LOCAL));
+        Class<?> copy = new ClassUnloadingTests.IsolatingClassLoader(Connection.class.getName())
+                .loadClass(Connection.class.getName());
+
+        ReflectionPath named = new ReflectionPath("[" + Connection.class.getName() + "]");
+        ReflectionPath token = ReflectionPath.ofTypes(copy);
+        assertEquals(named.getPath(), token.getPath());
+
+        assertNotNull(named.getAs(player, Connection.class));
+        assertThrows(ReflectionException.class, () -> token.getAs(player, Object.class));
+        assertNotNull(ReflectionPath.ofTypes(Connection.class).getAs(player, Connection.class));
+        assertEquals(new ResolutionCache.Stats(0, 1, 0, 1), cache.stats());
+        assertEquals(1, manifest.size());
+    }
+
+    @Test
+    void testInvalidTokens() {
+        assertThrows(IllegalArgumentException.class, ReflectionPath::ofTypes);
+        assertThrows(IllegalArgumentException.class, () -> ReflectionPath.ofTypes(String.class, null));
+        assertThrows(IllegalArgumentException.class, () -> new ReflectionPath((CompiledPath) null,
+                PathResolutionStrategy.FIRST_MATCH));
+    }
+}
@@ -0,0 +1,97 @@
+package dev.pixelib.reflectionpath;
+
+import dev.pixelib.reflectionpath.models.Stats;
+import dev.pixelib.reflectionpath.resolution.ResolutionCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClassUnloadingTests {
+    @AfterEach
+    void disableSharedCache() {
+        ReflectionPath.setSharedCache(null);
+    }
+
+    @Test
+    void testResolvedPathsDoNotPinClassLoaders() throws Exception {
+        ResolutionCache cache = new ResolutionCache(16);
+        ReflectionPath.setSharedCache(cache);
+        ReflectionPath health = new ReflectionPath("health");
+
+        WeakReference<ClassLoader> loader = resolveInIsolatedLoader(health);
+        for (int i = 0; i < 10 && loader.get() != null; i++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+
+        assertNull(loader.get(), "Class loader was not collected");
+        assertEquals(0, cache.stats().size());
+        assertEquals(1337, health.getInt(new Stats()));
+    }
+
+    @Test
+    void testInvalidateResolvesAgain() {
+        ResolutionCache cache = new ResolutionCache(16);
+        ReflectionPath.setSharedCache(cache);
+        ReflectionPath health = new ReflectionPath("health");
+        Stats stats = new Stats();
+
+        assertEquals(1337, health.getInt(stats));
+        health.invalidate(Stats.class);
+        assertEquals(0, cache.stats().size());
+        assertEquals(1337, health.getInt(stats));
+
+        health.clear();
+        assertEquals(1337, health.getInt(stats));
+        assertEquals(2, cache.stats().misses());
+        assertEquals(1, cache.stats().hits());
+
+        cache.invalidate(Stats.class);
+        assertEquals(0, cache.stats().size());
+    }
+
+    private static WeakReference<ClassLoader> resolveInIsolatedLoader(ReflectionPath path) throws Exception {
+        ClassLoader loader = new IsolatingClassLoader(Stats.class.getName());
+        Object stats = loader.loadClass(Stats.class.getName()).getConstructor().newInstance();
+
+        assertNotSame(Stats.class, stats.getClass());
+        assertEquals(1337, path.getInt(stats));
+        return new WeakReference<>(loader);
+    }
+
+    /**
+     * Loads a single class itself instead of delegating to its parent, like a plugin class loader would.
+     */
+    static final class IsolatingClassLoader extends ClassLoader {
+        private final String isolated;
+
+        IsolatingClassLoader(String isolated) {
+            super(ClassUnloadingTests.class.getClassLoader());
+            this.isolated = isolated;
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.equals(isolated)) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> loaded = findLoadedClass(name);
+                if (loaded != null) {
+                    return loaded;
+                }
+                try (InputStream in = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+                    byte[] bytes = in.readAllBytes();
+                    return defineClass(name, bytes, 0, bytes.length);
+                } catch (IOException e) {
+                    throw new ClassNotFoundException(name, e);
+                }
+            }
+        }
+    }
+}
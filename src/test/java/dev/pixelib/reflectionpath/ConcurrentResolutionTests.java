@@ -0,0 +1,200 @@
+package dev.pixelib.reflectionpath;
+
+import dev.pixelib.reflectionpath.models.Stats;
+import dev.pixelib.reflectionpath.records.FieldPath;
+import dev.pixelib.reflectionpath.resolution.AccessBackend;
+import dev.pixelib.reflectionpath.resolution.PathResolutionStrategy;
+import dev.pixelib.reflectionpath.resolution.ResolutionCache;
+import dev.pixelib.reflectionpath.resolution.ResolvedPath;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class ConcurrentResolutionTests {
+    private static final int THREADS = 32;
+
+    static class Counter {
+        private int value = 42;
+    }
+
+    private static final List<Object> TARGETS = List.of("text", 1, 2L, 3.0, 'c', true, new Object(), new int[0],
+            new String[0], new ArrayList<>(), new HashMap<>(), new StringBuilder(), Optional.empty(), new Counter(),
+            Thread.State.NEW, new Object[0][0]);
+
+    @Test
+    void testRacingThreadsResolveEachClassOnce() throws Exception {
+        ReflectionPath path = new ReflectionPath("getClass");
+        PathMetrics metrics = path.enableMetrics();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                int offset = thread;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < TARGETS.size() * 20; i++) {
+                        Object target = TARGETS.get((i + offset) % TARGETS.size());
+                        assertSame(target.getClass(), path.getAs(target, Class.class));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(TARGETS.size(), metrics.snapshot().cacheMisses());
+    }
+
+    @Test
+    void testThroughputScalesWithThreads() throws Exception {
+        int threads = Math.min(Runtime.getRuntime().availableProcessors(), 8);
+        assumeTrue(threads >= 4, "Scaling can only be measured with at least four processors");
+
+        resolveAll(1, loadCopies(256));
+        double sequential = 0;
+        double parallel = 0;
+        for (int round = 0; round < 3; round++) {
+            sequential = Math.max(sequential, resolveAll(1, loadCopies(1024)));
+            parallel = Math.max(parallel, resolveAll(threads, loadCopies(1024)));
+        }
+
+        assertTrue(parallel > sequential * 2, "Resolved " + Math.round(sequential) + " classes/s on one thread but "
+                + Math.round(parallel) + " classes/s on " + threads + " threads");
+    }
+
+    /**
+     * Resolves a path against every target from several threads at once, each starting at another target so that
+     * they resolve different classes first and then race for classes other threads are resolving.
+     *
+     * @return The number of classes resolved per second
+     */
+    private static double resolveAll(int threads, List<Object> targets) throws Exception {
+        ReflectionPath path = new ReflectionPath("[int]");
+        PathMetrics metrics = path.enableMetrics();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        long elapsed;
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < threads; thread++) {
+                int offset = thread * targets.size() / threads;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < targets.size(); i++) {
+                        assertEquals(1337, path.getInt(targets.get((i + offset) % targets.size())));
+                    }
+                    return null;
+                }));
+            }
+            long begin = System.nanoTime();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+            elapsed = System.nanoTime() - begin;
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(targets.size(), metrics.snapshot().cacheMisses());
+        return targets.size() / (elapsed / 1e9);
+    }
+
+    /**
+     * Loads copies of a class in separate class loaders, so that every copy has to be resolved on its own.
+     */
+    private static List<Object> loadCopies(int count) throws Exception {
+        List<Object> copies = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ClassLoader loader = new ClassUnloadingTests.IsolatingClassLoader(Stats.class.getName());
+            copies.add(loader.loadClass(Stats.class.getName()).getConstructor().newInstance());
+        }
+        return copies;
+    }
+
+    @Test
+    void testSharedCacheWaitsForResolutionInProgress() throws Exception {
+        ResolutionCache cache = new ResolutionCache(16);
+        ResolutionCache.Key slowKey = key("value");
+        ResolutionCache.Key otherKey = key("other");
+        ResolvedPath resolved = new FieldPath(Counter.class.getDeclaredField("value"));
+        AtomicInteger resolutions = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<ResolvedPath>> futures = new ArrayList<>();
+            futures.add(executor.submit(() -> cache.get(slowKey, Counter.class, targetClass -> {
+                resolutions.incrementAndGet();
+                started.countDown();
+                await(release);
+                return resolved;
+            })));
+            started.await();
+            for (int thread = 1; thread < THREADS; thread++) {
+                futures.add(executor.submit(() -> cache.get(slowKey, Counter.class, targetClass -> {
+                    resolutions.incrementAndGet();
+                    return resolved;
+                })));
+            }
+
+            // Other keys of the same class are not held up by the resolution in progress
+            assertSame(resolved, cache.get(otherKey, Counter.class, targetClass -> resolved));
+
+            release.countDown();
+            for (Future<ResolvedPath> future : futures) {
+                assertSame(resolved, future.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, resolutions.get());
+        assertEquals(2, cache.stats().misses());
+        assertEquals(THREADS - 1, cache.stats().hits());
+    }
+
+    @Test
+    void testFailedResolutionIsRetried() {
+        ResolutionCache cache = new ResolutionCache(16);
+        ResolutionCache.Key key = key("value");
+
+        assertThrows(IllegalStateException.class, () -> cache.get(key, Counter.class, targetClass -> {
+            throw new IllegalStateException();
+        }));
+        ResolvedPath resolved = new ReflectionPath("value").resolveCached(Counter.class);
+        assertSame(resolved, cache.get(key, Counter.class, targetClass -> resolved));
+    }
+
+    private static ResolutionCache.Key key(String path) {
+        return new ResolutionCache.Key(path, PathResolutionStrategy.FIRST_MATCH, true, AccessBackend.REFLECTION,
+                false);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package dev.pixelib.reflectionpath;
+
+import dev.pixelib.reflectionpath.errors.PathSyntaxException;
+import dev.pixelib.reflectionpath.errors.ReflectionException;
+import dev.pixelib.reflectionpath.records.HandlePath;
+import dev.pixelib.reflectionpath.records.IndexedPath;
+import dev.pixelib.reflectionpath.records.KeyedPath;
+import dev.pixelib.reflectionpath.resolution.AccessBackend;
+import dev.pixelib.reflectionpath.resolution.CompiledPath;
+import dev.pixelib.reflectionpath.resolution.IndexSegment;
+import dev.pixelib.reflectionpath.resolution.KeySegment;
+import dev.pixelib.reflectionpath.resolution.NameSegment;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ElementAccessTests {
+    static class Item {
+        private final String name;
+
+        Item(String name) {
+            this.name = name;
+        }
+    }
+
+    static class Slot {
+        private Item item;
+
+        Slot(Item item) {
+            this.item = item;
+        }
+    }
+
+    static class Inventory {
+        private final Item[] items = {new Item("sword"), new Item("shield")};
+        private final int[] counts = {1, 2, 64};
+        private final Integer[] boxes = {5, 6};
+        private final long[][] grid = {{1, 2}, {3, 4, 5}};
+        private final List<Slot> slots = new ArrayList<>(List.of(new Slot(new Item("bow")), new Slot(null)));
+        private final Map<String, Double> attributes = new HashMap<>(Map.of("speed", 0.1, "quoted \"key\"", 2.0));
+        private final Map<String, List<Item>> chests = Map.of("home", List.of(new Item("apple")));
+        private Object raw = new int[]{7};
+    }
+
+    private static ReflectionPath path(String expression, AccessBackend backend) {
+        ReflectionPath path = new ReflectionPath(expression);
+        path.setBackend(backend);
+        return path;
+    }
+
+    @ParameterizedTest
+    @EnumSource(AccessBackend.class)
+    void testIndexedAccess(AccessBackend backend) {
+        Inventory inventory = new Inventory();
+
+        assertEquals("shield", path("items[1].name", backend).getAs(inventory, String.class));
+        assertEquals(64, path("counts[2]", backend).getInt(inventory));
+        assertEquals(5L, path("grid[1][2]", backend).getLong(inventory));
+        assertEquals(3.0, path("grid[1][0]", backend).getDouble(inventory));
+        assertEquals("bow", path("slots[0].item.name", backend).getAs(inventory, String.class));
+        assertEquals(7, path("raw[0]", backend).getInt(inventory));
+        assertEquals(5, path("boxes[0]", backend).getInt(inventory));
+        assertEquals(6L, path("boxes[1]", backend).getLong(inventory));
+        assertEquals(6.0, path("boxes[1]", backend).getDouble(inventory));
+        assertEquals("shield", path("[Item[]][1].[String]", backend).getAs(inventory, String.class));
+    }
+
+    @ParameterizedTest
+    @EnumSource(AccessBackend.class)
+    void testKeyedAccess(AccessBackend backend) {
+        Inventory inventory = new Inventory();
+
+        assertEquals(0.1, path("attributes{\"speed\"}", backend).getDouble(inventory));
+        assertEquals(2.0, path("attributes{\"quoted \\\"key\\\"\"}", backend).getAs(inventory, Double.class));
+        assertEquals("apple", path("chests{\"home\"}[0].name", backend).getAs(inventory, String.class));
+    }
+
+    @ParameterizedTest
+    @EnumSource(AccessBackend.class)
+    void testWriteElements(AccessBackend backend) {
+        Inventory inventory = new Inventory();
+
+        path("counts[0]", backend).setInt(inventory, 16);
+        path("grid[0][1]", backend).setLong(inventory, 42L);
+        path("slots[1].item", backend).set(inventory, new Item("arrow"));
+        path("attributes{\"jump\"}", backend).set(inventory, 0.5);
+
+        assertEquals(16, inventory.counts[0]);
+        assertEquals(42L, inventory.grid[0][1]);
+        assertEquals("arrow", inventory.slots.get(1).item.name);
+        assertEquals(0.5, inventory.attributes.get("jump"));
+    }
+
+    @ParameterizedTest
+    @EnumSource(AccessBackend.class)
+    void testMissingElements(AccessBackend backend) {
+        Inventory inventory = new Inventory();
+
+        assertThrows(ReflectionException.class, () -> path("counts[3]", backend).getInt(inventory));
+        assertThrows(ReflectionException.class, () -> path("slots[2]", backend).getAs(inventory, Slot.class));
+        assertThrows(ReflectionException.class,
+                () -> path("attributes{\"jump\"}", backend).getAs(inventory, Double.class));
+
+        assertEquals(Optional.empty(), path("counts[3]", backend).tryGet(inventory, Integer.class));
+        assertEquals(Optional.empty(), path("slots[2].item", backend).tryGet(inventory, Item.class));
+        assertEquals(Optional.empty(), path("slots[1].item.name", backend).tryGet(inventory, String.class));
+        assertEquals(1.5, path("attributes{\"jump\"}", backend).getOrDefault(inventory, Double.class, 1.5));
+        assertEquals(Optional.of(2), path("counts[1]", backend).tryGet(inventory, Integer.class));
+    }
+
+    @Test
+    void testNullSafeAfterElement() {
+        Inventory inventory = new Inventory();
+
+        assertNull(new ReflectionPath("slots[1].item?.name").getAs(inventory, String.class));
+        assertThrows(ReflectionException.class,
+                () -> new ReflectionPath("slots[1].item.name").getAs(inventory, String.class));
+    }
+
+    @Test
+    void testLinkedRecords() {
+        assertInstanceOf(HandlePath.class, path("grid[1][2]", AccessBackend.METHOD_HANDLE)
+                .resolveCached(Inventory.class));
+        assertInstanceOf(IndexedPath.class, path("counts[0]", AccessBackend.REFLECTION)
+                .resolveCached(Inventory.class));
+        assertInstanceOf(KeyedPath.class, path("attributes{\"speed\"}", AccessBackend.METHOD_HANDLE)
+                .resolveCached(Inventory.class));
+    }
+
+    @Test
+    void testUnsupportedContainers() {
+        Inventory inventory = new Inventory();
+
+        assertThrows(ReflectionException.class, () -> new ReflectionPath("attributes[0]").getAs(inventory, Object.class));
+        assertThrows(ReflectionException.class, () -> new ReflectionPath("counts{\"a\"}").getAs(inventory, Object.class));
+        assertThrows(ReflectionException.class, () -> new ReflectionPath("items[0]").invokeOn(inventory));
+        assertThrows(ReflectionException.class, () -> new PathSet("items[0]").extract(inventory));
+    }
+
+    @Test
+    void testParsing() {
+        CompiledPath path = CompiledPath.parse("grid[1][2].a{\"b\\\\c\"}");
+        assertEquals(List.of(new NameSegment("grid"), new IndexSegment(1), new IndexSegment(2),
+                new NameSegment("a"), new KeySegment("b\\c")), path.segments());
+        assertEquals("grid[1][2].a{\"b\\\\c\"}", path.subPath(0, 5).expression());
+
+        assertThrows(PathSyntaxException.class, () -> CompiledPath.parse("a[1"));
+        assertThrows(PathSyntaxException.class, () -> CompiledPath.parse("a[99999999999]"));
+        assertThrows(PathSyntaxException.class, () -> CompiledPath.parse("a{b}"));
+        assertThrows(PathSyntaxException.class, () -> CompiledPath.parse("a{\"b\""));
+        assertThrows(PathSyntaxException.class, () -> CompiledPath.parse("a{\"b"));
+        assertThrows(PathSyntaxException.class, () -> CompiledPath.parse("a.*[0]"));
+    }
+}
@@ -0,0 +1,130 @@
+package dev.pixelib.reflectionpath;
+
+import dev.pixelib.reflectionpath.models.Connection;
+import dev.pixelib.reflectionpath.models.ConnectionType;
+import dev.pixelib.reflectionpath.models.Stats;
+import dev.pixelib.reflectionpath.models.TestPlayer;
+import dev.pixelib.reflectionpath.resolution.PathResolutionStrategy;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlightRecorderTests {
+    private static final String RESOLUTION = "dev.pixelib.reflectionpath.PathResolution";
+    private static final String SLOW_ACCESS = "dev.pixelib.reflectionpath.SlowAccess";
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 100_000;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testRecordsResolutions() throws IOException {
+        TestPlayer player = new TestPlayer("Test");
+        player.setConnection(new Connection(ConnectionType.LOCAL));
+        ReflectionPath script = new ReflectionPath("[Connection].[ConnectionType]", PathResolutionStrategy.LAST_MATCH);
+        ReflectionPath missing = new ReflectionPath("missing");
+
+        List<RecordedEvent> events = record(RESOLUTION, Duration.ZERO, () -> {
+            script.getAs(player, ConnectionType.class);
+            script.getAs(player, ConnectionType.class);
+            missing.tryGet(new Stats(), Object.class);
+        });
+
+        assertEquals(2, events.size());
+        RecordedEvent resolved = find(events, "[Connection].[ConnectionType]");
+        assertEquals(TestPlayer.class.getName(), resolved.getClass("targetClass").getName());
+        assertEquals("LAST_MATCH", resolved.getString("strategy"));
+        assertEquals("Scan", resolved.getString("source"));
+        // The connection field, then the type field and getter of Connection
+        assertEquals(3, resolved.getInt("membersScanned"));
+        assertFalse(resolved.getBoolean("failed"));
+
+        assertTrue(find(events, "missing").getBoolean("failed"));
+    }
+
+    @Test
+    void testRecordsSlowAccessAboveThreshold() throws IOException {
+        Stats stats = new Stats();
+        ReflectionPath script = new ReflectionPath("isFlying");
+
+        List<RecordedEvent> events = record(SLOW_ACCESS, Duration.ZERO, () -> {
+            script.getAs(stats, Boolean.class);
+            script.invokeOn(stats);
+            script.getBoolean(stats);
+        });
+        assertEquals(3, events.size());
+        assertEquals("getAs", events.get(0).getString("operation"));
+        assertEquals("invokeOn", events.get(1).getString("operation"));
+        assertEquals(Stats.class.getName(), events.get(1).getClass("targetClass").getName());
+        assertEquals("getBoolean", events.get(2).getString("operation"));
+
+        assertTrue(record(SLOW_ACCESS, Duration.ofSeconds(10), () -> script.getAs(stats, Boolean.class)).isEmpty());
+    }
+
+    @Test
+    void testDisabledSlowAccessDoesNotAllocate() {
+        Stats stats = new Stats();
+        ReflectionPath field = new ReflectionPath("flying");
+        ReflectionPath method = new ReflectionPath("isFlying");
+        Object[] noArguments = {};
+
+        int flying = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            flying += access(field, method, stats, noArguments);
+        }
+
+        long before = allocatedBytes();
+        for (int i = 0; i < ITERATIONS; i++) {
+            flying += access(field, method, stats, noArguments);
+        }
+        long allocated = allocatedBytes() - before;
+
+        assertEquals(0, flying);
+        // An event per access would allocate several megabytes, leave some room for the measurement itself
+        assertTrue(allocated < 64 * 1024, "Allocated " + allocated + " bytes");
+    }
+
+    private static int access(ReflectionPath field, ReflectionPath method, Stats stats, Object[] noArguments) {
+        boolean flying = field.getAs(stats, Boolean.class)
+                | (Boolean) method.invokeOn(stats, noArguments)
+                | method.getBoolean(stats);
+        return flying ? 1 : 0;
+    }
+
+    private static long allocatedBytes() {
+        var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private List<RecordedEvent> record(String event, Duration threshold, Runnable action) throws IOException {
+        Path file = directory.resolve("recording.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(event).withThreshold(threshold);
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(recorded -> recorded.getEventType().getName().equals(event))
+                .toList();
+    }
+
+    private static RecordedEvent find(List<RecordedEvent> events, String path) {
+        return events.stream()
+                .filter(event -> path.equals(event.getString("path")))
+                .findFirst()
+                .orElseThrow();
+    }
+}
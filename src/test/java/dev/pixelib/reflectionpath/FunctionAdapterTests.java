@@ -0,0 +1,111 @@
+package dev.pixelib.reflectionpath;
+
+import dev.pixelib.reflectionpath.errors.ReflectionException;
+import dev.pixelib.reflectionpath.resolution.AccessBackend;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FunctionAdapterTests {
+    static class Stats {
+        private final int level;
+        private final long experience;
+
+        Stats(int level, long experience) {
+            this.level = level;
+            this.experience = experience;
+        }
+    }
+
+    static class Entity {
+        private final String world;
+        private final Stats stats;
+        private final double health;
+        private final boolean alive;
+
+        Entity(String world, int level, double health) {
+            this.world = world;
+            this.stats = new Stats(level, level * 100L);
+            this.health = health;
+            this.alive = health > 0;
+        }
+    }
+
+    static class Boss extends Entity {
+        Boss(String world, int level) {
+            super(world, level, 500);
+        }
+    }
+
+    private static final List<Entity> ENTITIES = List.of(new Entity("nether", 3, 20), new Boss("end", 9),
+            new Entity("overworld", 1, 0), new Entity("nether", 5, 10));
+
+    private static ReflectionPath path(String expression, AccessBackend backend) {
+        ReflectionPath path = new ReflectionPath(expression);
+        path.setBackend(backend);
+        return path;
+    }
+
+    @ParameterizedTest
+    @EnumSource(AccessBackend.class)
+    void testSortByInt(AccessBackend backend) {
+        ToIntFunction<Entity> level = path("stats.level", backend).asToIntFunction(Entity.class);
+
+        List<Integer> levels = ENTITIES.stream()
+                .sorted(Comparator.comparingInt(level))
+                .map(entity -> entity.stats.level)
+                .collect(Collectors.toList());
+        assertEquals(List.of(1, 3, 5, 9), levels);
+    }
+
+    @ParameterizedTest
+    @EnumSource(AccessBackend.class)
+    void testGroupAndFilter(AccessBackend backend) {
+        Function<Entity, String> world = path("world", backend).asFunction(Entity.class, String.class);
+
+        Map<String, Long> alivePerWorld = ENTITIES.stream()
+                .filter(path("alive", backend).asPredicate(Entity.class))
+                .collect(Collectors.groupingBy(world, Collectors.counting()));
+        assertEquals(Map.of("nether", 2L, "end", 1L), alivePerWorld);
+    }
+
+    @ParameterizedTest
+    @EnumSource(AccessBackend.class)
+    void testPrimitiveFunctions(AccessBackend backend) {
+        assertEquals(530.0, ENTITIES.stream()
+                .mapToDouble(path("health", backend).asToDoubleFunction(Entity.class))
+                .sum());
+        assertEquals(1800L, ENTITIES.stream()
+                .mapToLong(path("stats.experience", backend).asToLongFunction(Entity.class))
+                .sum());
+    }
+
+    @Test
+    void testBoundToRootClass() {
+        ReflectionPath path = new ReflectionPath("stats.level");
+        ToIntFunction<Entity> level = path.asToIntFunction(Entity.class);
+        path.clear();
+
+        assertEquals(9, level.applyAsInt(new Boss("end", 9)));
+    }
+
+    @Test
+    void testErrors() {
+        assertThrows(ReflectionException.class, () -> new ReflectionPath("missing").asToIntFunction(Entity.class));
+        assertThrows(IllegalArgumentException.class, () -> new ReflectionPath("world").asPredicate(null));
+
+        Function<Entity, Integer> wrongType = new ReflectionPath("world").asFunction(Entity.class, Integer.class);
+        assertThrows(ReflectionException.class, () -> wrongType.apply(ENTITIES.get(0)));
+        ToIntFunction<Entity> notInt = new ReflectionPath("health").asToIntFunction(Entity.class);
+        assertThrows(ReflectionException.class, () -> notInt.applyAsInt(ENTITIES.get(0)));
+    }
+}
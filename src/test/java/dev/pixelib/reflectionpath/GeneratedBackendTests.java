@@ -0,0 +1,108 @@
+package dev.pixelib.reflectionpath;
+
+import dev.pixelib.reflectionpath.generation.AccessorGenerator;
+import dev.pixelib.reflectionpath.models.Connection;
+import dev.pixelib.reflectionpath.models.ConnectionType;
+import dev.pixelib.reflectionpath.models.Stats;
+import dev.pixelib.reflectionpath.models.TestPlayer;
+import dev.pixelib.reflectionpath.records.FieldPath;
+import dev.pixelib.reflectionpath.resolution.AccessBackend;
+import dev.pixelib.reflectionpath.resolution.ResolvedPath;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeneratedBackendTests {
+    private static ReflectionPath generatedPath(String path) {
+        ReflectionPath script = new ReflectionPath(path);
+        script.setBackend(AccessBackend.GENERATED);
+        return script;
+    }
+
+    @Test
+    void testPrivateFieldOfTarget() {
+        TestPlayer player = new TestPlayer("Test");
+
+        assertEquals("Test", generatedPath("name").getAs(player, String.class));
+    }
+
+    @Test
+    void testPrivateFieldsAcrossClasses() {
+        TestPlayer player = new TestPlayer("Test");
+        player.setConnection(new Connection(ConnectionType.REMOTE));
+
+        assertEquals(ConnectionType.REMOTE, generatedPath("connection.type").getAs(player, ConnectionType.class));
+        assertEquals(ConnectionType.REMOTE, generatedPath("connection.getType").getAs(player, ConnectionType.class));
+    }
+
+    @Test
+    void testPrimitiveAndStaticMembers() {
+        Stats stats = new Stats();
+
+        assertEquals(1337, generatedPath("health").getAs(stats, Integer.class));
+        assertEquals(0.75, generatedPath("speed").getAs(stats, Double.class));
+        assertEquals(9_000_000_000L, generatedPath("experience").getAs(stats, Long.class));
+        assertEquals(false, generatedPath("isFlying").getAs(stats, Boolean.class));
+        assertEquals("lobby", generatedPath("server").getAs(stats, String.class));
+    }
+
+    @Test
+    void testTypeBasedAccess() {
+        TestPlayer player = new TestPlayer("Test");
+        player.setConnection(new Connection(ConnectionType.LOCAL));
+
+        assertEquals(ConnectionType.LOCAL,
+                generatedPath("[Connection].[ConnectionType]").getAs(player, ConnectionType.class));
+    }
+
+    @Test
+    void testGeneratesHiddenClass() throws Exception {
+        Field name = TestPlayer.class.getDeclaredField("name");
+        name.setAccessible(true);
+        FieldPath fallback = new FieldPath(name);
+
+        Optional<ResolvedPath> accessor = AccessorGenerator.generate(TestPlayer.class, List.of(name), fallback);
+
+        assertTrue(accessor.isPresent());
+        assertTrue(accessor.get().getClass().isHidden());
+        assertEquals("Test", accessor.get().getValue(new TestPlayer("Test")));
+    }
+
+    @Test
+    void testGeneratesChainThroughInaccessibleMembers() throws Exception {
+        Field connection = TestPlayer.class.getDeclaredField("connection");
+        Field type = Connection.class.getDeclaredField("type");
+        connection.setAccessible(true);
+        type.setAccessible(true);
+
+        Optional<ResolvedPath> accessor = AccessorGenerator.generate(TestPlayer.class, List.of(connection, type), null);
+        TestPlayer player = new TestPlayer("Test");
+        player.setConnection(new Connection(ConnectionType.REMOTE));
+
+        assertTrue(accessor.isPresent());
+        assertEquals(ConnectionType.REMOTE, accessor.get().getValue(player));
+    }
+
+    @Test
+    void testFallsBackForClosedModules() throws Exception {
+        Method isEmpty = ArrayList.class.getDeclaredMethod("isEmpty");
+
+        assertTrue(AccessorGenerator.generate(ArrayList.class, List.of(isEmpty), null).isEmpty());
+        assertEquals(true, generatedPath("isEmpty").getAs(new ArrayList<>(), Boolean.class));
+    }
+
+    @Test
+    void testInvokeDelegatesToFallback() {
+        TestPlayer player = new TestPlayer("Test");
+        Connection connection = new Connection(ConnectionType.LOCAL);
+        generatedPath("setConnection").invokeOn(player, connection);
+
+        assertSame(connection, generatedPath("connection").getAs(player, Connection.class));
+    }
+}
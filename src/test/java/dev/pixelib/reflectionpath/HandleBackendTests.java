@@ -0,0 +1,84 @@
+package dev.pixelib.reflectionpath;
+
+import dev.pixelib.reflectionpath.errors.ReflectionException;
+import dev.pixelib.reflectionpath.models.Connection;
+import dev.pixelib.reflectionpath.models.ConnectionType;
+import dev.pixelib.reflectionpath.models.TestPlayer;
+import dev.pixelib.reflectionpath.resolution.AccessBackend;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HandleBackendTests {
+    private static ReflectionPath handlePath(String path) {
+        ReflectionPath script = new ReflectionPath(path);
+        script.setBackend(AccessBackend.METHOD_HANDLE);
+        return script;
+    }
+
+    @Test
+    void testNestedFieldAccess() {
+        TestPlayer player = new TestPlayer("Test");
+        player.setConnection(new Connection(ConnectionType.LOCAL));
+
+        assertEquals(ConnectionType.LOCAL, handlePath("connection.type").getAs(player, ConnectionType.class));
+    }
+
+    @Test
+    void testChainedMethodInvocation() {
+        TestPlayer player = new TestPlayer("Test");
+        player.setConnection(new Connection(ConnectionType.REMOTE));
+
+        assertEquals(ConnectionType.REMOTE, handlePath("connection.getType").getAs(player, ConnectionType.class));
+    }
+
+    @Test
+    void testTypeBasedAccess() {
+        TestPlayer player = new TestPlayer("Test");
+        player.setConnection(new Connection(ConnectionType.LOCAL));
+
+        assertEquals(ConnectionType.LOCAL,
+                handlePath("[Connection].[ConnectionType]").getAs(player, ConnectionType.class));
+    }
+
+    @Test
+    void testInvokeWithArguments() {
+        TestPlayer player = new TestPlayer("Test");
+        Connection connection = new Connection(ConnectionType.REMOTE);
+        handlePath("setConnection").invokeOn(player, connection);
+
+        assertSame(connection, new ReflectionPath("connection").getAs(player, Connection.class));
+    }
+
+    @Test
+    void testInvokeFieldFails() {
+        TestPlayer player = new TestPlayer("Test");
+
+        assertThrows(ReflectionException.class, () -> handlePath("name").invokeOn(player));
+    }
+
+    @Test
+    void testNullIntermediateFails() {
+        TestPlayer player = new TestPlayer("Test");
+
+        assertThrows(ReflectionException.class,
+                () -> handlePath("connection.type").getAs(player, ConnectionType.class));
+    }
+
+    @Test
+    void testSwitchingBackendReresolves() {
+        TestPlayer player = new TestPlayer("Test");
+        ReflectionPath script = new ReflectionPath("name");
+        assertEquals("Test", script.getAs(player, String.class));
+
+        script.setBackend(AccessBackend.METHOD_HANDLE);
+        assertEquals("Test", script.getAs(player, String.class));
+    }
+
+    @Test
+    void testParseBackend() {
+        assertEquals(AccessBackend.REFLECTION, AccessBackend.parse(null));
+        assertEquals(AccessBackend.METHOD_HANDLE, AccessBackend.parse(" method_handle "));
+        assertThrows(IllegalArgumentException.class, () -> AccessBackend.parse("unknown"));
+    }
+}
@@ -0,0 +1,121 @@
+package dev.pixelib.reflectionpath;
+
+import dev.pixelib.reflectionpath.records.UnresolvedPath;
+import dev.pixelib.reflectionpath.resolution.AccessBackend;
+import dev.pixelib.reflectionpath.resolution.PathResolutionStrategy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HierarchySharingTests {
+    static class Entity {
+        private final String name;
+        private double speed = 0.25;
+
+        Entity(String name) {
+            this.name = name;
+        }
+
+        String getName() {
+            return name;
+        }
+    }
+
+    static class Zombie extends Entity {
+        Zombie() {
+            super("zombie");
+        }
+    }
+
+    static class Skeleton extends Entity {
+        private double range = 16;
+
+        Skeleton() {
+            super("skeleton");
+        }
+    }
+
+    static class WitherSkeleton extends Skeleton {
+    }
+
+    static class Boss extends Entity {
+        private final String name = "boss";
+        private final String title = "king";
+
+        Boss() {
+            super("entity");
+        }
+    }
+
+    static class EliteBoss extends Boss {
+    }
+
+    @ParameterizedTest
+    @EnumSource(AccessBackend.class)
+    void testSharesPathWithSubclasses(AccessBackend backend) {
+        ReflectionPath path = new ReflectionPath("name");
+        path.setBackend(backend);
+
+        assertEquals("zombie", path.getAs(new Zombie(), String.class));
+        assertEquals("skeleton", path.getAs(new Skeleton(), String.class));
+        assertEquals("skeleton", path.getAs(new WitherSkeleton(), String.class));
+        assertSame(path.resolveCached(Zombie.class), path.resolveCached(Skeleton.class));
+        assertSame(path.resolveCached(Zombie.class), path.resolveCached(WitherSkeleton.class));
+        assertSame(path.resolveCached(Zombie.class), path.resolveCached(Entity.class));
+    }
+
+    @Test
+    void testShadowingMembersAreNotShared() {
+        ReflectionPath path = new ReflectionPath("name");
+
+        assertEquals("zombie", path.getAs(new Zombie(), String.class));
+        assertEquals("boss", path.getAs(new Boss(), String.class));
+        assertEquals("boss", path.getAs(new EliteBoss(), String.class));
+        assertNotSame(path.resolveCached(Zombie.class), path.resolveCached(Boss.class));
+        assertSame(path.resolveCached(Boss.class), path.resolveCached(EliteBoss.class));
+    }
+
+    @Test
+    void testTypeBasedStrategies() {
+        ReflectionPath first = new ReflectionPath("[String]", PathResolutionStrategy.FIRST_MATCH);
+        ReflectionPath last = new ReflectionPath("[String]", PathResolutionStrategy.LAST_MATCH);
+        ReflectionPath speed = new ReflectionPath("[double]", PathResolutionStrategy.EXACT_MATCH);
+
+        assertEquals("zombie", first.getAs(new Zombie(), String.class));
+        assertEquals("zombie", last.getAs(new Zombie(), String.class));
+        assertEquals("boss", first.getAs(new EliteBoss(), String.class));
+        assertEquals("entity", last.getAs(new EliteBoss(), String.class));
+
+        assertEquals(0.25, speed.getDouble(new Zombie()));
+        assertSame(speed.resolveCached(Zombie.class), speed.resolveCached(Entity.class));
+        assertInstanceOf(UnresolvedPath.class, speed.resolveCached(WitherSkeleton.class));
+    }
+
+    @Test
+    void testSharingRestartsAfterClear() {
+        ReflectionPath path = new ReflectionPath("getName");
+        Object before = path.resolveCached(Zombie.class);
+
+        path.clear();
+
+        assertNotSame(before, path.resolveCached(Skeleton.class));
+        assertSame(path.resolveCached(Skeleton.class), path.resolveCached(Zombie.class));
+    }
+
+    @Test
+    void testInvalidateDiscardsSharedPath() {
+        ReflectionPath path = new ReflectionPath("name");
+        Object shared = path.resolveCached(Zombie.class);
+        assertSame(shared, path.resolveCached(Skeleton.class));
+
+        path.invalidate(Skeleton.class);
+
+        Object skeleton = path.resolveCached(Skeleton.class);
+        assertNotSame(shared, skeleton);
+        assertNotSame(shared, path.resolveCached(Zombie.class));
+        assertSame(skeleton, path.resolveCached(Zombie.class));
+        assertEquals("skeleton", path.getAs(new Skeleton(), String.class));
+    }
+}
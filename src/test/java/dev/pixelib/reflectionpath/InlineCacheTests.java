@@ -0,0 +1,129 @@
+package dev.pixelib.reflectionpath;
+
+import dev.pixelib.reflectionpath.models.MultiFieldTest;
+import dev.pixelib.reflectionpath.models.Stats;
+import dev.pixelib.reflectionpath.models.TestPlayer;
+import dev.pixelib.reflectionpath.resolution.AccessBackend;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Constructor;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InlineCacheTests {
+    @Test
+    void testAlternatingClasses() {
+        ReflectionPath script = new ReflectionPath("[String]");
+        TestPlayer player = new TestPlayer("Test");
+        MultiFieldTest multiField = new MultiFieldTest();
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals("Test", script.getAs(player, String.class));
+            assertEquals("first", script.getAs(multiField, String.class));
+        }
+    }
+
+    @Test
+    void testSubclassIsResolvedSeparately() {
+        ReflectionPath script = new ReflectionPath("[int]");
+        Stats stats = new Stats();
+        Stats boosted = new BoostedStats();
+
+        assertEquals(1337, script.getInt(stats));
+        assertEquals(7, script.getInt(boosted));
+        assertEquals(1337, script.getInt(stats));
+    }
+
+    @Test
+    void testClearAfterUse() {
+        ReflectionPath script = new ReflectionPath("health");
+        Stats stats = new Stats();
+
+        assertEquals(1337, script.getInt(stats));
+        script.clear();
+        assertEquals(1337, script.getInt(stats));
+        script.invalidate(Stats.class);
+        assertEquals(1337, script.getInt(stats));
+    }
+
+    @Test
+    void testEntryResolvedBeforeClearIsNotReused() throws Exception {
+        ReflectionPath script = new ReflectionPath("value");
+        PathMetrics metrics = script.enableMetrics();
+        GatedClassLoader loader = new GatedClassLoader();
+        Constructor<?> constructor = loader.loadClass(Holder.class.getName()).getDeclaredConstructor();
+        constructor.setAccessible(true);
+        Object holder = constructor.newInstance();
+
+        // Resolution blocks while loading the field types, so the path is cleared while it is in progress
+        CompletableFuture<Integer> read = CompletableFuture.supplyAsync(() -> script.getInt(holder));
+        assertTrue(loader.loading.await(30, TimeUnit.SECONDS));
+        script.setBackend(AccessBackend.METHOD_HANDLE);
+        loader.release.countDown();
+        assertEquals(42, read.get(30, TimeUnit.SECONDS));
+
+        assertEquals(42, script.getInt(holder));
+        assertEquals(2, metrics.snapshot().cacheMisses());
+        assertEquals(42, script.getInt(holder));
+        assertEquals(2, metrics.snapshot().cacheMisses());
+    }
+
+    static class BoostedStats extends Stats {
+        private final int boost = 7;
+    }
+
+    public static class Holder {
+        private Gate gate;
+        private int value = 42;
+    }
+
+    public static class Gate {
+    }
+
+    /**
+     * Loads Holder and Gate itself, and blocks loading Gate until released, which happens when the fields of Holder
+     * are first looked up.
+     */
+    private static final class GatedClassLoader extends ClassLoader {
+        private final CountDownLatch loading = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        private GatedClassLoader() {
+            super(InlineCacheTests.class.getClassLoader());
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.equals(Holder.class.getName()) && !name.equals(Gate.class.getName())) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> loaded = findLoadedClass(name);
+                if (loaded != null) {
+                    return loaded;
+                }
+                if (name.equals(Gate.class.getName())) {
+                    loading.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new ClassNotFoundException(name, e);
+                    }
+                }
+                try (InputStream in = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+                    byte[] bytes = in.readAllBytes();
+                    return defineClass(name, bytes, 0, bytes.length);
+                } catch (IOException e) {
+                    throw new ClassNotFoundException(name, e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package dev.pixelib.reflectionpath;
+
+import dev.pixelib.reflectionpath.errors.ReflectionException;
+import dev.pixelib.reflectionpath.models.Stats;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InvocationTests {
+    static class Handler {
+        final List<String> received = new ArrayList<>();
+
+        private String handle(Object packet) {
+            return "object";
+        }
+
+        private String handle(String packet) {
+            return "string";
+        }
+
+        private String handle(int packet) {
+            return "int";
+        }
+
+        private String handle(long packet) {
+            return "long";
+        }
+
+        private String handle(CharSequence first, CharSequence second) {
+            return "sequences";
+        }
+
+        private String handle(String first, CharSequence second) {
+            return "string, sequence";
+        }
+
+        private String ambiguous(String first, Object second) {
+            return "string, object";
+        }
+
+        private String ambiguous(Object first, String second) {
+            return "object, string";
+        }
+
+        private int value() {
+            return 1;
+        }
+
+        private int value(int offset) {
+            return 1 + offset;
+        }
+
+        void receive(String packet) {
+            received.add(packet);
+        }
+
+        static int sum(int a, int b, int c, int d) {
+            return a + b + c + d;
+        }
+
+        String join(String a, String b, String c) {
+            return a + b + c;
+        }
+
+        int count(String label, Object... values) {
+            return values.length;
+        }
+    }
+
+    static class LoggingHandler extends Handler {
+        @Override
+        void receive(String packet) {
+            super.receive("logged " + packet);
+        }
+    }
+
+    record Session(Handler handler) {
+    }
+
+    record Connection(Session session) {
+    }
+
+    @Test
+    void testSelectsOverloadByArgumentClass() {
+        Handler handler = new Handler();
+        ReflectionPath script = new ReflectionPath("handle");
+
+        assertEquals("string", script.invoke1(handler, "login"));
+        assertEquals("int", script.invoke1(handler, 5));
+        assertEquals("long", script.invoke1(handler, 5L));
+        assertEquals("object", script.invoke1(handler, new Object()));
+        assertEquals("int", script.invoke1(handler, (short) 5));
+        assertEquals("string", script.invokeOn(handler, "login"));
+        assertEquals("string, sequence", script.invoke2(handler, "a", "b"));
+        assertEquals("sequences", script.invoke2(handler, new StringBuilder(), "b"));
+    }
+
+    @Test
+    void testReusesCachedOverloads() {
+        Handler handler = new Handler();
+        ReflectionPath script = new ReflectionPath("handle");
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals("string", script.invoke1(handler, "login"));
+            assertEquals("int", script.invoke1(handler, i));
+            assertEquals("object", script.invoke1(handler, List.of()));
+        }
+    }
+
+    @Test
+    void testNullArgumentsMatchReferenceParameters() {
+        ReflectionPath script = new ReflectionPath("handle");
+        assertEquals("string", script.invoke1(new Handler(), null));
+        assertEquals("string, sequence", script.invoke2(new Handler(), "a", null));
+        assertThrows(ReflectionException.class, () -> new ReflectionPath("value").invoke1(new Handler(), null));
+    }
+
+    @Test
+    void testReportsAmbiguousAndMissingOverloads() {
+        Handler handler = new Handler();
+        ReflectionException ambiguous = assertThrows(ReflectionException.class,
+                () -> new ReflectionPath("ambiguous").invoke2(handler, "a", "b"));
+        assertTrue(ambiguous.getCause().getMessage().contains("Ambiguous overloads of ambiguous for (String, String)"));
+        assertEquals("string, object", new ReflectionPath("ambiguous").invoke2(handler, "a", 1));
+
+        ReflectionException missing = assertThrows(ReflectionException.class,
+                () -> new ReflectionPath("handle").invoke3(handler, 1, 2, 3));
+        assertTrue(missing.getCause().getMessage().contains("No overload of handle is applicable to (Integer, Integer, Integer)"));
+    }
+
+    @Test
+    void testCachedOverloadsDoNotPinArgumentClassLoaders() throws Exception {
+        Handler handler = new Handler();
+        ReflectionPath script = new ReflectionPath("handle");
+
+        WeakReference<ClassLoader> loader = invokeWithIsolatedArgument(script, handler);
+        for (int i = 0; i < 10 && loader.get() != null; i++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+
+        assertNull(loader.get(), "Class loader was not collected");
+        assertEquals("object", script.invoke1(handler, new Object()));
+        assertEquals("object", script.invokeOn(handler, new Stats()));
+    }
+
+    private static WeakReference<ClassLoader> invokeWithIsolatedArgument(ReflectionPath script, Handler handler)
+            throws Exception {
+        ClassLoader loader = new ClassUnloadingTests.IsolatingClassLoader(Stats.class.getName());
+        Object stats = loader.loadClass(Stats.class.getName()).getConstructor().newInstance();
+
+        assertEquals("object", script.invoke1(handler, stats));
+        assertEquals("object", script.invokeOn(handler, stats));
+        return new WeakReference<>(loader);
+    }
+
+    @Test
+    void testInvokesEveryArity() {
+        Handler handler = new Handler();
+
+        assertEquals(1, new ReflectionPath("value").invoke0(handler));
+        assertEquals(3, new ReflectionPath("value").invoke1(handler, 2));
+        assertEquals("abc", new ReflectionPath("join").invoke3(handler, "a", "b", "c"));
+        assertEquals(10, new ReflectionPath("sum").invoke4(handler, 1, 2, 3, 4));
+        assertEquals(2, new ReflectionPath("count").invoke2(handler, "values", new Object[]{1, 2}));
+        assertEquals(10, new ReflectionPath("sum").invokeOn(handler, 1, 2, 3, 4));
+    }
+
+    @Test
+    void testValueReadsPreferMethodWithoutParameters() {
+        assertEquals(1, new ReflectionPath("value").getInt(new Handler()));
+    }
+
+    @Test
+    void testInvokesOnReceiverOfPath() {
+        LoggingHandler handler = new LoggingHandler();
+        Connection connection = new Connection(new Session(handler));
+
+        assertNull(new ReflectionPath("session.handler.receive").invoke1(connection, "ping"));
+        assertEquals(List.of("logged ping"), handler.received);
+
+        assertNull(new ReflectionPath("session.handler?.receive").invoke1(new Connection(new Session(null)), "ping"));
+        assertThrows(ReflectionException.class,
+                () -> new ReflectionPath("session.handler.receive").invoke1(new Connection(new Session(null)), "ping"));
+    }
+
+    @Test
+    void testPathsNotEndingInMethodName() {
+        ReflectionPath script = new ReflectionPath("received");
+        assertThrows(ReflectionException.class, () -> script.invoke0(new Handler()));
+        assertThrows(ReflectionException.class, () -> new ReflectionPath("missing").invoke1(new Handler(), 1));
+    }
+}
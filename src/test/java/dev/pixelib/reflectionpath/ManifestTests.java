@@ -0,0 +1,93 @@
+package dev.pixelib.reflectionpath;
+
+import dev.pixelib.reflectionpath.models.Connection;
+import dev.pixelib.reflectionpath.models.ConnectionType;
+import dev.pixelib.reflectionpath.models.TestPlayer;
+import dev.pixelib.reflectionpath.resolution.PathResolutionStrategy;
+import dev.pixelib.reflectionpath.resolution.ResolutionManifest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ManifestTests {
+    @TempDir
+    Path directory;
+
+    static class Names {
+        private final String[] names = {"Steve"};
+    }
+
+    @AfterEach
+    void resetManifest() {
+        ReflectionPath.setManifest(null);
+    }
+
+    private static TestPlayer player() {
+        TestPlayer player = new TestPlayer("Steve");
+        player.setConnection(new Connection(ConnectionType.REMOTE));
+        return player;
+    }
+
+    @Test
+    void testRoundTrip() throws IOException {
+        ResolutionManifest recording = new ResolutionManifest();
+        ReflectionPath.setManifest(recording);
+        new ReflectionPath("[Connection].[ConnectionType]").getAs(player(), ConnectionType.class);
+        new ReflectionPath("connection.type").getAs(player(), ConnectionType.class);
+
+        assertEquals(1, recording.size());
+        Path file = directory.resolve("paths.manifest");
+        recording.save(file);
+
+        ResolutionManifest loaded = ResolutionManifest.load(file);
+        ReflectionPath.setManifest(loaded);
+        assertEquals(ConnectionType.REMOTE,
+                new ReflectionPath("[Connection].[ConnectionType]").getAs(player(), ConnectionType.class));
+        assertEquals(new ResolutionManifest.Stats(1, 0, 0, 1), loaded.stats());
+    }
+
+    @Test
+    void testStaleEntryFallsBackToScan() throws IOException {
+        ResolutionManifest recording = new ResolutionManifest();
+        ReflectionPath.setManifest(recording);
+        new ReflectionPath("[Connection]").getAs(player(), Connection.class);
+
+        Path file = directory.resolve("paths.manifest");
+        recording.save(file);
+        List<String> lines = Files.readAllLines(file);
+        String[] columns = lines.get(1).split("\t");
+        columns[4] = "0";
+        Files.writeString(file, lines.get(0) + "\n" + String.join("\t", columns) + "\n");
+
+        ResolutionManifest loaded = ResolutionManifest.load(file);
+        ReflectionPath.setManifest(loaded);
+        assertNotNull(new ReflectionPath("[Connection]").getAs(player(), Connection.class));
+        assertEquals(1, loaded.stats().stale());
+        assertNotNull(loaded.lookup("[Connection]", PathResolutionStrategy.FIRST_MATCH, true, TestPlayer.class));
+    }
+
+    @Test
+    void testElementStepsBypassManifest() {
+        ResolutionManifest recording = new ResolutionManifest();
+        ReflectionPath.setManifest(recording);
+        assertEquals("Steve", new ReflectionPath("[String[]][0]").getAs(new Names(), String.class));
+        assertEquals("Steve", new ReflectionPath("[String[]][0]").getAs(new Names(), String.class));
+
+        assertEquals(new ResolutionManifest.Stats(0, 0, 0, 0), recording.stats());
+    }
+
+    @Test
+    void testMalformedManifest() throws IOException {
+        Path file = directory.resolve("broken.manifest");
+        Files.writeString(file, "[Connection]\tFIRST_MATCH\n");
+
+        assertThrows(IOException.class, () -> ResolutionManifest.load(file));
+    }
+}
@@ -0,0 +1,104 @@
+package dev.pixelib.reflectionpath;
+
+import dev.pixelib.reflectionpath.models.MultiFieldTest;
+import dev.pixelib.reflectionpath.resolution.TypePathComponent;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MemberIndexTests {
+    @Test
+    void testIndexIsShared() {
+        assertSame(MemberIndex.of(MultiFieldTest.class), MemberIndex.of(MultiFieldTest.class));
+    }
+
+    @Test
+    void testFieldsBeforeMethodsAndSubclassBeforeSuperclass() {
+        List<AccessibleObject> members = MemberIndex.of(Child.class)
+                .findByType(TypePathComponent.parse("Nested"), true);
+
+        assertEquals(List.of("childField", "parentField", "childMethod", "parentMethod"), names(members));
+    }
+
+    @Test
+    void testMatchesSimpleBinaryAndCanonicalNames() {
+        MemberIndex index = MemberIndex.of(Child.class);
+        String binary = Nested.class.getName();
+        String canonical = Nested.class.getCanonicalName();
+
+        assertNotEquals(binary, canonical);
+        assertEquals(4, index.findByType(TypePathComponent.parse(binary), true).size());
+        assertEquals(4, index.findByType(TypePathComponent.parse(canonical), true).size());
+        assertEquals(1, index.findByType(TypePathComponent.parse("Nested[]"), true).size());
+        assertTrue(index.findByType(TypePathComponent.parse("Missing"), true).isEmpty());
+    }
+
+    @Test
+    void testToStringIsFiltered() {
+        MemberIndex index = MemberIndex.of(MultiFieldTest.class);
+
+        assertEquals(3, index.findByType(TypePathComponent.parse("String"), true).size());
+        assertEquals(4, index.findByType(TypePathComponent.parse("String"), false).size());
+    }
+
+    @Test
+    void testAnonymousMemberTypes() {
+        Object anonymous = new Object() {
+            private final Runnable task = new Runnable() {
+                @Override
+                public void run() {
+                }
+            };
+        };
+
+        MemberIndex index = MemberIndex.of(anonymous.getClass());
+        Field task = index.findField("task");
+
+        assertNotNull(task);
+        assertEquals(List.of(task), index.findByType(TypePathComponent.parse("Runnable"), true));
+        assertTrue(index.findByType(TypePathComponent.parse("String"), true).isEmpty());
+    }
+
+    @Test
+    void testNameLookups() {
+        MemberIndex index = MemberIndex.of(Child.class);
+
+        assertEquals(Parent.class, index.findField("parentField").getDeclaringClass());
+        assertEquals(Parent.class, index.findMethod("parentMethod").getDeclaringClass());
+        assertNull(index.findField("missing"));
+        assertNull(index.findMethod("missing"));
+    }
+
+    private static List<String> names(List<AccessibleObject> members) {
+        return members.stream().map(member -> ((Member) member).getName()).toList();
+    }
+
+    static class Nested {
+    }
+
+    static class Parent {
+        private Nested parentField;
+
+        Nested parentMethod() {
+            return parentField;
+        }
+    }
+
+    static class Child extends Parent {
+        private Nested childField;
+        private Nested[] nestedArray;
+
+        Nested childMethod() {
+            return childField;
+        }
+
+        Nested withArgument(int argument) {
+            return childField;
+        }
+    }
+}
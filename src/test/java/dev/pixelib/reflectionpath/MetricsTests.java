@@ -0,0 +1,132 @@
+package dev.pixelib.reflectionpath;
+
+import dev.pixelib.reflectionpath.errors.ReflectionException;
+import dev.pixelib.reflectionpath.models.Connection;
+import dev.pixelib.reflectionpath.models.ConnectionType;
+import dev.pixelib.reflectionpath.models.Stats;
+import dev.pixelib.reflectionpath.models.TestPlayer;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricsTests {
+    @Test
+    void testMetricsAreDisabledByDefault() {
+        ReflectionPath script = new ReflectionPath("health");
+        assertEquals(1337, script.getInt(new Stats()));
+        assertNull(script.getMetrics());
+    }
+
+    @Test
+    void testCountsHitsAndMisses() {
+        ReflectionPath script = new ReflectionPath("[Connection].[ConnectionType]");
+        PathMetrics metrics = script.enableMetrics();
+        assertSame(metrics, script.enableMetrics());
+
+        TestPlayer player = new TestPlayer("Test");
+        player.setConnection(new Connection(ConnectionType.LOCAL));
+        for (int i = 0; i < 4; i++) {
+            assertEquals(ConnectionType.LOCAL, script.getAs(player, ConnectionType.class));
+        }
+
+        PathMetrics.Snapshot snapshot = metrics.snapshot();
+        assertEquals("[Connection].[ConnectionType]", snapshot.path());
+        assertEquals(4, snapshot.accesses());
+        assertEquals(1, snapshot.cacheMisses());
+        assertEquals(3, snapshot.cacheHits());
+        assertEquals(0.75, snapshot.hitRate(), 1e-9);
+        assertEquals(1, snapshot.cacheSize());
+        assertEquals(1, snapshot.resolutionTime().count());
+        assertTrue(snapshot.resolutionTime().percentileNanos(0.5) >= snapshot.resolutionTime().meanNanos());
+        assertEquals(4, snapshot.readTime().count());
+        assertEquals(0, snapshot.invocationTime().count());
+
+        script.invalidate(TestPlayer.class);
+        assertEquals(0, metrics.snapshot().cacheSize());
+        script.getAs(player, ConnectionType.class);
+        assertEquals(2, metrics.snapshot().cacheMisses());
+    }
+
+    @Test
+    void testCountsFailures() {
+        ReflectionPath script = new ReflectionPath("missing");
+        PathMetrics metrics = script.enableMetrics();
+
+        assertThrows(ReflectionException.class, () -> script.getInt(new Stats()));
+        assertThrows(ReflectionException.class, () -> script.getAs(new Stats(), Object.class));
+        assertTrue(script.tryGet(new Stats(), Object.class).isEmpty());
+        assertThrows(ReflectionException.class, () -> script.invokeOn(new Stats()));
+
+        PathMetrics.Snapshot snapshot = metrics.snapshot();
+        assertEquals(1, snapshot.resolutionFailures());
+        assertEquals(2, snapshot.accessFailures());
+        assertEquals(1, snapshot.invocations());
+        assertEquals(1, snapshot.invocationFailures());
+        assertEquals(1, snapshot.invocationTime().count());
+    }
+
+    @Test
+    void testResetKeepsCacheSize() {
+        ReflectionPath script = new ReflectionPath("health");
+        PathMetrics metrics = script.enableMetrics();
+        script.getInt(new Stats());
+
+        metrics.reset();
+        PathMetrics.Snapshot snapshot = metrics.snapshot();
+        assertEquals(0, snapshot.accesses());
+        assertEquals(0, snapshot.resolutionTime().count());
+        assertEquals(0, snapshot.readTime().count());
+        assertEquals(1, snapshot.cacheSize());
+
+        script.clear();
+        assertEquals(0, metrics.snapshot().cacheSize());
+    }
+
+    @Test
+    void testRegistersWithJmx() throws Exception {
+        ReflectionPath script = new ReflectionPath("isFlying");
+        PathMetrics metrics = script.enableMetrics();
+        ObjectName name = metrics.register();
+        assertSame(name, metrics.register());
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            script.getBoolean(new Stats());
+            script.getBoolean(new Stats());
+            assertEquals("isFlying", server.getAttribute(name, "Path"));
+            assertEquals(2L, server.getAttribute(name, "Accesses"));
+            assertEquals(1L, server.getAttribute(name, "CacheHits"));
+            assertEquals(1, server.getAttribute(name, "CacheSize"));
+            assertEquals(metrics.snapshot().readTime().meanNanos(),
+                    (double) server.getAttribute(name, "ReadTimeMeanNanos"));
+            assertTrue((long) server.getAttribute(name, "ReadTime99thPercentileNanos") > 0);
+        } finally {
+            script.disableMetrics();
+        }
+        assertFalse(server.isRegistered(name));
+        assertNull(script.getMetrics());
+    }
+
+    @Test
+    void testHistogramPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 99; i++) {
+            histogram.record(100);
+        }
+        histogram.record(1_000_000);
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(100, snapshot.count());
+        assertEquals(128, snapshot.percentileNanos(0.5));
+        assertEquals(128, snapshot.percentileNanos(0.99));
+        assertEquals(1 << 20, snapshot.percentileNanos(1));
+        assertEquals((99 * 100 + 1_000_000) / 100.0, snapshot.meanNanos(), 1e-9);
+        assertThrows(IllegalArgumentException.class, () -> snapshot.percentileNanos(1.5));
+        assertEquals(snapshot.meanNanos(), histogram.meanNanos(), 1e-9);
+        assertEquals(128, histogram.percentileNanos(0.99));
+    }
+}
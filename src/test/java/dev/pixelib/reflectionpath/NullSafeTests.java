@@ -0,0 +1,120 @@
+package dev.pixelib.reflectionpath;
+
+import dev.pixelib.reflectionpath.errors.PathSyntaxException;
+import dev.pixelib.reflectionpath.errors.ReflectionException;
+import dev.pixelib.reflectionpath.models.Connection;
+import dev.pixelib.reflectionpath.models.ConnectionType;
+import dev.pixelib.reflectionpath.models.TestPlayer;
+import dev.pixelib.reflectionpath.records.UnresolvedPath;
+import dev.pixelib.reflectionpath.resolution.AccessBackend;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NullSafeTests {
+    private static ReflectionPath path(String path, AccessBackend backend) {
+        ReflectionPath script = new ReflectionPath(path);
+        script.setBackend(backend);
+        return script;
+    }
+
+    private static TestPlayer player(Connection connection) {
+        TestPlayer player = new TestPlayer("Steve");
+        player.setConnection(connection);
+        return player;
+    }
+
+    @ParameterizedTest
+    @EnumSource(AccessBackend.class)
+    void testNullSafeStep(AccessBackend backend) {
+        ReflectionPath script = path("connection?.type", backend);
+
+        assertNull(script.getAs(player(null), ConnectionType.class));
+        assertEquals(ConnectionType.LOCAL, script.getAs(player(new Connection(ConnectionType.LOCAL)), ConnectionType.class));
+        assertThrows(ReflectionException.class, () -> path("connection.type", backend).getAs(player(null), Object.class));
+    }
+
+    @ParameterizedTest
+    @EnumSource(AccessBackend.class)
+    void testOnlyMarkedStepsAreNullSafe(AccessBackend backend) {
+        ReflectionPath script = path("session?.profile.name", backend);
+
+        assertNull(script.getAs(new Account(null), String.class));
+        assertEquals("Alex", script.getAs(new Account(new Session(new Profile("Alex"))), String.class));
+        assertThrows(ReflectionException.class, () -> script.getAs(new Account(new Session(null)), String.class));
+    }
+
+    @ParameterizedTest
+    @EnumSource(AccessBackend.class)
+    void testNullSafeMode(AccessBackend backend) {
+        ReflectionPath script = path("session.profile.name", backend);
+        script.setNullSafe(true);
+
+        assertNull(script.getAs(new Account(null), String.class));
+        assertNull(script.getAs(new Account(new Session(null)), String.class));
+        assertEquals("Alex", script.getAs(new Account(new Session(new Profile("Alex"))), String.class));
+    }
+
+    @ParameterizedTest
+    @EnumSource(AccessBackend.class)
+    void testTryGet(AccessBackend backend) {
+        TestPlayer player = player(new Connection(ConnectionType.LOCAL));
+
+        assertEquals(Optional.of(ConnectionType.LOCAL), path("connection.type", backend).tryGet(player, ConnectionType.class));
+        assertEquals(Optional.empty(), path("session.profile.name", backend).tryGet(new Account(new Session(null)), String.class));
+        assertEquals(Optional.empty(), path("connection.missing", backend).tryGet(player, Object.class));
+        assertEquals(Optional.empty(), path("connection.type", backend).tryGet(player, String.class));
+        assertEquals(Optional.empty(), path("connection.type", backend).tryGet(null, ConnectionType.class));
+    }
+
+    @Test
+    void testGetOrDefault() {
+        ReflectionPath script = new ReflectionPath("connection.type");
+
+        assertEquals(ConnectionType.REMOTE, script.getOrDefault(player(null), ConnectionType.class, ConnectionType.REMOTE));
+        assertEquals(ConnectionType.LOCAL,
+                script.getOrDefault(player(new Connection(ConnectionType.LOCAL)), ConnectionType.class, null));
+        assertEquals("none", new ReflectionPath("missing").getOrDefault(player(null), String.class, "none"));
+    }
+
+    @Test
+    void testWritesThroughNullAreSkipped() {
+        TestPlayer player = player(null);
+        new ReflectionPath("connection?.type").set(player, ConnectionType.REMOTE);
+
+        assertNull(new ReflectionPath("connection").getAs(player, Connection.class));
+    }
+
+    @Test
+    void testFailedResolutionIsCached() {
+        ReflectionPath script = new ReflectionPath("missing");
+        assertInstanceOf(UnresolvedPath.class, script.resolveCached(TestPlayer.class));
+        assertSame(script.resolveCached(TestPlayer.class), script.resolveCached(TestPlayer.class));
+
+        ReflectionException exception = assertThrows(ReflectionException.class,
+                () -> script.getAs(player(null), Object.class));
+        assertTrue(exception.getCause().getMessage().contains("missing"));
+    }
+
+    @Test
+    void testSyntax() {
+        assertEquals(Set.of(1, 2), new ReflectionPath("a?.b?.c").getCompiledPath().nullSafeSegments());
+        assertThrows(PathSyntaxException.class, () -> new ReflectionPath("a?b"));
+        assertThrows(PathSyntaxException.class, () -> new ReflectionPath("?.a"));
+        assertThrows(PathSyntaxException.class, () -> new ReflectionPath("a?."));
+    }
+
+    record Account(Session session) {
+    }
+
+    record Session(Profile profile) {
+    }
+
+    record Profile(String name) {
+    }
+}
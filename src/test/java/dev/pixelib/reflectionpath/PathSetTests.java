@@ -0,0 +1,105 @@
+package dev.pixelib.reflectionpath;
+
+import dev.pixelib.reflectionpath.errors.ReflectionException;
+import dev.pixelib.reflectionpath.models.Connection;
+import dev.pixelib.reflectionpath.models.ConnectionType;
+import dev.pixelib.reflectionpath.models.TestPlayer;
+import dev.pixelib.reflectionpath.resolution.AccessBackend;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PathSetTests {
+    @Test
+    void testExtractsInPathOrder() {
+        TestPlayer player = new TestPlayer("Steve");
+        player.setConnection(new Connection(ConnectionType.REMOTE));
+        player.setInventory(new String[]{"sword"});
+
+        PathSet paths = new PathSet("name", "connection.type", "[String[]]", "connection", "connection.type");
+        Object[] values = paths.extract(player);
+
+        assertEquals(5, paths.size());
+        assertEquals("Steve", values[0]);
+        assertEquals(ConnectionType.REMOTE, values[1]);
+        assertArrayEquals(new String[]{"sword"}, (String[]) values[2]);
+        assertInstanceOf(Connection.class, values[3]);
+        assertEquals(ConnectionType.REMOTE, values[4]);
+    }
+
+    @Test
+    void testSharedPrefixIsReadOnce() {
+        Holder holder = new Holder();
+        PathSet paths = new PathSet("getConnection.type", "getConnection.getType", "getConnection");
+
+        Object[] values = paths.extract(holder);
+
+        assertEquals(1, holder.reads);
+        assertEquals(ConnectionType.LOCAL, values[0]);
+        assertEquals(ConnectionType.LOCAL, values[1]);
+        assertSame(holder.connection, values[2]);
+    }
+
+    @Test
+    void testSink() {
+        Holder holder = new Holder();
+        Object[] values = new Object[2];
+
+        new PathSet("getConnection.type", "getConnection").extract(holder, (index, value) -> values[index] = value);
+
+        assertEquals(ConnectionType.LOCAL, values[0]);
+        assertSame(holder.connection, values[1]);
+    }
+
+    @Test
+    void testErrors() {
+        PathSet paths = new PathSet("connection.type");
+
+        assertThrows(IllegalArgumentException.class, PathSet::new);
+        assertThrows(IllegalArgumentException.class, () -> paths.extract(new Holder(), new Object[2]));
+        assertThrows(ReflectionException.class, () -> paths.extract(null));
+        assertThrows(ReflectionException.class, () -> new PathSet("missing").extract(new Holder()));
+        assertThrows(ReflectionException.class, () -> new PathSet("setReads").extract(new Holder()));
+        assertThrows(ReflectionException.class, () -> new PathSet("connection", "connection[0]").extract(new Holder()));
+        assertThrows(ReflectionException.class, () -> new PathSet("connection.*").extract(new Holder()));
+    }
+
+    @Test
+    void testNullSafeSteps() {
+        TestPlayer player = new TestPlayer("Steve");
+        PathSet paths = new PathSet("connection?.type", "connection", "name");
+
+        assertArrayEquals(new Object[]{null, null, "Steve"}, paths.extract(player));
+        assertThrows(ReflectionException.class, () -> new PathSet("connection.type").extract(player));
+
+        PathSet nullSafe = new PathSet("connection.type", "name");
+        nullSafe.setNullSafe(true);
+        assertArrayEquals(new Object[]{null, "Steve"}, nullSafe.extract(player));
+    }
+
+    @ParameterizedTest
+    @EnumSource(AccessBackend.class)
+    void testBackends(AccessBackend backend) {
+        Holder holder = new Holder();
+        PathSet paths = new PathSet("getConnection.type", "connection");
+        paths.setBackend(backend);
+
+        assertArrayEquals(new Object[]{ConnectionType.LOCAL, holder.connection}, paths.extract(holder));
+    }
+
+    static class Holder {
+        private final Connection connection = new Connection(ConnectionType.LOCAL);
+        private int reads;
+
+        Connection getConnection() {
+            reads++;
+            return connection;
+        }
+
+        void setReads(int reads) {
+            this.reads = reads;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package dev.pixelib.reflectionpath;
+
+import dev.pixelib.reflectionpath.errors.PathSyntaxException;
+import dev.pixelib.reflectionpath.models.Connection;
+import dev.pixelib.reflectionpath.models.ConnectionType;
+import dev.pixelib.reflectionpath.models.TestPlayer;
+import dev.pixelib.reflectionpath.resolution.CompiledPath;
+import dev.pixelib.reflectionpath.resolution.NameSegment;
+import dev.pixelib.reflectionpath.resolution.PathResolutionStrategy;
+import dev.pixelib.reflectionpath.resolution.PathType;
+import dev.pixelib.reflectionpath.resolution.TypePathComponent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PathSyntaxTests {
+    @Test
+    void testParsesSegments() {
+        CompiledPath compiled = CompiledPath.parse("[TestPlayer].connection.[String[]]");
+
+        assertEquals(List.of(
+                new TypePathComponent("TestPlayer", false),
+                new NameSegment("connection"),
+                new TypePathComponent("String", true)), compiled.segments());
+        assertEquals(PathType.TYPE_BASED, compiled.type());
+        assertEquals(PathType.NAME_BASED, CompiledPath.parse("connection.type").type());
+    }
+
+    @Test
+    void testMixedPath() {
+        TestPlayer player = new TestPlayer("Steve");
+        player.setConnection(new Connection(ConnectionType.REMOTE));
+
+        assertEquals(ConnectionType.REMOTE, new ReflectionPath("[Connection].type").getAs(player, ConnectionType.class));
+        assertEquals(ConnectionType.REMOTE, new ReflectionPath("connection.[ConnectionType]").getAs(player, ConnectionType.class));
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "a..b       | 2 | Empty segment",
+            ".a         | 0 | Empty segment",
+            "a.         | 2 | Empty segment",
+            "[String    | 7 | Expected ']'",
+            "[]         | 1 | Empty type name",
+            "a[String]  | 1 | Expected '.'",
+            "[String]b  | 8 | Expected '.'",
+            "a.*b       | 3 | Expected '.'",
+            "a.b*       | 3 | Expected '.'",
+            "'a b'      | 1 | Expected '.'",
+    })
+    void testReportsErrorPosition(String expression, int index, String description) {
+        PathSyntaxException exception = assertThrows(PathSyntaxException.class, () -> new ReflectionPath(expression));
+
+        assertEquals(expression, exception.getExpression());
+        assertEquals(index, exception.getIndex());
+        assertEquals(description, exception.getDescription());
+    }
+
+    @Test
+    void testCompileInternsInstances() {
+        ReflectionPath first = ReflectionPath.compile("connection.type");
+
+        assertSame(first, ReflectionPath.compile("connection" + ".type"));
+        assertSame(first, ReflectionPath.compile("connection.type", PathResolutionStrategy.FIRST_MATCH));
+        assertNotSame(first, ReflectionPath.compile("connection.type", PathResolutionStrategy.LAST_MATCH));
+        assertNotSame(first, new ReflectionPath("connection.type"));
+        assertEquals("connection.type", first.getPath());
+    }
+
+    @Test
+    void testCompileRejectsMalformedPaths() {
+        assertThrows(IllegalArgumentException.class, () -> ReflectionPath.compile(""));
+        assertThrows(PathSyntaxException.class, () -> ReflectionPath.compile("a..b"));
+    }
+
+    @Test
+    void testCompileIsBounded() {
+        ReflectionPath kept = ReflectionPath.compile("connection.name");
+        for (int i = 0; i < 10_000; i++) {
+            ReflectionPath.compile("dynamic" + i);
+            if (i % 1000 == 0) {
+                assertSame(kept, ReflectionPath.compile("connection.name"));
+            }
+        }
+
+        assertTrue(ReflectionPath.compiledCount() <= 4096);
+        assertSame(kept, ReflectionPath.compile("connection.name"));
+    }
+
+    @Test
+    void testInvalidCompileCacheSizeFallsBackToDefault() {
+        assertEquals(100, ReflectionPath.compileCacheSize(" 100 "));
+        assertEquals(4096, ReflectionPath.compileCacheSize(null));
+        assertEquals(4096, ReflectionPath.compileCacheSize("lots"));
+        assertEquals(4096, ReflectionPath.compileCacheSize("0"));
+    }
+
+    @Test
+    void testCompiledPathRejectsEmptySegments() {
+        assertThrows(IllegalArgumentException.class, () -> new CompiledPath("", List.of()));
+        assertThrows(IllegalArgumentException.class, () -> CompiledPath.of(List.of()));
+        assertThrows(IllegalArgumentException.class,
+                () -> new CompiledPath("a", List.of(new NameSegment("a")), Set.of(1)));
+    }
+}
@@ -0,0 +1,213 @@
+package dev.pixelib.reflectionpath;
+
+import dev.pixelib.reflectionpath.errors.ReflectionException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PathWatcherTests {
+    static class Entity {
+        private int health = 20;
+        private long ticksLived;
+        private double speed = 0.1;
+        private boolean sneaking;
+        private String world = "overworld";
+        private boolean broken;
+
+        int getCharge() {
+            if (broken) {
+                throw new IllegalStateException("Broken");
+            }
+            return health / 2;
+        }
+    }
+
+    private final List<PathWatcher.Watch> changes = new ArrayList<>();
+
+    @Test
+    void testReportsOnlyChangedValues() {
+        PathWatcher watcher = new PathWatcher(changes::add);
+        Entity entity = new Entity();
+        PathWatcher.Watch health = watcher.watchInt(entity, new ReflectionPath("health"));
+        PathWatcher.Watch ticks = watcher.watchLong(entity, new ReflectionPath("ticksLived"));
+        PathWatcher.Watch speed = watcher.watchDouble(entity, new ReflectionPath("speed"));
+        PathWatcher.Watch sneaking = watcher.watchBoolean(entity, new ReflectionPath("sneaking"));
+        PathWatcher.Watch world = watcher.watch(entity, new ReflectionPath("world"));
+
+        assertEquals(0, watcher.poll());
+        assertTrue(changes.isEmpty());
+
+        entity.health = 15;
+        entity.sneaking = true;
+        entity.world = new String("overworld");
+        assertEquals(2, watcher.poll());
+        assertEquals(List.of(health, sneaking), changes);
+        assertEquals(15, health.intValue());
+        assertEquals(20, health.previousIntValue());
+        assertTrue(sneaking.booleanValue());
+        assertEquals(15, health.value());
+
+        changes.clear();
+        entity.ticksLived = 1L << 40;
+        entity.speed = 0.2;
+        entity.world = "nether";
+        assertEquals(3, watcher.poll());
+        assertEquals(List.of(ticks, speed, world), changes);
+        assertEquals(1L << 40, ticks.longValue());
+        assertEquals(0L, ticks.previousLongValue());
+        assertEquals(0.2, speed.doubleValue());
+        assertEquals(0.1, speed.previousDoubleValue());
+        assertEquals("nether", world.value());
+        assertEquals("overworld", world.previousValue());
+    }
+
+    @Test
+    void testNaNIsStable() {
+        PathWatcher watcher = new PathWatcher(changes::add);
+        Entity entity = new Entity();
+        entity.speed = Double.NaN;
+        watcher.watchDouble(entity, new ReflectionPath("speed"));
+
+        assertEquals(0, watcher.poll());
+        entity.speed = 0;
+        assertEquals(1, watcher.poll());
+    }
+
+    @Test
+    void testParallelPoll() {
+        PathWatcher watcher = new PathWatcher(changes::add, 4);
+        ReflectionPath health = new ReflectionPath("health");
+        List<Entity> entities = new ArrayList<>();
+        List<PathWatcher.Watch> expected = new ArrayList<>();
+        for (int i = 0; i < PathWatcher.MIN_CHUNK_SIZE * 5; i++) {
+            Entity entity = new Entity();
+            entities.add(entity);
+            PathWatcher.Watch watch = watcher.watchInt(entity, health);
+            if (i % 7 == 0) {
+                expected.add(watch);
+            }
+        }
+
+        for (int i = 0; i < entities.size(); i += 7) {
+            entities.get(i).health = i;
+        }
+        assertEquals(expected.size(), watcher.poll());
+        assertEquals(expected, changes);
+        assertEquals(0, watcher.poll());
+    }
+
+    @Test
+    void testUnwatch() {
+        PathWatcher watcher = new PathWatcher(changes::add);
+        Entity entity = new Entity();
+        PathWatcher.Watch health = watcher.watchInt(entity, new ReflectionPath("health"));
+        PathWatcher.Watch speed = watcher.watchDouble(entity, new ReflectionPath("speed"));
+
+        assertTrue(watcher.unwatch(health));
+        assertFalse(watcher.unwatch(health));
+        assertEquals(1, watcher.size());
+        assertThrows(IllegalStateException.class, health::intValue);
+
+        entity.health = 1;
+        entity.speed = 1;
+        assertEquals(1, watcher.poll());
+        assertEquals(List.of(speed), changes);
+        assertEquals(1.0, speed.doubleValue());
+    }
+
+    @Test
+    void testUnwatchFromListener() {
+        PathWatcher[] watcher = new PathWatcher[1];
+        PathWatcher.Watch[] removed = new PathWatcher.Watch[1];
+        watcher[0] = new PathWatcher(watch -> {
+            changes.add(watch);
+            watcher[0].unwatch(removed[0]);
+        });
+        Entity entity = new Entity();
+        PathWatcher.Watch health = watcher[0].watchInt(entity, new ReflectionPath("health"));
+        removed[0] = watcher[0].watchDouble(entity, new ReflectionPath("speed"));
+
+        entity.health = 1;
+        entity.speed = 1;
+        assertEquals(2, watcher[0].poll());
+        assertEquals(List.of(health), changes);
+        assertEquals(1, watcher[0].size());
+    }
+
+    @Test
+    void testErrors() {
+        PathWatcher watcher = new PathWatcher(changes::add);
+        Entity entity = new Entity();
+
+        assertThrows(ReflectionException.class, () -> watcher.watch(entity, new ReflectionPath("missing")));
+        assertThrows(ReflectionException.class, () -> watcher.watchInt(entity, new ReflectionPath("world")));
+        assertThrows(IllegalArgumentException.class, () -> watcher.watch(null, new ReflectionPath("world")));
+        assertThrows(IllegalArgumentException.class, () -> new PathWatcher(changes::add, 0));
+        assertEquals(0, watcher.size());
+
+        PathWatcher.Watch health = watcher.watchInt(entity, new ReflectionPath("health"));
+        watcher.watchInt(entity, new ReflectionPath("getCharge"));
+        assertThrows(IllegalStateException.class, health::doubleValue);
+
+        entity.health = 4;
+        entity.broken = true;
+        assertEquals(1, watcher.poll());
+        assertEquals(List.of(health), changes);
+        assertEquals(4, health.intValue());
+
+        entity.broken = false;
+        assertEquals(1, watcher.poll());
+        assertEquals(4, health.intValue());
+    }
+
+    @Test
+    void testReportsFailuresPerWatch() {
+        List<PathWatcher.Watch> failed = new ArrayList<>();
+        PathWatcher watcher = new PathWatcher(new PathWatcher.Listener() {
+            @Override
+            public void changed(PathWatcher.Watch watch) {
+                changes.add(watch);
+            }
+
+            @Override
+            public void failed(PathWatcher.Watch watch, ReflectionException exception) {
+                failed.add(watch);
+                assertInstanceOf(IllegalStateException.class, exception.getCause());
+            }
+        });
+        Entity entity = new Entity();
+        PathWatcher.Watch charge = watcher.watchInt(entity, new ReflectionPath("getCharge"));
+        PathWatcher.Watch health = watcher.watchInt(entity, new ReflectionPath("health"));
+
+        entity.health = 8;
+        entity.broken = true;
+        assertEquals(1, watcher.poll());
+        assertEquals(List.of(health), changes);
+        assertEquals(List.of(charge), failed);
+        assertEquals(10, charge.intValue());
+    }
+
+    @Test
+    void testListenerMayUseWatcherFromOtherThreads() throws Exception {
+        Entity entity = new Entity();
+        PathWatcher[] watcher = new PathWatcher[1];
+        watcher[0] = new PathWatcher(watch -> {
+            Thread thread = new Thread(() -> watcher[0].watchLong(entity, new ReflectionPath("ticksLived")));
+            thread.start();
+            try {
+                thread.join(5000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            changes.add(watch);
+        });
+        watcher[0].watchInt(entity, new ReflectionPath("health"));
+
+        entity.health = 1;
+        assertEquals(1, watcher[0].poll());
+        assertEquals(2, watcher[0].size());
+    }
+}
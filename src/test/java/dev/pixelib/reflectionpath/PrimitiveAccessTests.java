@@ -0,0 +1,160 @@
+package dev.pixelib.reflectionpath;
+
+import dev.pixelib.reflectionpath.errors.ReflectionException;
+import dev.pixelib.reflectionpath.models.Stats;
+import dev.pixelib.reflectionpath.models.TestPlayer;
+import dev.pixelib.reflectionpath.resolution.AccessBackend;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrimitiveAccessTests {
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 100_000;
+
+    private static ReflectionPath path(String path, AccessBackend backend) {
+        ReflectionPath script = new ReflectionPath(path);
+        script.setBackend(backend);
+        return script;
+    }
+
+    @ParameterizedTest
+    @EnumSource(AccessBackend.class)
+    void testPrimitiveFields(AccessBackend backend) {
+        Stats stats = new Stats();
+
+        assertEquals(1337, path("health", backend).getInt(stats));
+        assertEquals(0.75, path("speed", backend).getDouble(stats));
+        assertEquals(9_000_000_000L, path("experience", backend).getLong(stats));
+        assertFalse(path("flying", backend).getBoolean(stats));
+    }
+
+    @ParameterizedTest
+    @EnumSource(AccessBackend.class)
+    void testPrimitiveMethods(AccessBackend backend) {
+        Stats stats = new Stats();
+
+        assertFalse(path("isFlying", backend).getBoolean(stats));
+        assertFalse(path("stats.isFlying", backend).getBoolean(new Holder()));
+    }
+
+    @ParameterizedTest
+    @EnumSource(AccessBackend.class)
+    void testWidening(AccessBackend backend) {
+        Stats stats = new Stats();
+
+        assertEquals(1337L, path("health", backend).getLong(stats));
+        assertEquals(1337.0, path("health", backend).getDouble(stats));
+        assertEquals(1337L, path("stats.health", backend).getLong(new Holder()));
+    }
+
+    @ParameterizedTest
+    @EnumSource(AccessBackend.class)
+    void testBoxedMethodResults(AccessBackend backend) {
+        Counters counters = new Counters();
+        Holder holder = new Holder();
+
+        assertEquals(42, path("count", backend).getInt(counters));
+        assertEquals(42L, path("count", backend).getLong(counters));
+        assertEquals(3, path("small", backend).getInt(counters));
+        assertEquals(7, path("level", backend).getInt(counters));
+        assertEquals(7.0, path("level", backend).getDouble(counters));
+        assertTrue(path("enabled", backend).getBoolean(counters));
+        assertEquals(42, path("counters.count", backend).getInt(holder));
+        assertEquals(7L, path("counters.level", backend).getLong(holder));
+
+        assertThrows(ReflectionException.class, () -> path("name", backend).getInt(counters));
+        assertThrows(ReflectionException.class, () -> path("big", backend).getInt(counters));
+        assertThrows(ReflectionException.class, () -> path("nothing", backend).getLong(counters));
+        assertThrows(ReflectionException.class, () -> path("reset", backend).getInt(counters));
+        assertThrows(ReflectionException.class, () -> path("counters.reset", backend).getDouble(holder));
+    }
+
+    @ParameterizedTest
+    @EnumSource(AccessBackend.class)
+    void testIncompatibleType(AccessBackend backend) {
+        TestPlayer player = new TestPlayer("Test");
+
+        assertThrows(ReflectionException.class, () -> path("name", backend).getInt(player));
+        assertThrows(ReflectionException.class, () -> path("experience", backend).getInt(new Stats()));
+    }
+
+    @ParameterizedTest
+    @EnumSource(AccessBackend.class)
+    void testReadsDoNotAllocate(AccessBackend backend) {
+        Holder holder = new Holder();
+        ReflectionPath health = path("stats.health", backend);
+        ReflectionPath speed = path("stats.speed", backend);
+        ReflectionPath experience = path("stats.experience", backend);
+        ReflectionPath flying = path("stats.isFlying", backend);
+
+        long checksum = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            checksum += read(holder, health, speed, experience, flying);
+        }
+
+        long before = allocatedBytes();
+        for (int i = 0; i < ITERATIONS; i++) {
+            checksum += read(holder, health, speed, experience, flying);
+        }
+        long allocated = allocatedBytes() - before;
+
+        assertNotEquals(0, checksum);
+        // Boxing every read would allocate several megabytes, leave some room for the measurement itself
+        assertTrue(allocated < 64 * 1024, "Allocated " + allocated + " bytes");
+    }
+
+    private static long read(Holder holder, ReflectionPath health, ReflectionPath speed,
+                             ReflectionPath experience, ReflectionPath flying) {
+        return health.getInt(holder)
+                + (long) speed.getDouble(holder)
+                + experience.getLong(holder)
+                + (flying.getBoolean(holder) ? 1 : 0);
+    }
+
+    private static long allocatedBytes() {
+        var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    static class Holder {
+        private final Stats stats = new Stats();
+        private final Counters counters = new Counters();
+    }
+
+    static class Counters {
+        public Object count() {
+            return 42;
+        }
+
+        public Object small() {
+            return (short) 3;
+        }
+
+        public Object big() {
+            return 5L;
+        }
+
+        public Short level() {
+            return 7;
+        }
+
+        public Boolean enabled() {
+            return true;
+        }
+
+        public Object name() {
+            return "Test";
+        }
+
+        public Object nothing() {
+            return null;
+        }
+
+        public void reset() {
+        }
+    }
+}
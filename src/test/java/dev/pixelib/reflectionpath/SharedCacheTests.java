@@ -0,0 +1,116 @@
+package dev.pixelib.reflectionpath;
+
+import dev.pixelib.reflectionpath.models.Connection;
+import dev.pixelib.reflectionpath.models.ConnectionType;
+import dev.pixelib.reflectionpath.models.MultiFieldTest;
+import dev.pixelib.reflectionpath.models.Stats;
+import dev.pixelib.reflectionpath.models.TestPlayer;
+import dev.pixelib.reflectionpath.resolution.AccessBackend;
+import dev.pixelib.reflectionpath.resolution.PathResolutionStrategy;
+import dev.pixelib.reflectionpath.resolution.ResolutionCache;
+import dev.pixelib.reflectionpath.resolution.ResolvedPath;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SharedCacheTests {
+    @AfterEach
+    void disableSharedCache() {
+        ReflectionPath.setSharedCache(null);
+    }
+
+    @Test
+    void testInstancesShareResolutions() {
+        ResolutionCache cache = new ResolutionCache(16);
+        ReflectionPath.setSharedCache(cache);
+        TestPlayer player = new TestPlayer("Test");
+        player.setConnection(new Connection(ConnectionType.LOCAL));
+
+        for (int i = 0; i < 3; i++) {
+            ReflectionPath script = new ReflectionPath("[Connection].[ConnectionType]");
+            assertEquals(ConnectionType.LOCAL, script.getAs(player, ConnectionType.class));
+        }
+
+        ResolutionCache.Stats stats = cache.stats();
+        assertEquals(1, stats.misses());
+        assertEquals(2, stats.hits());
+        assertEquals(1, stats.size());
+        assertEquals(2.0 / 3, stats.hitRate(), 1e-9);
+    }
+
+    @Test
+    void testKeyIncludesStrategyAndToStringHandling() {
+        ResolutionCache cache = new ResolutionCache(16);
+        ReflectionPath.setSharedCache(cache);
+        MultiFieldTest test = new MultiFieldTest();
+
+        assertEquals("first", new ReflectionPath("[String]", PathResolutionStrategy.FIRST_MATCH)
+                .getAs(test, String.class));
+        assertEquals("last", new ReflectionPath("[String]", PathResolutionStrategy.LAST_MATCH)
+                .getAs(test, String.class));
+
+        ReflectionPath withToString = new ReflectionPath("[String]", PathResolutionStrategy.LAST_MATCH);
+        withToString.setIgnoreToString(false);
+        assertNotNull(withToString.getAs(test, String.class));
+
+        assertEquals(3, cache.stats().misses());
+        assertEquals(0, cache.stats().hits());
+    }
+
+    @Test
+    void testEvictsLeastRecentlyUsed() {
+        ResolutionCache cache = new ResolutionCache(2);
+        ReflectionPath.setSharedCache(cache);
+        Stats stats = new Stats();
+
+        new ReflectionPath("health").getInt(stats);
+        new ReflectionPath("speed").getDouble(stats);
+        new ReflectionPath("health").getInt(stats);
+        new ReflectionPath("experience").getLong(stats);
+        new ReflectionPath("health").getInt(stats);
+        new ReflectionPath("speed").getDouble(stats);
+
+        ResolutionCache.Stats snapshot = cache.stats();
+        assertEquals(2, snapshot.size());
+        assertEquals(2, snapshot.evictions());
+        assertEquals(2, snapshot.hits());
+        assertEquals(4, snapshot.misses());
+    }
+
+    @Test
+    void testClearDuringResolutionCachesInCurrentEntries() {
+        ResolutionCache cache = new ResolutionCache(1);
+        ResolutionCache.Key key = new ResolutionCache.Key("health", PathResolutionStrategy.FIRST_MATCH, true,
+                AccessBackend.REFLECTION, false);
+        ResolvedPath health = new ReflectionPath("health").resolveCached(Stats.class);
+
+        cache.get(key, Stats.class, type -> {
+            cache.clear();
+            return health;
+        });
+
+        assertSame(health, cache.get(key, Stats.class, type -> fail("Entry was cached in cleared entries")));
+        assertEquals(new ResolutionCache.Stats(1, 1, 0, 1), cache.stats());
+    }
+
+    @Test
+    void testSizeFromSystemProperty() {
+        try {
+            System.setProperty(ResolutionCache.SIZE_PROPERTY, "128");
+            assertEquals(128, ResolutionCache.fromSystemProperty().orElseThrow().maximumSize());
+            System.setProperty(ResolutionCache.SIZE_PROPERTY, "0");
+            assertTrue(ResolutionCache.fromSystemProperty().isEmpty());
+            System.setProperty(ResolutionCache.SIZE_PROPERTY, "lots");
+            assertTrue(ResolutionCache.fromSystemProperty().isEmpty());
+        } finally {
+            System.clearProperty(ResolutionCache.SIZE_PROPERTY);
+        }
+    }
+
+    @Test
+    void testDisabledByDefault() {
+        assertNull(ReflectionPath.getSharedCache());
+        assertThrows(IllegalArgumentException.class, () -> new ResolutionCache(0));
+    }
+}
@@ -0,0 +1,154 @@
+package dev.pixelib.reflectionpath;
+
+import dev.pixelib.reflectionpath.errors.PathSyntaxException;
+import dev.pixelib.reflectionpath.errors.ReflectionException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WildcardTests {
+    static class Member {
+        private final String name;
+
+        Member(String name) {
+            this.name = name;
+        }
+
+        String getName() {
+            return name;
+        }
+    }
+
+    static class Moderator extends Member {
+        private final String name;
+
+        Moderator(String name) {
+            super(name);
+            this.name = "@" + name;
+        }
+    }
+
+    static class Team {
+        private final Member[] members;
+        private final List<Member> bench;
+        private final Map<String, Member> byRole;
+        private final int[] scores;
+        private final List<Team> subTeams;
+        private final String[] tags = {"red", "blue"};
+        private List<Member> missing;
+
+        Team(Member[] members, List<Member> bench, Map<String, Member> byRole, int[] scores, List<Team> subTeams) {
+            this.members = members;
+            this.bench = bench;
+            this.byRole = byRole;
+            this.scores = scores;
+            this.subTeams = subTeams;
+        }
+    }
+
+    private static Team team(String... names) {
+        Member[] members = Arrays.stream(names).map(Member::new).toArray(Member[]::new);
+        Map<String, Member> byRole = new LinkedHashMap<>();
+        byRole.put("captain", new Member("Alex"));
+        byRole.put("coach", new Moderator("Sam"));
+        return new Team(members, Arrays.asList(new Member("Kim"), null), byRole, new int[]{3, 5, 8}, List.of());
+    }
+
+    @Test
+    void testArrayElements() {
+        ReflectionPath path = new ReflectionPath("members.*.name");
+        assertEquals(List.of("Steve", "Notch"), path.stream(team("Steve", "Notch")).collect(Collectors.toList()));
+    }
+
+    @Test
+    void testPrimitiveArrayElements() {
+        ReflectionPath path = new ReflectionPath("scores.*");
+        assertEquals(16, path.stream(team(), Integer.class).mapToInt(Integer::intValue).sum());
+    }
+
+    @Test
+    void testMapValues() {
+        ReflectionPath path = new ReflectionPath("byRole.*.name");
+        assertEquals(List.of("Alex", "@Sam"), path.stream(team(), String.class).collect(Collectors.toList()));
+    }
+
+    @Test
+    void testNestedWildcards() {
+        Team root = new Team(new Member[0], List.of(), Map.of(), new int[0],
+                List.of(team("Steve"), team("Notch", "Dinnerbone")));
+        ReflectionPath path = new ReflectionPath("subTeams.*.members.*.getName");
+        assertEquals(List.of("Steve", "Notch", "Dinnerbone"), path.stream(root).collect(Collectors.toList()));
+    }
+
+    @Test
+    void testTypeBasedWildcard() {
+        ReflectionPath path = new ReflectionPath("[String[]].*");
+        assertEquals(List.of("red", "blue"), path.stream(team(), String.class).collect(Collectors.toList()));
+    }
+
+    @Test
+    void testPathWithoutWildcard() {
+        ReflectionPath path = new ReflectionPath("tags");
+        List<Object> values = path.stream(team()).collect(Collectors.toList());
+        assertEquals(1, values.size());
+        assertArrayEquals(new String[]{"red", "blue"}, (String[]) values.get(0));
+    }
+
+    @Test
+    void testNullSafeWildcards() {
+        assertEquals(0, new ReflectionPath("missing?.*.name").stream(team()).count());
+        assertThrows(ReflectionException.class, () -> new ReflectionPath("missing.*").stream(team()).count());
+
+        assertEquals(Arrays.asList("Kim", null),
+                new ReflectionPath("bench.*?.name").stream(team()).collect(Collectors.toList()));
+        assertThrows(ReflectionException.class, () -> new ReflectionPath("bench.*.name").stream(team()).count());
+        assertEquals(Arrays.asList("Kim", null),
+                new ReflectionPath("bench.*").stream(team(), Member.class)
+                        .map(member -> member == null ? null : member.getName())
+                        .collect(Collectors.toList()));
+    }
+
+    @Test
+    void testLazyEvaluation() {
+        Iterable<Member> endless = () -> new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public Member next() {
+                return new Member("member" + next++);
+            }
+        };
+        record Holder(Iterable<Member> members) {
+        }
+
+        ReflectionPath path = new ReflectionPath("members.*.name");
+        assertEquals(List.of("member0", "member1", "member2"),
+                path.stream(new Holder(endless)).limit(3).collect(Collectors.toList()));
+    }
+
+    @Test
+    void testErrors() {
+        ReflectionPath path = new ReflectionPath("members.*.name");
+        ReflectionException exception = assertThrows(ReflectionException.class,
+                () -> path.getAs(team("Steve"), String.class));
+        assertTrue(exception.getCause().getMessage().contains("wildcard"), exception.getCause().getMessage());
+
+        assertThrows(ReflectionException.class, () -> new ReflectionPath("tags.*.missing").stream(team()).count());
+        assertThrows(ReflectionException.class, () -> new ReflectionPath("members.*.name.*").stream(team("Steve")).count());
+        assertThrows(ReflectionException.class, () -> new ReflectionPath("members.*").stream(team("Steve"), String.class).count());
+        assertThrows(IllegalArgumentException.class, () -> path.stream(null));
+        assertThrows(PathSyntaxException.class, () -> new ReflectionPath("members.*name"));
+    }
+}
@@ -0,0 +1,135 @@
+package dev.pixelib.reflectionpath;
+
+import dev.pixelib.reflectionpath.errors.ReflectionException;
+import dev.pixelib.reflectionpath.models.Connection;
+import dev.pixelib.reflectionpath.models.ConnectionType;
+import dev.pixelib.reflectionpath.models.Stats;
+import dev.pixelib.reflectionpath.models.TestPlayer;
+import dev.pixelib.reflectionpath.resolution.AccessBackend;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WriteTests {
+    private static ReflectionPath path(String path, AccessBackend backend) {
+        ReflectionPath script = new ReflectionPath(path);
+        script.setBackend(backend);
+        return script;
+    }
+
+    @ParameterizedTest
+    @EnumSource(AccessBackend.class)
+    void testSetField(AccessBackend backend) {
+        TestPlayer player = new TestPlayer("Test");
+        Connection connection = new Connection(ConnectionType.LOCAL);
+        path("connection", backend).set(player, connection);
+
+        assertSame(connection, path("connection", backend).getAs(player, Connection.class));
+    }
+
+    @ParameterizedTest
+    @EnumSource(AccessBackend.class)
+    void testSetThroughChain(AccessBackend backend) {
+        Holder holder = new Holder();
+        path("stats.health", backend).setInt(holder, 20);
+        path("stats.speed", backend).setDouble(holder, 1.5);
+        path("stats.experience", backend).setLong(holder, 42L);
+        path("[Stats].[boolean]", backend).setBoolean(holder, true);
+
+        assertEquals(20, holder.stats.health);
+        assertEquals(1.5, path("stats.speed", backend).getDouble(holder));
+        assertEquals(42L, path("stats.experience", backend).getLong(holder));
+        assertTrue(holder.stats.isFlying());
+    }
+
+    @ParameterizedTest
+    @EnumSource(AccessBackend.class)
+    void testSetStaticField(AccessBackend backend) {
+        Stats stats = new Stats();
+        String previous = Stats.server;
+        try {
+            path("server", backend).set(stats, "survival");
+            assertEquals("survival", Stats.server);
+        } finally {
+            Stats.server = previous;
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(AccessBackend.class)
+    void testWideningSet(AccessBackend backend) {
+        Holder holder = new Holder();
+        path("stats.speed", backend).setInt(holder, 3);
+
+        assertEquals(3.0, path("stats.speed", backend).getDouble(holder));
+    }
+
+    @ParameterizedTest
+    @EnumSource(AccessBackend.class)
+    void testFinalFieldIsRejected(AccessBackend backend) {
+        TestPlayer player = new TestPlayer("Test");
+
+        ReflectionException exception = assertThrows(ReflectionException.class,
+                () -> path("name", backend).set(player, "Other"));
+        assertTrue(exception.getCause().getMessage().contains("final"));
+        assertEquals("Test", player.getName());
+    }
+
+    @ParameterizedTest
+    @EnumSource(AccessBackend.class)
+    void testSetThroughMethodIsRejected(AccessBackend backend) {
+        TestPlayer player = new TestPlayer("Test");
+
+        assertThrows(ReflectionException.class, () -> path("getName", backend).set(player, "Other"));
+    }
+
+    @ParameterizedTest
+    @EnumSource(AccessBackend.class)
+    void testIncompatibleValueIsRejected(AccessBackend backend) {
+        Holder holder = new Holder();
+
+        assertThrows(ReflectionException.class, () -> path("stats.health", backend).set(holder, "twenty"));
+        assertThrows(ReflectionException.class, () -> path("stats.health", backend).setLong(holder, 20L));
+    }
+
+    @ParameterizedTest
+    @EnumSource(AccessBackend.class)
+    void testWritesDoNotAllocate(AccessBackend backend) {
+        Holder holder = new Holder();
+        ReflectionPath health = path("stats.health", backend);
+        ReflectionPath speed = path("stats.speed", backend);
+        ReflectionPath experience = path("stats.experience", backend);
+
+        for (int i = 0; i < 20_000; i++) {
+            write(holder, health, speed, experience, i);
+        }
+
+        long before = allocatedBytes();
+        for (int i = 0; i < 100_000; i++) {
+            write(holder, health, speed, experience, i);
+        }
+        long allocated = allocatedBytes() - before;
+
+        assertEquals(1_000 + 99_999, holder.stats.health);
+        assertTrue(allocated < 64 * 1024, "Allocated " + allocated + " bytes");
+    }
+
+    private static void write(Holder holder, ReflectionPath health, ReflectionPath speed,
+                              ReflectionPath experience, int i) {
+        health.setInt(holder, 1_000 + i);
+        speed.setDouble(holder, i * 0.5);
+        experience.setLong(holder, 1_000_000L + i);
+    }
+
+    private static long allocatedBytes() {
+        var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    static class Holder {
+        private final Stats stats = new Stats();
+    }
+}
@@ -0,0 +1,14 @@
+package dev.pixelib.reflectionpath.models;
+
+public class Stats {
+    public static String server = "lobby";
+
+    public int health = 1337;
+    double speed = 0.75;
+    protected long experience = 9_000_000_000L;
+    private boolean flying;
+
+    public boolean isFlying() {
+        return flying;
+    }
+}